@@ -68,6 +68,7 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -99,6 +100,7 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableCodec;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
@@ -133,6 +135,11 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
     
     protected int appDefinitionCacheLimit = -1;
     protected DeploymentCache<AppDefinitionCacheEntry> appDefinitionCache;
+    /**
+     * If true, a {@link ConcurrentDeploymentCache} is used as app definition cache, so that lookups of app definitions
+     * on different threads don't contend on one lock.
+     */
+    protected boolean enableConcurrentAppDefinitionCache;
 
     protected ExpressionManager expressionManager;
     protected Collection<Consumer<ExpressionManager>> expressionManagerConfigurers;
@@ -148,6 +155,23 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
     protected List<VariableType> customPostVariableTypes;
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The codec used by the 'serializable' variable type to write values, e.g. the {@link org.flowable.variable.service.impl.types.CompactBinaryVariableCodec}.
+     * When not set, values are written with Java serialization. Existing values are always read, whatever they were written with.
+     */
+    protected SerializableVariableCodec serializableVariableCodec;
+
+    /**
+     * The minimum size, in bytes, from which byte array values of variables are stored compressed. By default -1, which disables compression.
+     */
+    protected int variableByteArrayCompressionThreshold = -1;
+
+    /**
+     * The maximum number of variable values kept across commands, so variables that did not change are not fetched and parsed again in every command.
+     * A kept value is only used for a variable with the same revision. By default -1, which disables keeping values.
+     */
+    protected int variableValueSnapshotCacheLimit = -1;
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -160,6 +184,13 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * This flag determines whether JSON objects stored in variables of the type 'json' and 'longJson' are parsed lazily.
+     * When true, reading such a variable returns an object node that only parses the fields that are accessed, e.g. by an expression like ${order.customer.id}.
+     * The complete object is only parsed when it is iterated, changed or serialized.
+     */
+    protected boolean jsonVariableTypeLazyParsing;
+
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -359,7 +390,9 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected void initAppDefinitionCache() {
         if (appDefinitionCache == null) {
-            if (appDefinitionCacheLimit <= 0) {
+            if (enableConcurrentAppDefinitionCache) {
+                appDefinitionCache = new ConcurrentDeploymentCache<>(appDefinitionCacheLimit);
+            } else if (appDefinitionCacheLimit <= 0) {
                 appDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 appDefinitionCache = new DefaultDeploymentCache<>(appDefinitionCacheLimit);
@@ -432,12 +465,12 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeLazyParsing));
             // longJsonType only needed for reading purposes
-            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeLazyParsing));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableCodec));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
                     variableTypes.addType(customVariableType);
@@ -456,6 +489,8 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setVariableByteArrayCompressionThreshold(this.getVariableByteArrayCompressionThreshold());
+        this.variableServiceConfiguration.setVariableValueSnapshotCacheLimit(this.getVariableValueSnapshotCacheLimit());
     }
 
     public void initVariableServiceConfiguration() {
@@ -660,6 +695,15 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableConcurrentAppDefinitionCache() {
+        return enableConcurrentAppDefinitionCache;
+    }
+
+    public AppEngineConfiguration setEnableConcurrentAppDefinitionCache(boolean enableConcurrentAppDefinitionCache) {
+        this.enableConcurrentAppDefinitionCache = enableConcurrentAppDefinitionCache;
+        return this;
+    }
+
     public DeploymentCache<AppDefinitionCacheEntry> getAppDefinitionCache() {
         return appDefinitionCache;
     }
@@ -781,6 +825,33 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public SerializableVariableCodec getSerializableVariableCodec() {
+        return serializableVariableCodec;
+    }
+
+    public AppEngineConfiguration setSerializableVariableCodec(SerializableVariableCodec serializableVariableCodec) {
+        this.serializableVariableCodec = serializableVariableCodec;
+        return this;
+    }
+
+    public int getVariableByteArrayCompressionThreshold() {
+        return variableByteArrayCompressionThreshold;
+    }
+
+    public AppEngineConfiguration setVariableByteArrayCompressionThreshold(int variableByteArrayCompressionThreshold) {
+        this.variableByteArrayCompressionThreshold = variableByteArrayCompressionThreshold;
+        return this;
+    }
+
+    public int getVariableValueSnapshotCacheLimit() {
+        return variableValueSnapshotCacheLimit;
+    }
+
+    public AppEngineConfiguration setVariableValueSnapshotCacheLimit(int variableValueSnapshotCacheLimit) {
+        this.variableValueSnapshotCacheLimit = variableValueSnapshotCacheLimit;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -790,6 +861,15 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isJsonVariableTypeLazyParsing() {
+        return jsonVariableTypeLazyParsing;
+    }
+
+    public AppEngineConfiguration setJsonVariableTypeLazyParsing(boolean jsonVariableTypeLazyParsing) {
+        this.jsonVariableTypeLazyParsing = jsonVariableTypeLazyParsing;
+        return this;
+    }
+
     public boolean isDisableIdmEngine() {
         return disableIdmEngine;
     }
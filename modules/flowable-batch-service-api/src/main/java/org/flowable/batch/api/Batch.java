@@ -24,6 +24,8 @@ public interface Batch {
 
     String HISTORIC_CASE_DELETE_TYPE = "historicCaseDelete";
 
+    String DEAD_LETTER_JOB_MOVE_TYPE = "deadLetterJobMove";
+
     String getId();
 
     String getBatchType();
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AcquireJobsRunnableConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time it takes {@link AcquireAsyncJobsDueRunnable} acquire cycles to drain a backlog of async jobs.
+ * <p>
+ * The jobs are created while the async executor is inactive, so that they are not handed over to the executor directly.
+ * The executor is then started without its own acquisition thread and the acquire cycles are driven by the benchmark thread.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncJobAcquisitionBenchmark {
+
+    @Param({ "100", "1000" })
+    public int nrOfJobs;
+
+    @Param({ "1", "16" })
+    public int maxAsyncJobsDuePerAcquisition;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected ManagementService managementService;
+    protected AbstractAsyncExecutor asyncExecutor;
+    protected CommandExecutor commandExecutor;
+    protected BenchmarkAcquireAsyncJobsDueRunnable acquireRunnable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProcessEngineConfigurationImpl configuration = BenchmarkEngines.createProcessEngineConfiguration("none");
+        configuration.setAsyncExecutorMaxAsyncJobsDuePerAcquisition(maxAsyncJobsDuePerAcquisition);
+        processEngine = configuration.buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/asyncServiceTaskProcess.bpmn20.xml")
+                .deploy();
+
+        runtimeService = processEngine.getRuntimeService();
+        managementService = processEngine.getManagementService();
+        commandExecutor = configuration.getCommandExecutor();
+
+        asyncExecutor = (AbstractAsyncExecutor) configuration.getAsyncExecutor();
+        AsyncJobExecutorConfiguration asyncExecutorConfiguration = asyncExecutor.getConfiguration();
+        asyncExecutorConfiguration.setAsyncJobAcquisitionEnabled(false);
+        asyncExecutorConfiguration.setTimerJobAcquisitionEnabled(false);
+        asyncExecutorConfiguration.setResetExpiredJobEnabled(false);
+
+        acquireRunnable = new BenchmarkAcquireAsyncJobsDueRunnable(asyncExecutor, configuration);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void createJobs() {
+        for (int i = 0; i < nrOfJobs; i++) {
+            runtimeService.startProcessInstanceByKey("asyncServiceTaskProcess");
+        }
+        asyncExecutor.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopAsyncExecutor() {
+        asyncExecutor.shutdown();
+    }
+
+    @Benchmark
+    public long drainJobs() {
+        long remainingJobs = managementService.createJobQuery().count();
+        while (remainingJobs > 0) {
+            acquireRunnable.executeAcquireCycle(commandExecutor);
+            remainingJobs = managementService.createJobQuery().count();
+        }
+        return remainingJobs;
+    }
+
+    public static class BenchmarkAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        public BenchmarkAcquireAsyncJobsDueRunnable(AbstractAsyncExecutor asyncExecutor, ProcessEngineConfigurationImpl configuration) {
+            super("benchmark-acquire-async-jobs", asyncExecutor, configuration.getJobServiceConfiguration().getJobEntityManager(),
+                    null, AcquireJobsRunnableConfiguration.DEFAULT);
+        }
+
+        @Override
+        protected long executeAcquireCycle(CommandExecutor commandExecutor) {
+            return super.executeAcquireCycle(commandExecutor);
+        }
+    }
+
+}
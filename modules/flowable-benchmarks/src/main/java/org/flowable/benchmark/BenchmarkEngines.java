@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.UUID;
+
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+/**
+ * Builds the engines used by the benchmarks. Every engine gets its own in-memory H2 database,
+ * so that forked trials never see each other's data.
+ */
+public final class BenchmarkEngines {
+
+    private BenchmarkEngines() {
+    }
+
+    public static ProcessEngineConfigurationImpl createProcessEngineConfiguration(String history) {
+        ProcessEngineConfigurationImpl configuration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+                .createStandaloneInMemProcessEngineConfiguration();
+        configuration.setEngineName("benchmark-" + UUID.randomUUID());
+        configuration.setJdbcUrl(createJdbcUrl());
+        configuration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        configuration.setHistory(history);
+        configuration.setAsyncExecutorActivate(false);
+        return configuration;
+    }
+
+    public static ProcessEngine buildProcessEngine(String history) {
+        return createProcessEngineConfiguration(history).buildProcessEngine();
+    }
+
+    public static DmnEngine buildDmnEngine() {
+        DmnEngineConfiguration configuration = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration();
+        configuration.setEngineName("benchmark-dmn-" + UUID.randomUUID());
+        configuration.setJdbcUrl(createJdbcUrl());
+        configuration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        return configuration.buildDmnEngine();
+    }
+
+    protected static String createJdbcUrl() {
+        return "jdbc:h2:mem:flowable-benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000";
+    }
+
+}
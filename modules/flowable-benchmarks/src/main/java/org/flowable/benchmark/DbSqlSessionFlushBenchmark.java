@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DbSqlSession#flush()} for a command that loads and updates a configurable number of
+ * variable instances of a single process instance, i.e. the determine-updated-objects and update path of the flush.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DbSqlSessionFlushBenchmark {
+
+    @Param({ "10", "100" })
+    public int nrOfVariables;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected String processInstanceId;
+    protected int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processEngine = BenchmarkEngines.buildProcessEngine("none");
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        runtimeService = processEngine.getRuntimeService();
+        processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", createVariables()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public void flushVariableUpdates() {
+        runtimeService.setVariables(processInstanceId, createVariables());
+    }
+
+    @Benchmark
+    public Map<String, Object> flushReadOnly() {
+        return runtimeService.getVariables(processInstanceId);
+    }
+
+    protected Map<String, Object> createVariables() {
+        counter++;
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < nrOfVariables; i++) {
+            variables.put("var" + i, "value" + counter);
+        }
+        return variables;
+    }
+
+}
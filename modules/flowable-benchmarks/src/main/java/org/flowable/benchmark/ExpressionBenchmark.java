@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.JuelExpression;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DefaultExpressionManager#createExpression(String)} and {@link JuelExpression#getValue}
+ * with the expression manager of a fully configured process engine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+
+    @Param({
+            "${amount > 1000}",
+            "${order.customer.name == 'kermit' && amount >= 10}",
+            "${amount * 2 + order.customer.name.length()}"
+    })
+    public String expressionText;
+
+    protected ProcessEngine processEngine;
+    protected ExpressionManager expressionManager;
+    protected Expression expression;
+    protected VariableContainerWrapper variableContainer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProcessEngineConfigurationImpl configuration = BenchmarkEngines.createProcessEngineConfiguration("none");
+        processEngine = configuration.buildProcessEngine();
+        expressionManager = configuration.getExpressionManager();
+        expression = expressionManager.createExpression(expressionText);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "kermit");
+        Map<String, Object> order = new HashMap<>();
+        order.put("customer", customer);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 1500);
+        variables.put("order", order);
+        variableContainer = new VariableContainerWrapper(variables);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public Expression createExpression() {
+        return expressionManager.createExpression(expressionText);
+    }
+
+    @Benchmark
+    public Object getValue() {
+        return expression.getValue(variableContainer);
+    }
+
+}
@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RuntimeService#startProcessInstanceByKey(String)} and {@link TaskService#complete(String)}
+ * for a process with a single user task.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessInstanceBenchmark {
+
+    @Param({ "none", "audit" })
+    public String history;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processEngine = BenchmarkEngines.buildProcessEngine(history);
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public ProcessInstance startProcessInstanceByKey() {
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    }
+
+    @Benchmark
+    public void completeTask(TaskState taskState) {
+        taskService.complete(taskState.taskId);
+    }
+
+    @State(Scope.Thread)
+    public static class TaskState {
+
+        protected String taskId;
+
+        /*
+         * Invocation level setup is acceptable here, as a single task completion takes far longer
+         * than the timestamping overhead JMH adds around it.
+         */
+        @Setup(Level.Invocation)
+        public void createTask(ProcessInstanceBenchmark benchmark) {
+            ProcessInstance processInstance = benchmark.runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            Task task = benchmark.taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskId = task.getId();
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the decision table evaluation done by {@link RuleEngineExecutorImpl#execute}
+ * for a table where the matching rule is either the first or the last one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RuleEngineExecutorBenchmark {
+
+    @Param({ "10", "900" })
+    public int amount;
+
+    protected DmnEngine dmnEngine;
+    protected DmnDecisionService decisionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dmnEngine = BenchmarkEngines.buildDmnEngine();
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/riskRating.dmn")
+                .deploy();
+        decisionService = dmnEngine.getDmnDecisionService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> executeDecision() {
+        return decisionService.createExecuteDecisionBuilder()
+                .decisionKey("riskRating")
+                .variable("amount", amount)
+                .variable("category", "gold")
+                .executeDecisionWithSingleResult();
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.api.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Set;
 
@@ -224,6 +225,14 @@ public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance
      */
     CaseInstanceQuery includeCaseVariables();
 
+    /**
+     * Includes the case variables with the given names into the query result.
+     * The variables are loaded in a separate query for the case instances of the result page.
+     *
+     * @return caseInstanceQuery with the flag to retrieve the given case variables into the response.
+     */
+    CaseInstanceQuery includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Begin an OR statement. Make sure you invoke the endOr method at the end of your OR statement.
      */
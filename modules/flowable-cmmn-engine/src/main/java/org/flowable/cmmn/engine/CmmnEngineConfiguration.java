@@ -218,6 +218,7 @@ import org.flowable.common.engine.impl.agenda.AgendaFutureMaxWaitTimeoutProvider
 import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -231,6 +232,7 @@ import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsExpressionFunction;
@@ -250,6 +252,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -321,6 +324,7 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableCodec;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
@@ -408,6 +412,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected int caseDefinitionCacheLimit = -1;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
+    /**
+     * If true, a {@link ConcurrentDeploymentCache} is used as case definition cache, so that lookups of case definitions
+     * on different threads don't contend on one lock.
+     */
+    protected boolean enableConcurrentCaseDefinitionCache;
 
     protected CmmnParser cmmnParser;
     protected List<CmmnParseHandler> preCmmnParseHandlers;
@@ -433,6 +442,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * Whether parsed expressions are compiled into closure trees instead of being interpreted on every evaluation.
+     * Constructs that can't be compiled are still interpreted.
+     */
+    protected boolean isExpressionCompilationEnabled;
+
     // Scripting support
     protected ScriptingEngines scriptingEngines;
     protected ScriptBindingsFactory scriptBindingsFactory;
@@ -485,6 +500,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected IdentityLinkEventHandler identityLinkEventHandler;
     protected boolean isEnableTaskRelationshipCounts = true;
 
+    /**
+     * When true, the variables included in case instance and task query results are not fetched by outer joining them to the query,
+     * but in a separate query for the ids of the returned page. Queries that restrict the included variables by name always load them in this way.
+     */
+    protected boolean enableTwoPhaseVariableLoading;
+
     // Batch support
     protected BatchServiceConfiguration batchServiceConfiguration;
 
@@ -495,6 +516,25 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The codec used by the 'serializable' variable type to write values, e.g. the {@link org.flowable.variable.service.impl.types.CompactBinaryVariableCodec}.
+     * When not set, values are written with Java serialization. Existing values are always read, whatever they were written with.
+     */
+    protected SerializableVariableCodec serializableVariableCodec;
+
+    /**
+     * The minimum size, in bytes, from which byte array values of variables are stored compressed. By default -1, which disables compression.
+     */
+    protected int variableByteArrayCompressionThreshold = -1;
+
+    /**
+     * The maximum number of variable values kept across commands, so variables that did not change are not fetched and parsed again in every command.
+     * A kept value is only used for a variable with the same revision. By default -1, which disables keeping values.
+     * Only engines with kept values bump the revision of a variable when its byte array value changes,
+     * so every engine sharing the database has to enable this, otherwise stale values can be served.
+     */
+    protected int variableValueSnapshotCacheLimit = -1;
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -507,6 +547,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * This flag determines whether JSON objects stored in variables of the type 'json' and 'longJson' are parsed lazily.
+     * When true, reading such a variable returns an object node that only parses the fields that are accessed, e.g. by an expression like ${order.customer.id}.
+     * The complete object is only parsed when it is iterated, changed or serialized.
+     */
+    protected boolean jsonVariableTypeLazyParsing;
+
     protected List<CaseInstanceMigrationCallback> caseInstanceMigrationCallbacks;
 
     // Set Http Client config defaults
@@ -541,8 +588,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected List<String> enabledJobCategories;
+
+    /**
+     * The priority of the jobs per job handler type, for the jobs that don't get a priority from the model (flowable:jobPriority).
+     * Can e.g. be used to give background jobs such as the history cleanup a lower priority than the jobs continuing instances.
+     */
+    protected Map<String, Integer> jobHandlerPriorities;
+
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
+
+    /**
+     * Acquire async, timer and external worker jobs with {@code SELECT ... FOR UPDATE SKIP LOCKED} (or {@code READPAST} on SQL Server)
+     * when the database supports it (PostgreSQL, MySQL 8, MariaDB 10.6, Oracle and SQL Server), so that multiple nodes acquiring jobs concurrently
+     * never select the same jobs. On other databases the regular acquisition is used.
+     */
+    protected boolean skipLockedJobAcquisitionEnabled;
     
     /**
      * Boolean flag to be set to activate the {@link AsyncExecutor} automatically after the engine has booted up.
@@ -788,6 +849,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initAsyncTaskInvoker();
         initAsyncExecutor();
         initAsyncHistoryExecutor();
+        initEngineMetrics();
         initScriptBindingsFactory();
         initScriptingEngines();
         configuratorsAfterInit();
@@ -954,6 +1016,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (isExpressionCompilationEnabled) {
+                cmmnExpressionManager.setExpressionCompiler(new JuelExpressionCompiler());
+            }
+
             if (expressionManagerConfigurers != null) {
                 expressionManagerConfigurers.forEach(configurer -> configurer.accept(cmmnExpressionManager));
             }
@@ -1171,7 +1237,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
+            if (enableConcurrentCaseDefinitionCache) {
+                caseDefinitionCache = new ConcurrentDeploymentCache<>(caseDefinitionCacheLimit);
+            } else if (caseDefinitionCacheLimit <= 0) {
                 caseDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
@@ -1462,13 +1530,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeLazyParsing));
             // longJsonType only needed for reading purposes
-            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeLazyParsing));
             variableTypes.addType(new CmmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableCodec));
 
         } else {
             if (customPreVariableTypes != null) {
@@ -1515,6 +1583,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setVariableByteArrayCompressionThreshold(this.getVariableByteArrayCompressionThreshold());
+        this.variableServiceConfiguration.setVariableValueSnapshotCacheLimit(this.getVariableValueSnapshotCacheLimit());
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
     }
 
@@ -1565,6 +1635,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
+        this.taskServiceConfiguration.setEnableTwoPhaseVariableLoading(this.enableTwoPhaseVariableLoading);
 
         this.taskServiceConfiguration.init();
 
@@ -1701,6 +1772,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
             this.jobServiceConfiguration.setExpressionManager(this.expressionManager);
+            this.jobServiceConfiguration.setEngineMetrics(this.engineMetrics);
     
             List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
             if (customAsyncRunnableExecutionExceptionHandlers != null) {
@@ -1732,12 +1804,17 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             }
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.skipLockedJobAcquisitionEnabled);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
             
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
 
+            if (jobHandlerPriorities != null) {
+                this.jobServiceConfiguration.getJobHandlerPriorities().putAll(jobHandlerPriorities);
+            }
+
             this.jobServiceConfiguration.setConfigurators(jobServiceConfigurators);
         }
     }
@@ -1783,6 +1860,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && getOrCreateAsyncExecutorTaskExecutorConfiguration().isVirtualThreads()) {
+            VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
+            virtualThreadAsyncTaskExecutor.setThreadFactory(asyncExecutorThreadFactory);
+
+            virtualThreadAsyncTaskExecutor.start();
+            this.shutdownAsyncTaskExecutor = true;
+
+            this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
 
@@ -1839,6 +1926,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
     
     protected void initAsyncHistoryTaskExecutor() {
+        if (this.asyncHistoryTaskExecutor == null && getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().isVirtualThreads()) {
+            VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor(getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration());
+
+            virtualThreadAsyncTaskExecutor.start();
+            shutdownAsyncHistoryTaskExecutor = true;
+
+            this.asyncHistoryTaskExecutor = virtualThreadAsyncTaskExecutor;
+        }
+
         if (this.asyncHistoryTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor(getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration());
 
@@ -1893,6 +1989,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    @Override
+    public void initEngineMetrics() {
+        super.initEngineMetrics();
+        if (engineMetrics != null) {
+            registerDeploymentCacheGauges("caseDefinitionCache", caseDefinitionCache);
+            registerAsyncTaskExecutorGauges("asyncExecutor", () -> asyncExecutor != null ? asyncExecutor.getTaskExecutor() : null);
+            if (asyncHistoryExecutor != null) {
+                registerAsyncTaskExecutorGauges("asyncHistoryExecutor", asyncHistoryExecutor::getTaskExecutor);
+            }
+        }
+    }
+
     protected AsyncJobExecutorConfiguration getOrCreateAsyncHistoryExecutorConfiguration() {
         if (asyncHistoryExecutorConfiguration == null) {
             asyncHistoryExecutorConfiguration = new AsyncJobExecutorConfiguration();
@@ -2497,6 +2605,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableConcurrentCaseDefinitionCache() {
+        return enableConcurrentCaseDefinitionCache;
+    }
+
+    public CmmnEngineConfiguration setEnableConcurrentCaseDefinitionCache(boolean enableConcurrentCaseDefinitionCache) {
+        this.enableConcurrentCaseDefinitionCache = enableConcurrentCaseDefinitionCache;
+        return this;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
@@ -2686,6 +2803,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isExpressionCompilationEnabled() {
+        return isExpressionCompilationEnabled;
+    }
+
+    public CmmnEngineConfiguration setExpressionCompilationEnabled(boolean isExpressionCompilationEnabled) {
+        this.isExpressionCompilationEnabled = isExpressionCompilationEnabled;
+        return this;
+    }
+
     public int getExpressionTextLengthCacheLimit() {
         return expressionTextLengthCacheLimit;
     }
@@ -2940,6 +3066,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableTwoPhaseVariableLoading() {
+        return enableTwoPhaseVariableLoading;
+    }
+
+    public CmmnEngineConfiguration setEnableTwoPhaseVariableLoading(boolean enableTwoPhaseVariableLoading) {
+        this.enableTwoPhaseVariableLoading = enableTwoPhaseVariableLoading;
+        return this;
+    }
+
     public BatchServiceConfiguration getBatchServiceConfiguration() {
         return batchServiceConfiguration;
     }
@@ -2967,6 +3102,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public SerializableVariableCodec getSerializableVariableCodec() {
+        return serializableVariableCodec;
+    }
+
+    public CmmnEngineConfiguration setSerializableVariableCodec(SerializableVariableCodec serializableVariableCodec) {
+        this.serializableVariableCodec = serializableVariableCodec;
+        return this;
+    }
+
+    public int getVariableByteArrayCompressionThreshold() {
+        return variableByteArrayCompressionThreshold;
+    }
+
+    public CmmnEngineConfiguration setVariableByteArrayCompressionThreshold(int variableByteArrayCompressionThreshold) {
+        this.variableByteArrayCompressionThreshold = variableByteArrayCompressionThreshold;
+        return this;
+    }
+
+    public int getVariableValueSnapshotCacheLimit() {
+        return variableValueSnapshotCacheLimit;
+    }
+
+    public CmmnEngineConfiguration setVariableValueSnapshotCacheLimit(int variableValueSnapshotCacheLimit) {
+        this.variableValueSnapshotCacheLimit = variableValueSnapshotCacheLimit;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -2976,6 +3138,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isJsonVariableTypeLazyParsing() {
+        return jsonVariableTypeLazyParsing;
+    }
+
+    public CmmnEngineConfiguration setJsonVariableTypeLazyParsing(boolean jsonVariableTypeLazyParsing) {
+        this.jsonVariableTypeLazyParsing = jsonVariableTypeLazyParsing;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -3327,6 +3498,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreads() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().isVirtualThreads();
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreads(boolean asyncExecutorVirtualThreads) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setVirtualThreads(asyncExecutorVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrency() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().getMaxConcurrency();
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxConcurrency(int asyncExecutorMaxConcurrency) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setMaxConcurrency(asyncExecutorMaxConcurrency);
+        return this;
+    }
+
     public int getAsyncExecutorThreadPoolQueueSize() {
         return getOrCreateAsyncExecutorTaskExecutorConfiguration().getQueueSize();
     }
@@ -3711,6 +3900,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorVirtualThreads() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().isVirtualThreads();
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorVirtualThreads(boolean asyncHistoryExecutorVirtualThreads) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setVirtualThreads(asyncHistoryExecutorVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorMaxConcurrency() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().getMaxConcurrency();
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorMaxConcurrency(int asyncHistoryExecutorMaxConcurrency) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setMaxConcurrency(asyncHistoryExecutorMaxConcurrency);
+        return this;
+    }
+
     public int getAsyncHistoryExecutorThreadPoolQueueSize() {
         return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().getQueueSize();
     }
@@ -3996,6 +4203,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public Map<String, Integer> getJobHandlerPriorities() {
+        return jobHandlerPriorities;
+    }
+
+    public CmmnEngineConfiguration setJobHandlerPriorities(Map<String, Integer> jobHandlerPriorities) {
+        this.jobHandlerPriorities = jobHandlerPriorities;
+        return this;
+    }
+
+    public CmmnEngineConfiguration addJobHandlerPriority(String jobHandlerType, int priority) {
+        if (jobHandlerPriorities == null) {
+            jobHandlerPriorities = new HashMap<>();
+        }
+
+        jobHandlerPriorities.put(jobHandlerType, priority);
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
@@ -4004,6 +4229,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.jobExecutionScope = jobExecutionScope;
         return this;
     }
+
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
     
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
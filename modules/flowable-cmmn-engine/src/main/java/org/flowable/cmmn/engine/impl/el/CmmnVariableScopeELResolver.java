@@ -62,4 +62,12 @@ public class CmmnVariableScopeELResolver extends VariableContainerELResolver {
         return null;
     }
 
+    @Override
+    public boolean isVariableLookup(String name) {
+        return super.isVariableLookup(name) && !PLAN_ITEM_INSTANCE_KEY.equals(name)
+                && !PLAN_ITEM_INSTANCES_KEY.equals(name)
+                && !CASE_INSTANCE_KEY.equals(name)
+                && !TASK_KEY.equals(name);
+    }
+
 }
@@ -13,8 +13,11 @@
 package org.flowable.cmmn.engine.impl.runtime;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -30,6 +33,7 @@ import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -74,6 +78,7 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     protected String tenantIdLike;
     protected boolean withoutTenantId;
     protected boolean includeCaseVariables;
+    protected Collection<String> includeCaseVariableNames;
     protected String activePlanItemDefinitionId;
     protected Set<String> activePlanItemDefinitionIds;
     protected String involvedUser;
@@ -786,6 +791,16 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return this;
     }
 
+    @Override
+    public CaseInstanceQueryImpl includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.includeCaseVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public CaseInstanceQuery locale(String locale) {
         this.locale = locale;
@@ -810,7 +825,10 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     public List<CaseInstance> executeList(CommandContext commandContext) {
         ensureVariablesInitialized();
         List<CaseInstance> caseInstances = null;
-        if (this.isIncludeCaseVariables()) {
+        if (this.isIncludeCaseVariables() && isLoadVariablesSeparately()) {
+            caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findByCriteria(this);
+            addQueryVariables(caseInstances);
+        } else if (this.isIncludeCaseVariables()) {
             caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findWithVariablesByCriteria(this);
         } else {
             caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findByCriteria(this);
@@ -825,9 +843,32 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return caseInstances;
     }
 
+    /**
+     * Loads the case variables of the given page of case instances with a single query, instead of joining them into the case instance query.
+     */
+    protected void addQueryVariables(List<CaseInstance> caseInstances) {
+        if (caseInstances.isEmpty()) {
+            return;
+        }
+
+        Map<String, CaseInstanceEntity> caseInstancesById = new LinkedHashMap<>();
+        for (CaseInstance caseInstance : caseInstances) {
+            caseInstancesById.put(caseInstance.getId(), (CaseInstanceEntity) caseInstance);
+        }
+
+        List<VariableInstanceEntity> variables = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .findVariableInstancesByScopeIdsAndScopeType(caseInstancesById.keySet(), ScopeTypes.CMMN, includeCaseVariableNames);
+        for (VariableInstanceEntity variable : variables) {
+            CaseInstanceEntity caseInstance = caseInstancesById.get(variable.getScopeId());
+            if (caseInstance != null) {
+                caseInstance.getQueryVariables().add(variable);
+            }
+        }
+    }
+
     @Override
     public void enhanceCachedValue(CaseInstanceEntity caseInstance) {
-        if (isIncludeCaseVariables()) {
+        if (isIncludeCaseVariables() && !isLoadVariablesSeparately()) {
             caseInstance.getQueryVariables().addAll(cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
                     .findVariableInstanceByScopeIdAndScopeType(caseInstance.getId(), ScopeTypes.CMMN));
         }
@@ -986,6 +1027,14 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return includeCaseVariables;
     }
 
+    public Collection<String> getIncludeCaseVariableNames() {
+        return includeCaseVariableNames;
+    }
+
+    public boolean isLoadVariablesSeparately() {
+        return (cmmnEngineConfiguration != null && cmmnEngineConfiguration.isEnableTwoPhaseVariableLoading()) || includeCaseVariableNames != null;
+    }
+
     public boolean isNeedsCaseDefinitionOuterJoin() {
         if (isNeedsPaging()) {
             if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)
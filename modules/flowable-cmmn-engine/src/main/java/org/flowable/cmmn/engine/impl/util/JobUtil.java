@@ -21,6 +21,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.model.BaseElement;
 import org.flowable.cmmn.model.CaseElement;
 import org.flowable.cmmn.model.ExtensionElement;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.api.variable.VariableContainer;
@@ -74,6 +75,25 @@ public class JobUtil {
             }
         }
 
+        List<ExtensionElement> jobPriorityElements = baseElement.getExtensionElements().get("jobPriority");
+        if (jobPriorityElements != null && jobPriorityElements.size() > 0) {
+            ExtensionElement jobPriorityElement = jobPriorityElements.get(0);
+            if (StringUtils.isNotEmpty(jobPriorityElement.getElementText())) {
+                Expression priorityExpression = cmmnEngineConfiguration.getExpressionManager().createExpression(jobPriorityElement.getElementText());
+                Object priorityValue = priorityExpression.getValue(variableContainer);
+                if (priorityValue instanceof Number) {
+                    job.setPriority(((Number) priorityValue).intValue());
+                } else if (priorityValue instanceof String) {
+                    try {
+                        job.setPriority(Integer.parseInt((String) priorityValue));
+                    } catch (NumberFormatException e) {
+                        throw new FlowableIllegalArgumentException("Job priority does not resolve to a number: " + priorityValue, e);
+                    }
+                } else if (priorityValue != null) {
+                    throw new FlowableIllegalArgumentException("Job priority expression does not resolve to a number: " + jobPriorityElement.getElementText());
+                }
+            }
+        }
 
         job.setTenantId(variableContainer.getTenantId());
 
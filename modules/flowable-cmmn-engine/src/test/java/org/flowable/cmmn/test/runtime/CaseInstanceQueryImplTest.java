@@ -20,6 +20,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.GregorianCalendar;
@@ -1484,6 +1485,33 @@ public class CaseInstanceQueryImplTest extends FlowableCmmnTestCase {
     }
 
 
+    @Test
+    public void testQueryCaseInstanceWithIncludedVariableNames() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneHumanTaskCase")
+                .variable("stringVar", "test")
+                .variable("intVar", 42)
+                .variable("otherVar", "other")
+                .start();
+
+        caseInstance = cmmnRuntimeService.createCaseInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .includeCaseVariables(Arrays.asList("stringVar", "intVar"))
+                .singleResult();
+        assertThat(caseInstance.getCaseVariables()).containsOnly(
+                entry("stringVar", "test"),
+                entry("intVar", 42)
+        );
+
+        Task task = cmmnTaskService.createTaskQuery()
+                .caseInstanceId(caseInstance.getId())
+                .includeCaseVariables(Collections.singletonList("otherVar"))
+                .singleResult();
+        assertThat(task.getCaseVariables()).containsOnly(
+                entry("otherVar", "other")
+        );
+    }
+
     @Test
     public void testQueryVariableValueEqualsAndNotEquals() {
         CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder()
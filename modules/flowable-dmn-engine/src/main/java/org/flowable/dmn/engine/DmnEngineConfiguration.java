@@ -38,6 +38,7 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -186,6 +187,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionCacheEntry> definitionCache;
+    /**
+     * If true, a {@link ConcurrentDeploymentCache} is used as decision cache, so that lookups of decisions
+     * on different threads don't contend on one lock.
+     */
+    protected boolean enableConcurrentDecisionCache;
 
     // HIT POLICIES
     protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
@@ -502,7 +508,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (definitionCache == null) {
-            if (decisionCacheLimit <= 0) {
+            if (enableConcurrentDecisionCache) {
+                definitionCache = new ConcurrentDeploymentCache<>(decisionCacheLimit);
+            } else if (decisionCacheLimit <= 0) {
                 definitionCache = new DefaultDeploymentCache<>();
             } else {
                 definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
@@ -946,6 +954,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isEnableConcurrentDecisionCache() {
+        return enableConcurrentDecisionCache;
+    }
+
+    public DmnEngineConfiguration setEnableConcurrentDecisionCache(boolean enableConcurrentDecisionCache) {
+        this.enableConcurrentDecisionCache = enableConcurrentDecisionCache;
+        return this;
+    }
+
     public DeploymentCache<DecisionCacheEntry> getDefinitionCache() {
         return definitionCache;
     }
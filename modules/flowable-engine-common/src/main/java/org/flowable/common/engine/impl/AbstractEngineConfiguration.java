@@ -31,6 +31,8 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
@@ -69,12 +71,14 @@ import org.apache.ibatis.type.StringTypeHandler;
 import org.apache.ibatis.type.TimeOnlyTypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.agenda.AgendaOperationExecutionListener;
 import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.cfg.CommandExecutorImpl;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
@@ -95,6 +99,7 @@ import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.CrDbRetryInterceptor;
 import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
+import org.flowable.common.engine.impl.interceptor.EngineMetricsInterceptor;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
@@ -103,10 +108,16 @@ import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.logging.LoggingListener;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
+import org.flowable.common.engine.impl.persistence.cache.DefaultSharedEntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -238,6 +249,39 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
+    /**
+     * If set to true, the updates and deletes of entities during a flush are sent to the database using JDBC batching
+     * (one round-trip per entity type instead of one per entity). Optimistic locking failures are still detected per entity,
+     * based on the update counts reported by the JDBC driver. Default false.
+     */
+    protected boolean isBatchUpdateAndDeleteEnabled;
+
+    /**
+     * If set to true, entities that support it (see {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity})
+     * record writes to their persistent fields themselves. The persistent state of such entities is then no longer copied when they are
+     * loaded into the entity cache, but only when they are changed for the first time, and unchanged entities are skipped at flush time
+     * without comparing their state. Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * If set to true, entities of the types returned by {@link #getDefaultSharedEntityCacheClasses()} and the types in {@link #sharedEntityCacheClasses}
+     * are cached across commands in a {@link SharedEntityCache}, so that looking them up by id doesn't need a database round-trip.
+     * Entries are evicted when the entity is updated or deleted through this engine, and expire after {@link #sharedEntityCacheTimeToLive} milliseconds,
+     * which bounds how long a change done by another engine in a cluster can go unnoticed. Default false.
+     */
+    protected boolean isSharedEntityCacheEnabled;
+    protected SharedEntityCache sharedEntityCache;
+    protected long sharedEntityCacheMaxWeight = 10000;
+    protected long sharedEntityCacheTimeToLive = 60000;
+    protected Set<Class<? extends Entity>> sharedEntityCacheClasses;
+
+    /**
+     * When set, the latency of the commands, the statement counts of the database flushes, the entity cache sizes and
+     * the job acquisition and execution timings of this engine are reported to it, and the engine registers gauges for its caches and queues.
+     */
+    protected EngineMetrics engineMetrics;
+
     protected String mybatisMappingFile;
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -613,6 +657,10 @@ public abstract class AbstractEngineConfiguration {
             List<CommandInterceptor> interceptors = new ArrayList<>();
             interceptors.add(new LogInterceptor());
 
+            if (engineMetrics != null) {
+                interceptors.add(new EngineMetricsInterceptor(engineMetrics));
+            }
+
             if (DATABASE_TYPE_COCKROACHDB.equals(databaseType)) {
                 interceptors.add(new CrDbRetryInterceptor());
             }
@@ -788,12 +836,77 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdateAndDeleteEnabled(isBatchUpdateAndDeleteEnabled);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(isEntityDirtyTrackingEnabled);
+        dbSqlSessionFactory.setEngineMetrics(engineMetrics);
+
+        if (isSharedEntityCacheEnabled) {
+            if (sharedEntityCache == null) {
+                sharedEntityCache = new DefaultSharedEntityCache(sharedEntityCacheMaxWeight, sharedEntityCacheTimeToLive);
+            }
+            dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
+        }
 
         initDbSqlSessionFactoryEntitySettings();
 
         addSessionFactory(dbSqlSessionFactory);
     }
 
+    /**
+     * Registers the gauges of this engine with the {@link #engineMetrics}, if configured.
+     * Engines call this at the end of their initialization and add the gauges of their own caches and executors.
+     */
+    public void initEngineMetrics() {
+        if (engineMetrics != null && sharedEntityCache != null) {
+            SharedEntityCache cache = sharedEntityCache;
+            engineMetrics.registerGauge(EngineMetrics.SHARED_ENTITY_CACHE + "." + EngineMetrics.GAUGE_CACHE_SIZE, cache::size);
+        }
+    }
+
+    protected void registerDeploymentCacheGauges(String cacheName, DeploymentCache<?> deploymentCache) {
+        if (engineMetrics == null || deploymentCache == null) {
+            return;
+        }
+
+        engineMetrics.registerGauge(cacheName + "." + EngineMetrics.GAUGE_CACHE_SIZE, deploymentCache::size);
+        if (deploymentCache instanceof DefaultDeploymentCache) {
+            DefaultDeploymentCache<?> cache = (DefaultDeploymentCache<?>) deploymentCache;
+            engineMetrics.registerGauge(cacheName + "." + EngineMetrics.GAUGE_CACHE_HIT_RATIO, () -> hitRatio(cache.getHitCount(), cache.getMissCount()));
+
+        } else if (deploymentCache instanceof ConcurrentDeploymentCache) {
+            ConcurrentDeploymentCache<?> cache = (ConcurrentDeploymentCache<?>) deploymentCache;
+            engineMetrics.registerGauge(cacheName + "." + EngineMetrics.GAUGE_CACHE_HIT_RATIO, () -> hitRatio(cache.getHitCount(), cache.getMissCount()));
+        }
+    }
+
+    protected void registerAsyncTaskExecutorGauges(String executorName, Supplier<AsyncTaskExecutor> taskExecutorSupplier) {
+        if (engineMetrics == null) {
+            return;
+        }
+
+        // The task executor and its queue are only created when the executor is started, so they are looked up on every sample
+        engineMetrics.registerGauge(executorName + "." + EngineMetrics.GAUGE_QUEUE_SIZE, () -> {
+            BlockingQueue<Runnable> queue = getThreadPoolQueue(taskExecutorSupplier.get());
+            return queue != null ? queue.size() : 0;
+        });
+        engineMetrics.registerGauge(executorName + "." + EngineMetrics.GAUGE_REMAINING_CAPACITY, () -> {
+            AsyncTaskExecutor taskExecutor = taskExecutorSupplier.get();
+            if (taskExecutor == null || (taskExecutor instanceof DefaultAsyncTaskExecutor && getThreadPoolQueue(taskExecutor) == null)) {
+                return 0;
+            }
+            return taskExecutor.getRemainingCapacity();
+        });
+    }
+
+    protected static BlockingQueue<Runnable> getThreadPoolQueue(AsyncTaskExecutor taskExecutor) {
+        return taskExecutor instanceof DefaultAsyncTaskExecutor ? ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue() : null;
+    }
+
+    protected static double hitRatio(long hitCount, long missCount) {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
     public DbSqlSessionFactory createDbSqlSessionFactory() {
         return new DbSqlSessionFactory(usePrefixId);
     }
@@ -816,6 +929,21 @@ public abstract class AbstractEngineConfiguration {
                 dbSqlSessionFactory.getDeletionOrder().add(clazz);
             }
         }
+
+        if (isSharedEntityCacheEnabled) {
+            dbSqlSessionFactory.getSharedEntityCacheClasses().addAll(getDefaultSharedEntityCacheClasses());
+            if (sharedEntityCacheClasses != null) {
+                dbSqlSessionFactory.getSharedEntityCacheClasses().addAll(sharedEntityCacheClasses);
+            }
+        }
+    }
+
+    /**
+     * The entity types of this engine that are cached in the {@link SharedEntityCache} when it is enabled.
+     * Only entity types that are (nearly) never changed after they have been inserted should be returned here.
+     */
+    protected Collection<Class<? extends Entity>> getDefaultSharedEntityCacheClasses() {
+        return Collections.emptyList();
     }
 
     public void initTransactionFactory() {
@@ -1604,6 +1732,78 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdateAndDeleteEnabled() {
+        return isBatchUpdateAndDeleteEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdateAndDeleteEnabled(boolean isBatchUpdateAndDeleteEnabled) {
+        this.isBatchUpdateAndDeleteEnabled = isBatchUpdateAndDeleteEnabled;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isSharedEntityCacheEnabled() {
+        return isSharedEntityCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheEnabled(boolean isSharedEntityCacheEnabled) {
+        this.isSharedEntityCacheEnabled = isSharedEntityCacheEnabled;
+        return this;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+        return this;
+    }
+
+    public long getSharedEntityCacheMaxWeight() {
+        return sharedEntityCacheMaxWeight;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheMaxWeight(long sharedEntityCacheMaxWeight) {
+        this.sharedEntityCacheMaxWeight = sharedEntityCacheMaxWeight;
+        return this;
+    }
+
+    public long getSharedEntityCacheTimeToLive() {
+        return sharedEntityCacheTimeToLive;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheTimeToLive(long sharedEntityCacheTimeToLive) {
+        this.sharedEntityCacheTimeToLive = sharedEntityCacheTimeToLive;
+        return this;
+    }
+
+    public Set<Class<? extends Entity>> getSharedEntityCacheClasses() {
+        return sharedEntityCacheClasses;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheClasses(Set<Class<? extends Entity>> sharedEntityCacheClasses) {
+        this.sharedEntityCacheClasses = sharedEntityCacheClasses;
+        return this;
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public AbstractEngineConfiguration setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
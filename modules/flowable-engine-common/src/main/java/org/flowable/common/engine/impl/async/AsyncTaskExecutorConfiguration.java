@@ -44,6 +44,12 @@ public class AsyncTaskExecutorConfiguration {
      */
     protected int queueSize = 2048;
 
+    /**
+     * Whether the queued tasks are executed in the order of their priority instead of the order in which they were queued,
+     * see {@link PrioritizedRunnable}. Tasks with the same priority are still executed in the order in which they were queued.
+     */
+    protected boolean priorityQueueEnabled;
+
     /**
      * Whether core threads can time out (which is needed to scale down the threads)
      */
@@ -60,6 +66,18 @@ public class AsyncTaskExecutorConfiguration {
      */
     protected String threadPoolNamingPattern;
 
+    /**
+     * Whether every task gets its own (virtual, when the JVM supports it) thread instead of being queued for the thread pool.
+     * See {@link VirtualThreadAsyncTaskExecutor}. The pool and queue settings are not used in this mode.
+     */
+    protected boolean virtualThreads;
+
+    /**
+     * The maximum number of tasks executing at the same time when {@link #virtualThreads} is enabled.
+     * Every executing job holds a database connection, so this should not exceed the size of the connection pool.
+     */
+    protected int maxConcurrency = 64;
+
     public int getCorePoolSize() {
         return corePoolSize;
     }
@@ -92,6 +110,14 @@ public class AsyncTaskExecutorConfiguration {
         this.queueSize = queueSize;
     }
 
+    public boolean isPriorityQueueEnabled() {
+        return priorityQueueEnabled;
+    }
+
+    public void setPriorityQueueEnabled(boolean priorityQueueEnabled) {
+        this.priorityQueueEnabled = priorityQueueEnabled;
+    }
+
     public boolean isAllowCoreThreadTimeout() {
         return allowCoreThreadTimeout;
     }
@@ -116,6 +142,22 @@ public class AsyncTaskExecutorConfiguration {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
     public void setThreadNamePrefix(String prefix) {
         if (prefix == null) {
             this.threadPoolNamingPattern = "%d";
@@ -129,8 +129,13 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
     protected ExecutorService initializeExecutor() {
         if (threadPoolQueue == null) {
             int queueSize = getQueueSize();
-            logger.info("Creating thread pool queue of size {}", queueSize);
-            threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
+            if (getConfiguration().isPriorityQueueEnabled()) {
+                logger.info("Creating priority thread pool queue of size {}", queueSize);
+                threadPoolQueue = new PriorityTaskQueue(queueSize);
+            } else {
+                logger.info("Creating thread pool queue of size {}", queueSize);
+                threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
+            }
         }
 
         if (threadFactory == null) {
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded queue for a thread pool that hands out the tasks with the highest {@link PrioritizedRunnable#getPriority() priority} first,
+ * and tasks with the same priority in the order they were queued.
+ * Like an {@link java.util.concurrent.ArrayBlockingQueue}, offering a task to a full queue fails, so the thread pool rejects the task.
+ */
+public class PriorityTaskQueue extends PriorityBlockingQueue<Runnable> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final Comparator<Runnable> QUEUED_TASK_COMPARATOR = Comparator
+            .comparingInt((Runnable task) -> ((QueuedTask) task).priority).reversed()
+            .thenComparingLong(task -> ((QueuedTask) task).sequence);
+
+    protected final int capacity;
+    protected final AtomicLong sequence = new AtomicLong();
+
+    public PriorityTaskQueue(int capacity) {
+        super(Math.min(capacity, 64), QUEUED_TASK_COMPARATOR);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized boolean offer(Runnable task) {
+        if (size() >= capacity) {
+            return false;
+        }
+        int priority = task instanceof PrioritizedRunnable ? ((PrioritizedRunnable) task).getPriority() : PrioritizedRunnable.DEFAULT_PRIORITY;
+        return super.offer(new QueuedTask(task, priority, sequence.getAndIncrement()));
+    }
+
+    @Override
+    public boolean remove(Object task) {
+        return removeIf(queuedTask -> queuedTask == task || ((QueuedTask) queuedTask).task == task);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(capacity - size(), 0);
+    }
+
+    protected static class QueuedTask implements Runnable {
+
+        protected final Runnable task;
+        protected final int priority;
+        protected final long sequence;
+
+        public QueuedTask(Runnable task, int priority, long sequence) {
+            this.task = task;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        public Runnable getTask() {
+            return task;
+        }
+    }
+
+}
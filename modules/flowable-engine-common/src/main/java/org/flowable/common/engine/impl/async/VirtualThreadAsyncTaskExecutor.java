@@ -0,0 +1,182 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.flowable.common.engine.impl.util.ExceptionUtil.sneakyThrow;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AsyncTaskExecutor} that starts a new thread for every task, instead of handing the task to a pool of threads.
+ * This is meant for virtual threads: on a JVM that supports them (Java 21 and later) the threads are virtual threads,
+ * so jobs blocking on I/O (HTTP tasks, mail, JDBC) no longer tie up a platform thread each. On older JVMs platform threads are used.
+ * <p>
+ * There is no queue: the number of tasks running at the same time is bounded by a semaphore with
+ * {@link AsyncTaskExecutorConfiguration#getMaxConcurrency()} permits, and a task is rejected when no permit is available.
+ * The {@link #getRemainingCapacity() remaining capacity} is the number of free permits, which is what the job acquisition sizes itself to.
+ */
+public class VirtualThreadAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncTaskExecutor.class);
+
+    protected final AsyncTaskExecutorConfiguration configuration;
+    protected final Semaphore permits;
+    protected final int maxConcurrency;
+
+    protected ThreadFactory threadFactory;
+    protected volatile boolean running;
+
+    public VirtualThreadAsyncTaskExecutor(AsyncTaskExecutorConfiguration configuration) {
+        this.configuration = configuration;
+        if (StringUtils.isEmpty(this.configuration.getThreadPoolNamingPattern())) {
+            this.configuration.setThreadPoolNamingPattern("flowable-async-job-executor-thread-%d");
+        }
+        this.maxConcurrency = configuration.getMaxConcurrency();
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    public void start() {
+        if (threadFactory == null) {
+            threadFactory = createThreadFactory(configuration.getThreadPoolNamingPattern());
+        }
+        running = true;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!running) {
+            throw new RejectedExecutionException("Task executor is not running");
+        }
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum number of concurrently executing tasks (" + maxConcurrency + ") reached");
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw new RejectedExecutionException("Could not start a thread for the task", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, this::execute);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception exception) {
+                sneakyThrow(exception);
+                return null;
+            }
+        }, this::execute);
+    }
+
+    @Override
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        // Taking all permits means all running tasks have finished
+        long secondsToWaitOnShutdown = configuration.getAwaitTerminationPeriod().getSeconds();
+        try {
+            if (permits.tryAcquire(maxConcurrency, secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                permits.release(maxConcurrency);
+            } else {
+                LOGGER.warn("Timeout during shutdown of async task executor. The current running tasks could not end within {} seconds after shutdown operation.",
+                        secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async task executor. ", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return permits.availablePermits();
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    protected ThreadFactory createThreadFactory(String namingPattern) {
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactory(StringUtils.remove(namingPattern, "%d"));
+        if (virtualThreadFactory != null) {
+            LOGGER.info("Creating virtual thread factory with naming pattern {}", namingPattern);
+            return virtualThreadFactory;
+        }
+
+        LOGGER.info("Virtual threads are not available on this JVM, creating platform thread factory with naming pattern {}", namingPattern);
+        return new BasicThreadFactory.Builder().namingPattern(namingPattern).build();
+    }
+
+    /**
+     * Returns {@code Thread.ofVirtual().name(namePrefix, 0).factory()}, or null when the JVM has no virtual threads.
+     * Looked up reflectively, as the engine is compiled for a Java version without them.
+     */
+    protected static ThreadFactory createVirtualThreadFactory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            Method factoryMethod = builderClass.getMethod("factory");
+            return (ThreadFactory) factoryMethod.invoke(builder);
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public AsyncTaskExecutorConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+}
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,16 +25,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntitySnapshot;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +60,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -58,6 +69,10 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
+    protected List<SharedEntitySnapshot> sharedEntityCacheSnapshots;
+    protected List<Entity> sharedEntityCacheEvictions;
+    protected Set<Class<? extends Entity>> sharedEntityCacheClassEvictions;
+    protected boolean sharedEntityCacheListenerRegistered;
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
@@ -239,6 +254,26 @@ public class DbSqlSession implements Session {
         return selectListWithRawParameter(statement, parameter, true);
     }
 
+    /**
+     * Selects the list like {@link #selectList(String, ListQueryParameterObject)}, but stops reading the results after the given number of rows.
+     * For statements where fetching a row has an effect, like locking it with {@code FOR UPDATE SKIP LOCKED} on Oracle,
+     * where the statement itself can't be limited to the wanted number of rows.
+     */
+    @SuppressWarnings("rawtypes")
+    public List selectListWithRowLimit(String statement, ListQueryParameterObject parameter, int maxRows) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+
+        List<Object> loadedObjects = new ArrayList<>(maxRows);
+        sqlSession.select(statement, parameter, resultContext -> {
+            loadedObjects.add(resultContext.getResultObject());
+            if (loadedObjects.size() >= maxRows) {
+                resultContext.stop();
+            }
+        });
+        return cacheLoadOrStore(loadedObjects, parameter);
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List queryWithRawParameter(String statement, CacheAwareQuery parameter, Class entityClass, boolean cacheLoadAndStore) {
         if (parameter.getId() != null && !parameter.getId().isEmpty()) {
@@ -306,6 +341,16 @@ public class DbSqlSession implements Session {
             }
         }
 
+        boolean sharedEntityCacheable = dbSqlSessionFactory.isSharedEntityCacheable(entityClass);
+        if (sharedEntityCacheable) {
+            entity = dbSqlSessionFactory.getSharedEntityCache().get(entityClass, id);
+            if (entity != null) {
+                startDirtyTracking(entity);
+                entityCache.put(entity, true);
+                return entity;
+            }
+        }
+
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
         entity = (T) sqlSession.selectOne(selectStatement, id);
@@ -313,7 +358,12 @@ public class DbSqlSession implements Session {
             return null;
         }
 
+        startDirtyTracking(entity);
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+
+        if (sharedEntityCacheable) {
+            addSharedEntityCacheSnapshot(entity);
+        }
         return entity;
     }
 
@@ -349,10 +399,17 @@ public class DbSqlSession implements Session {
             }
             return cachedEntity;
         }
+        startDirtyTracking(entity);
         entityCache.put(entity, true);
         return entity;
     }
 
+    protected void startDirtyTracking(Entity entity) {
+        if (dbSqlSessionFactory.isEntityDirtyTrackingEnabled() && entity instanceof DirtyTrackingEntity) {
+            ((DirtyTrackingEntity) entity).startDirtyTracking();
+        }
+    }
+
     // flush
     // ////////////////////////////////////////////////////////////////////
 
@@ -365,11 +422,147 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        evictFromSharedEntityCache();
+
+        EngineMetrics engineMetrics = dbSqlSessionFactory.getEngineMetrics();
+        if (engineMetrics != null) {
+            recordFlushMetrics(engineMetrics);
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
     }
 
+    protected void recordFlushMetrics(EngineMetrics engineMetrics) {
+        int insertCount = 0;
+        for (Map<String, Entity> insertedObjectMap : insertedObjects.values()) {
+            insertCount += insertedObjectMap.size();
+        }
+        int deleteCount = 0;
+        for (Map<String, Entity> deletedObjectMap : deletedObjects.values()) {
+            deleteCount += deletedObjectMap.size();
+        }
+        for (List<BulkDeleteOperation> bulkDeleteOperationList : bulkDeleteOperations.values()) {
+            deleteCount += bulkDeleteOperationList.size();
+        }
+        engineMetrics.recordFlush(insertCount, updatedObjects.size(), deleteCount);
+
+        int cachedEntityCount = 0;
+        for (Map<String, CachedEntity> cachedEntities : entityCache.getAllCachedEntities().values()) {
+            cachedEntityCount += cachedEntities.size();
+        }
+        engineMetrics.recordEntityCacheSize(cachedEntityCount);
+    }
+
+    /**
+     * Captures the state of an entity that was just read from the database. The snapshot is only added to the {@link SharedEntityCache}
+     * when the transaction commits, as the row could contain changes of this transaction that are still rolled back.
+     */
+    protected void addSharedEntityCacheSnapshot(Entity entity) {
+        SharedEntitySnapshot snapshot = SharedEntitySnapshot.of(entity);
+        if (snapshot != null) {
+            if (sharedEntityCacheSnapshots == null) {
+                sharedEntityCacheSnapshots = new ArrayList<>();
+            }
+            sharedEntityCacheSnapshots.add(snapshot);
+            registerSharedEntityCacheListener();
+        }
+    }
+
+    /**
+     * Removes the entities that are about to be updated or deleted from the {@link SharedEntityCache}. This is done again on commit,
+     * as another command could have put the old version back into the shared cache before this transaction was committed.
+     */
+    protected void evictFromSharedEntityCache() {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCache == null) {
+            return;
+        }
+
+        for (Entity updatedObject : updatedObjects) {
+            evictFromSharedEntityCache(sharedEntityCache, updatedObject);
+        }
+        for (Map<String, Entity> deletedEntities : deletedObjects.values()) {
+            for (Entity deletedEntity : deletedEntities.values()) {
+                evictFromSharedEntityCache(sharedEntityCache, deletedEntity);
+            }
+        }
+        for (Class<? extends Entity> entityClass : bulkDeleteOperations.keySet()) {
+            if (dbSqlSessionFactory.isSharedEntityCacheable(entityClass)) {
+                sharedEntityCache.evictAll(entityClass);
+                if (sharedEntityCacheClassEvictions == null) {
+                    sharedEntityCacheClassEvictions = new HashSet<>();
+                }
+                sharedEntityCacheClassEvictions.add(entityClass);
+                registerSharedEntityCacheListener();
+            }
+        }
+    }
+
+    protected void evictFromSharedEntityCache(SharedEntityCache sharedEntityCache, Entity entity) {
+        if (dbSqlSessionFactory.isSharedEntityCacheable(entity.getClass())) {
+            sharedEntityCache.evict(entity.getClass(), entity.getId());
+            if (sharedEntityCacheEvictions == null) {
+                sharedEntityCacheEvictions = new ArrayList<>();
+            }
+            sharedEntityCacheEvictions.add(entity);
+            registerSharedEntityCacheListener();
+        }
+    }
+
+    /**
+     * The shared entity cache changes are applied when the transaction has committed. When this session is part of a larger transaction
+     * (e.g. a Spring managed one), that is when the outer transaction commits. Without a transaction context, they are applied in {@link #commit()}.
+     */
+    protected void registerSharedEntityCacheListener() {
+        if (sharedEntityCacheListenerRegistered) {
+            return;
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> applySharedEntityCacheChanges());
+            sharedEntityCacheListenerRegistered = true;
+        }
+    }
+
+    protected void applySharedEntityCacheChanges() {
+        SharedEntityCache sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        if (sharedEntityCache != null) {
+            Set<String> evictedIds = new HashSet<>();
+            if (sharedEntityCacheEvictions != null) {
+                for (Entity entity : sharedEntityCacheEvictions) {
+                    sharedEntityCache.evict(entity.getClass(), entity.getId());
+                    evictedIds.add(entity.getId());
+                }
+            }
+            if (sharedEntityCacheClassEvictions != null) {
+                for (Class<? extends Entity> entityClass : sharedEntityCacheClassEvictions) {
+                    sharedEntityCache.evictAll(entityClass);
+                }
+            }
+
+            if (sharedEntityCacheSnapshots != null) {
+                for (SharedEntitySnapshot snapshot : sharedEntityCacheSnapshots) {
+                    // Entities changed by this transaction are read again, so the new revision is cached
+                    if (!evictedIds.contains(snapshot.getId())
+                            && (sharedEntityCacheClassEvictions == null || !sharedEntityCacheClassEvictions.contains(snapshot.getEntityClass()))) {
+                        sharedEntityCache.put(snapshot);
+                    }
+                }
+            }
+        }
+
+        clearSharedEntityCacheChanges();
+    }
+
+    protected void clearSharedEntityCacheChanges() {
+        sharedEntityCacheSnapshots = null;
+        sharedEntityCacheEvictions = null;
+        sharedEntityCacheClassEvictions = null;
+    }
+
     /**
      * Clears all deleted and inserted objects from the cache, and removes inserts and deletes that cancel each other.
      *
@@ -567,6 +760,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        if (dbSqlSessionFactory.isBatchUpdateAndDeleteEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+            return;
+        }
+
         for (Entity updatedObject : updatedObjects) {
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
@@ -591,6 +789,43 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Executes the updates using JDBC batching. The updates are grouped per entity type, so that the same statement
+     * is used for consecutive entities (MyBatis can only batch consecutive executions of the same statement).
+     */
+    protected void flushBatchUpdates() {
+        Map<Class<? extends Entity>, List<Entity>> updatedObjectsByType = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            updatedObjectsByType.computeIfAbsent(updatedObject.getClass(), key -> new ArrayList<>()).add(updatedObject);
+        }
+
+        SqlSession batchSession = getBatchSqlSession();
+        for (List<Entity> entities : updatedObjectsByType.values()) {
+            Entity firstEntity = entities.get(0);
+            String updateStatement = dbSqlSessionFactory.getUpdateStatement(firstEntity);
+            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+            if (updateStatement == null) {
+                throw new FlowableException("no update statement for " + firstEntity.getClass() + " in the ibatis mapping files");
+            }
+
+            for (Entity entity : entities) {
+                LOGGER.debug("updating (batch): {}", entity);
+                batchSession.update(updateStatement, entity);
+            }
+        }
+
+        verifyBatchResults(batchSession.flushStatements(), false, "updated");
+
+        for (Entity updatedObject : updatedObjects) {
+            // See https://activiti.atlassian.net/browse/ACT-1290
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -633,6 +868,11 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchUpdateAndDeleteEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -653,17 +893,86 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBatchDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+            if (deleteStatement == null) {
+                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+            }
+
+            batchSession.delete(deleteStatement, entity);
+        }
+
+        // Flushing per entity type, as the deletes need to be executed in the entity dependency order
+        // and the bulk deletes of this type (executed on the regular session) need to see the result.
+        // Same as with the regular deletes, only entities with a revision are checked for optimistic locking.
+        verifyBatchResults(batchSession.flushStatements(), true, "deleted");
+    }
+
+    /**
+     * Verifies the update counts of the executed batch statements. An update count of 0 for an entity means that
+     * the revision in the database didn't match anymore, i.e. another transaction changed the row concurrently.
+     * Drivers that cannot report the update count per statement ({@link Statement#SUCCESS_NO_INFO}) are trusted.
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean onlyCheckEntitiesWithRevision, String operation) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == 0) {
+                    Object entity = parameterObjects.get(i);
+                    if (!onlyCheckEntitiesWithRevision || entity instanceof HasRevision) {
+                        throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                    }
+
+                } else if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    throw new FlowableException("Batch statement " + batchResult.getSql() + " failed for " + parameterObjects.get(i)
+                            + " while it was being " + operation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a MyBatis session using a batch executor on the same connection as the regular session.
+     * The session is deliberately never closed: closing it would close the shared connection.
+     * The JDBC statements it creates are closed by {@link SqlSession#flushStatements()}.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            batchSqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(ExecutorType.BATCH, sqlSession.getConnection());
+        }
+        return batchSqlSession;
+    }
+
     @Override
     public void close() {
         sqlSession.close();
     }
 
+    /**
+     * @see DbSqlSessionFactory#isSkipLockedSupported(Connection)
+     */
+    public boolean isSkipLockedSupported() {
+        return dbSqlSessionFactory.isSkipLockedSupported(sqlSession.getConnection());
+    }
+
     public void commit() {
         sqlSession.commit();
+
+        if (!sharedEntityCacheListenerRegistered) {
+            applySharedEntityCacheChanges();
+        }
     }
 
     public void rollback() {
         sqlSession.rollback();
+
+        if (!sharedEntityCacheListenerRegistered) {
+            clearSharedEntityCacheChanges();
+        }
     }
 
     public <T> T getCustomMapper(Class<T> type) {
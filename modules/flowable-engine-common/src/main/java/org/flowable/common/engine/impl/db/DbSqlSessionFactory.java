@@ -13,6 +13,8 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,14 +24,20 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -37,6 +45,8 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
  */
 public class DbSqlSessionFactory implements SessionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbSqlSessionFactory.class);
+
     protected Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
 
     protected String databaseType;
@@ -62,6 +72,17 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean batchUpdateAndDeleteEnabled;
+
+    protected boolean entityDirtyTrackingEnabled;
+
+    protected volatile Boolean skipLockedSupported;
+
+    protected SharedEntityCache sharedEntityCache;
+    protected Set<Class<? extends Entity>> sharedEntityCacheClasses = new HashSet<>();
+
+    protected EngineMetrics engineMetrics;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -177,10 +198,80 @@ public class DbSqlSessionFactory implements SessionFactory {
         return "oracle".equals(getDatabaseType());
     }
 
+    /**
+     * Whether the database can skip rows locked by other transactions when selecting rows for update
+     * ({@code FOR UPDATE SKIP LOCKED}, or {@code READPAST} on SQL Server).
+     * When the database type is mysql, this requires MySQL 8 or MariaDB 10.6 and later. The server version is read once from the metadata
+     * of the given connection, unless it was set explicitly with {@link #setSkipLockedSupported(Boolean)}.
+     */
+    public boolean isSkipLockedSupported(Connection connection) {
+        Boolean supported = skipLockedSupported;
+        if (supported == null) {
+            supported = determineSkipLockedSupported(connection);
+            skipLockedSupported = supported;
+        }
+        return supported;
+    }
+
+    protected boolean determineSkipLockedSupported(Connection connection) {
+        String databaseType = getDatabaseType();
+        if ("postgres".equals(databaseType) || "oracle".equals(databaseType) || "mssql".equals(databaseType)) {
+            return true;
+
+        } else if ("mysql".equals(databaseType)) {
+            try {
+                DatabaseMetaData databaseMetaData = connection.getMetaData();
+                String productName = databaseMetaData.getDatabaseProductName();
+                String productVersion = databaseMetaData.getDatabaseProductVersion();
+                boolean supported;
+                if (StringUtils.containsIgnoreCase(productName, "MariaDB") || StringUtils.containsIgnoreCase(productVersion, "MariaDB")) {
+                    // MariaDB can report itself as 5.5.5-10.x to MySQL clients, so the version is taken from the product version
+                    int[] version = parseMariaDbVersion(productVersion);
+                    supported = version[0] > 10 || (version[0] == 10 && version[1] >= 6);
+                } else {
+                    supported = databaseMetaData.getDatabaseMajorVersion() >= 8;
+                }
+
+                LOGGER.debug("Skip locked is {} by {} {}", supported ? "supported" : "not supported", productName, productVersion);
+                return supported;
+
+            } catch (SQLException e) {
+                LOGGER.warn("Could not determine the database version, rows are selected without skip locked", e);
+                return false;
+            }
+        }
+        return false;
+    }
+
+    protected int[] parseMariaDbVersion(String productVersion) {
+        String version = StringUtils.removeStart(productVersion, "5.5.5-");
+        String[] parts = StringUtils.split(StringUtils.substringBefore(version, "-"), '.');
+        int[] majorAndMinor = new int[2];
+        for (int i = 0; i < majorAndMinor.length && parts != null && i < parts.length; i++) {
+            majorAndMinor[i] = NumberUtils.toInt(parts[i]);
+        }
+        return majorAndMinor;
+    }
+
+    public Boolean getSkipLockedSupported() {
+        return skipLockedSupported;
+    }
+
+    /**
+     * Overrides whether the database supports skip locked. Null means that it is determined from the database type and version.
+     */
+    public void setSkipLockedSupported(Boolean skipLockedSupported) {
+        this.skipLockedSupported = skipLockedSupported;
+    }
+
     public Boolean isBulkInsertable(Class<? extends Entity> entityClass) {
         return bulkInserteableEntityClasses != null && bulkInserteableEntityClasses.contains(entityClass);
     }
 
+    public boolean isSharedEntityCacheable(Class<?> entityClass) {
+        return sharedEntityCache != null && sharedEntityCacheClasses != null && sharedEntityCacheClasses.contains(entityClass);
+    }
+
     @SuppressWarnings("rawtypes")
     public String getBulkInsertStatement(Class clazz) {
         return getStatement(clazz, bulkInsertStatements, "bulkInsert");
@@ -202,6 +293,46 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchUpdateAndDeleteEnabled() {
+        return batchUpdateAndDeleteEnabled;
+    }
+
+    public void setBatchUpdateAndDeleteEnabled(boolean batchUpdateAndDeleteEnabled) {
+        this.batchUpdateAndDeleteEnabled = batchUpdateAndDeleteEnabled;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return entityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean entityDirtyTrackingEnabled) {
+        this.entityDirtyTrackingEnabled = entityDirtyTrackingEnabled;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
+    public Set<Class<? extends Entity>> getSharedEntityCacheClasses() {
+        return sharedEntityCacheClasses;
+    }
+
+    public void setSharedEntityCacheClasses(Set<Class<? extends Entity>> sharedEntityCacheClasses) {
+        this.sharedEntityCacheClasses = sharedEntityCacheClasses;
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public void setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -88,6 +88,20 @@ public final class TreeValueExpression extends ValueExpression {
 		return structure;
 	}
 	
+	/**
+	 * @return the root node of the parse tree
+	 */
+	public ExpressionNode getNode() {
+		return node;
+	}
+
+	/**
+	 * @return the function and variable bindings of this expression
+	 */
+	public Bindings getBindings() {
+		return bindings;
+	}
+
 	@Override
 	public Class<?> getExpectedType() {
 		return type;
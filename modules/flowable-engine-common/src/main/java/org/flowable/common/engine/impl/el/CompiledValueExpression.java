@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.flowable.common.engine.impl.javax.el.ValueReference;
+
+/**
+ * A {@link ValueExpression} that evaluates {@link #getValue(ELContext)} through a tree compiled by the {@link JuelExpressionCompiler}.
+ * All other operations, and evaluation after deserialization, are delegated to the interpreted {@link TreeValueExpression}.
+ */
+public class CompiledValueExpression extends ValueExpression {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final TreeValueExpression delegate;
+    protected final transient JuelExpressionCompiler.CompiledNode compiledNode;
+
+    public CompiledValueExpression(TreeValueExpression delegate, JuelExpressionCompiler.CompiledNode compiledNode) {
+        this.delegate = delegate;
+        this.compiledNode = compiledNode;
+    }
+
+    @Override
+    public Object getValue(ELContext context) {
+        if (compiledNode == null) {
+            return delegate.getValue(context);
+        }
+        return delegate.getBindings().convert(compiledNode.eval(context), delegate.getExpectedType());
+    }
+
+    @Override
+    public void setValue(ELContext context, Object value) {
+        delegate.setValue(context, value);
+    }
+
+    @Override
+    public Class<?> getType(ELContext context) {
+        return delegate.getType(context);
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context) {
+        return delegate.isReadOnly(context);
+    }
+
+    @Override
+    public ValueReference getValueReference(ELContext context) {
+        return delegate.getValueReference(context);
+    }
+
+    @Override
+    public Class<?> getExpectedType() {
+        return delegate.getExpectedType();
+    }
+
+    @Override
+    public String getExpressionString() {
+        return delegate.getExpressionString();
+    }
+
+    @Override
+    public boolean isLiteralText() {
+        return delegate.isLiteralText();
+    }
+
+    public TreeValueExpression getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CompiledValueExpression) {
+            return delegate.equals(((CompiledValueExpression) obj).delegate);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledValueExpression(" + delegate.getExpressionString() + ")";
+    }
+
+}
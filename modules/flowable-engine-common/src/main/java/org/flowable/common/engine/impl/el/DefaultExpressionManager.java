@@ -54,6 +54,8 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    protected JuelExpressionCompiler expressionCompiler;
     
     protected List<ELResolver> preDefaultResolvers;
     protected ELResolver jsonNodeResolver;
@@ -87,6 +89,9 @@ public class DefaultExpressionManager implements ExpressionManager {
         String expressionText = text.trim();
         
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
+        if (expressionCompiler != null) {
+            valueExpression = expressionCompiler.compile(valueExpression);
+        }
         Expression expression = createJuelExpression(text, valueExpression);
         
         if (isCacheEnabled(text)) {
@@ -243,6 +248,17 @@ public class DefaultExpressionManager implements ExpressionManager {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
 
+    public JuelExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
+    }
+
+    /**
+     * Sets the compiler used to compile the parsed expressions. When null (the default) the expressions are interpreted.
+     */
+    public void setExpressionCompiler(JuelExpressionCompiler expressionCompiler) {
+        this.expressionCompiler = expressionCompiler;
+    }
+
     public void addPreDefaultResolver(ELResolver elResolver) {
         if (this.preDefaultResolvers == null) {
             this.preDefaultResolvers = new ArrayList<>();
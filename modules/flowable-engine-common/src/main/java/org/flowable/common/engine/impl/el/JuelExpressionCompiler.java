@@ -0,0 +1,293 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstComposite;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstLiteral;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstText;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+
+/**
+ * Compiles the parse tree of a JUEL {@link TreeValueExpression} into a tree of {@link CompiledNode} closures,
+ * so that evaluating the expression no longer walks the AST and dispatches on the operators on every call.
+ * <p>
+ * Top level identifiers are read directly from the {@link VariableContainer} when the {@link ELResolver} of the context
+ * is guarded to be a composite resolver starting with a known {@link VariableContainerELResolver}.
+ * Any construct that is not supported (functions, method calls, brackets, custom AST nodes, ...) is evaluated
+ * by the interpreter, so a compiled expression always behaves like the interpreted one.
+ */
+public class JuelExpressionCompiler {
+
+    protected final LongAdder compiledExpressionCount = new LongAdder();
+    protected final LongAdder interpretedExpressionCount = new LongAdder();
+
+    protected volatile ResolverGuard resolverGuard;
+
+    /**
+     * Returns a compiled version of the given value expression, or the value expression itself
+     * when it is not a JUEL tree expression or when none of its nodes can be compiled.
+     */
+    public ValueExpression compile(ValueExpression valueExpression) {
+        if (valueExpression instanceof TreeValueExpression) {
+            TreeValueExpression treeValueExpression = (TreeValueExpression) valueExpression;
+            ExpressionNode node = treeValueExpression.getNode();
+            if (node instanceof AstNode) {
+                CompiledNode compiledNode = compile((AstNode) node, treeValueExpression.getBindings());
+                if (!(compiledNode instanceof InterpretedNode)) {
+                    compiledExpressionCount.increment();
+                    return new CompiledValueExpression(treeValueExpression, compiledNode);
+                }
+            }
+        }
+
+        interpretedExpressionCount.increment();
+        return valueExpression;
+    }
+
+    protected CompiledNode compile(AstNode node, Bindings bindings) {
+        Class<?> nodeClass = node.getClass();
+        if (node instanceof AstLiteral || nodeClass == AstText.class) {
+            Object value = node.eval(bindings, null);
+            return context -> value;
+
+        } else if (nodeClass == AstEval.class || nodeClass == AstNested.class) {
+            return compile((AstNode) node.getChild(0), bindings);
+
+        } else if (nodeClass == AstIdentifier.class) {
+            return compileIdentifier((AstIdentifier) node, bindings);
+
+        } else if (nodeClass == AstDot.class) {
+            return compileDot((AstDot) node, bindings);
+
+        } else if (nodeClass == AstBinary.class) {
+            return compileBinary((AstBinary) node, bindings);
+
+        } else if (nodeClass == AstUnary.class) {
+            return compileUnary((AstUnary) node, bindings);
+
+        } else if (nodeClass == AstChoice.class) {
+            CompiledNode question = compile((AstNode) node.getChild(0), bindings);
+            CompiledNode yes = compile((AstNode) node.getChild(1), bindings);
+            CompiledNode no = compile((AstNode) node.getChild(2), bindings);
+            return context -> bindings.convert(question.eval(context), Boolean.class) ? yes.eval(context) : no.eval(context);
+
+        } else if (nodeClass == AstComposite.class) {
+            List<CompiledNode> parts = new ArrayList<>(node.getCardinality());
+            for (int i = 0; i < node.getCardinality(); i++) {
+                parts.add(compile((AstNode) node.getChild(i), bindings));
+            }
+            return context -> {
+                StringBuilder builder = new StringBuilder(16);
+                for (CompiledNode part : parts) {
+                    builder.append(bindings.convert(part.eval(context), String.class));
+                }
+                return builder.toString();
+            };
+        }
+
+        return new InterpretedNode(node, bindings);
+    }
+
+    protected CompiledNode compileIdentifier(AstIdentifier identifier, Bindings bindings) {
+        String name = identifier.getName();
+        if (bindings.isVariableBound(identifier.getIndex())) {
+            return new InterpretedNode(identifier, bindings);
+        }
+
+        return context -> {
+            VariableContainerELResolver variableResolver = getGuardedVariableResolver(context.getELResolver());
+            if (variableResolver != null && variableResolver.isVariableLookup(name)
+                    && context.getContext(EvaluationState.class) != EvaluationState.WRITE) {
+                VariableContainer variableContainer = (VariableContainer) context.getContext(VariableContainer.class);
+                if (variableContainer != null && variableContainer.hasVariable(name)) {
+                    context.setPropertyResolved(true);
+                    return variableContainer.getVariable(name);
+                }
+            }
+            return identifier.eval(bindings, context);
+        };
+    }
+
+    protected CompiledNode compileDot(AstDot dot, Bindings bindings) {
+        CompiledNode prefix = compile(dot.getChild(0), bindings);
+        String property = dot.getPropertyName();
+        return context -> {
+            Object base = prefix.eval(context);
+            if (base == null) {
+                return null;
+            }
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, base, property);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", property, base));
+            }
+            return result;
+        };
+    }
+
+    protected CompiledNode compileBinary(AstBinary binary, Bindings bindings) {
+        AstBinary.Operator operator = binary.getOperator();
+        CompiledNode left = compile(binary.getChild(0), bindings);
+        CompiledNode right = compile(binary.getChild(1), bindings);
+        if (operator == AstBinary.AND) {
+            return context -> Boolean.TRUE.equals(bindings.convert(left.eval(context), Boolean.class))
+                    ? bindings.convert(right.eval(context), Boolean.class) : Boolean.FALSE;
+        } else if (operator == AstBinary.OR) {
+            return context -> Boolean.TRUE.equals(bindings.convert(left.eval(context), Boolean.class))
+                    ? Boolean.TRUE : bindings.convert(right.eval(context), Boolean.class);
+        } else if (operator == AstBinary.EQ) {
+            return context -> BooleanOperations.eq(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.NE) {
+            return context -> BooleanOperations.ne(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.LT) {
+            return context -> BooleanOperations.lt(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.LE) {
+            return context -> BooleanOperations.le(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.GT) {
+            return context -> BooleanOperations.gt(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.GE) {
+            return context -> BooleanOperations.ge(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.ADD) {
+            return context -> NumberOperations.add(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.SUB) {
+            return context -> NumberOperations.sub(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.MUL) {
+            return context -> NumberOperations.mul(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.DIV) {
+            return context -> NumberOperations.div(bindings, left.eval(context), right.eval(context));
+        } else if (operator == AstBinary.MOD) {
+            return context -> NumberOperations.mod(bindings, left.eval(context), right.eval(context));
+        }
+        return new InterpretedNode(binary, bindings);
+    }
+
+    protected CompiledNode compileUnary(AstUnary unary, Bindings bindings) {
+        AstUnary.Operator operator = unary.getOperator();
+        CompiledNode child = compile(unary.getChild(0), bindings);
+        if (operator == AstUnary.NOT) {
+            return context -> !bindings.convert(child.eval(context), Boolean.class);
+        } else if (operator == AstUnary.EMPTY) {
+            return context -> BooleanOperations.empty(bindings, child.eval(context));
+        } else if (operator == AstUnary.NEG) {
+            return context -> NumberOperations.neg(bindings, child.eval(context));
+        }
+        return new InterpretedNode(unary, bindings);
+    }
+
+    /**
+     * Returns the variable resolver that can be bypassed for the given context resolver, or null when variables
+     * need to be resolved through the resolver chain. The outcome is cached for the last seen resolver.
+     */
+    protected VariableContainerELResolver getGuardedVariableResolver(ELResolver resolver) {
+        ResolverGuard guard = resolverGuard;
+        if (guard == null || guard.resolver != resolver) {
+            guard = new ResolverGuard(resolver, determineVariableResolver(resolver));
+            resolverGuard = guard;
+        }
+        return guard.variableResolver;
+    }
+
+    protected VariableContainerELResolver determineVariableResolver(ELResolver resolver) {
+        if (resolver instanceof CompositeELResolver) {
+            List<ELResolver> resolvers = ((CompositeELResolver) resolver).getResolvers();
+            if (!resolvers.isEmpty() && resolvers.get(0) instanceof VariableContainerELResolver) {
+                VariableContainerELResolver variableResolver = (VariableContainerELResolver) resolvers.get(0);
+                // A subclass changing getValue without declaring which names it handles itself can't be bypassed
+                if (declaresVariableLookup(variableResolver.getClass())) {
+                    return variableResolver;
+                }
+            }
+        }
+        return null;
+    }
+
+    protected boolean declaresVariableLookup(Class<?> resolverClass) {
+        try {
+            Method getValue = resolverClass.getMethod("getValue", ELContext.class, Object.class, Object.class);
+            Method isVariableLookup = resolverClass.getMethod("isVariableLookup", String.class);
+            return getValue.getDeclaringClass() == isVariableLookup.getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public long getCompiledExpressionCount() {
+        return compiledExpressionCount.sum();
+    }
+
+    public long getInterpretedExpressionCount() {
+        return interpretedExpressionCount.sum();
+    }
+
+    /**
+     * A compiled node of an expression tree.
+     */
+    @FunctionalInterface
+    public interface CompiledNode {
+
+        Object eval(ELContext context);
+
+    }
+
+    protected static class InterpretedNode implements CompiledNode {
+
+        protected final AstNode node;
+        protected final Bindings bindings;
+
+        public InterpretedNode(AstNode node, Bindings bindings) {
+            this.node = node;
+            this.bindings = bindings;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return node.eval(bindings, context);
+        }
+    }
+
+    protected static class ResolverGuard {
+
+        protected final ELResolver resolver;
+        protected final VariableContainerELResolver variableResolver;
+
+        public ResolverGuard(ELResolver resolver, VariableContainerELResolver variableResolver) {
+            this.resolver = resolver;
+            this.variableResolver = variableResolver;
+        }
+    }
+
+}
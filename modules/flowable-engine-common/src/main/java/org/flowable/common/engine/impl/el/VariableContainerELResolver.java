@@ -73,6 +73,15 @@ public class VariableContainerELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Whether reading a top level identifier with the given name always resolves to the variable with that name,
+     * when the variable container has such a variable. Subclasses handling additional keys in
+     * {@link #getValue(ELContext, Object, Object)} should exclude those keys here.
+     */
+    public boolean isVariableLookup(String name) {
+        return !LOGGED_IN_USER_KEY.equals(name) && !CURRENT_TENANT_ID_KEY.equals(name);
+    }
+
     @Override
     public boolean isReadOnly(ELContext context, Object base, Object property) {
         if (base == null) {
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+
+/**
+ * Records the latency of every command passing through the chain with the configured {@link EngineMetrics}.
+ */
+public class EngineMetricsInterceptor extends AbstractCommandInterceptor {
+
+    protected final EngineMetrics engineMetrics;
+
+    public EngineMetricsInterceptor(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        long start = System.nanoTime();
+        boolean successful = false;
+        try {
+            T result = next.execute(config, command, commandExecutor);
+            successful = true;
+            return result;
+
+        } finally {
+            engineMetrics.recordCommand(command.getClass(), System.nanoTime() - start, successful);
+        }
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+}
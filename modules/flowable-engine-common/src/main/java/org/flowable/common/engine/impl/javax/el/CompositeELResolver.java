@@ -68,6 +68,13 @@ public class CompositeELResolver extends ELResolver {
 		resolvers.add(elResolver);
 	}
 
+	/**
+	 * @return an unmodifiable view of the component resolvers, in the order in which they are consulted.
+	 */
+	public List<ELResolver> getResolvers() {
+		return Collections.unmodifiableList(resolvers);
+	}
+
 	/**
 	 * Returns the most general type that this resolver accepts for the property argument, given a
 	 * base object. One use for this method is to assist tools in auto-completion. The result is
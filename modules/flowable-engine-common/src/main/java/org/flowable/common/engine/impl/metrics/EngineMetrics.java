@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * Receives the measurements an engine takes while executing commands, flushing the database session and acquiring and executing jobs.
+ * An instance is configured per engine through {@link org.flowable.common.engine.impl.AbstractEngineConfiguration#setEngineMetrics(EngineMetrics)};
+ * when none is configured nothing is measured.
+ * <p>
+ * The record methods are called on the hot path of every command, so implementations need to be thread safe and cheap.
+ */
+public interface EngineMetrics {
+
+    String ACQUISITION_TYPE_ASYNC_JOBS = "async";
+    String ACQUISITION_TYPE_TIMER_JOBS = "timer";
+
+    String GAUGE_CACHE_SIZE = "size";
+    String GAUGE_CACHE_HIT_RATIO = "hitRatio";
+    String GAUGE_QUEUE_SIZE = "queueSize";
+    String GAUGE_REMAINING_CAPACITY = "remainingCapacity";
+
+    String SHARED_ENTITY_CACHE = "sharedEntityCache";
+
+    /**
+     * Called after a command passed through the command interceptor chain, including commands nested in another command.
+     */
+    void recordCommand(Class<?> commandClass, long durationNanos, boolean successful);
+
+    /**
+     * Called when the database session is flushed, with the number of insert, update and delete statements (bulk deletes counting as one) it is about to execute.
+     */
+    void recordFlush(int insertCount, int updateCount, int deleteCount);
+
+    /**
+     * Called when the database session is flushed, with the number of entities held in the entity cache of the command context.
+     */
+    void recordEntityCacheSize(int cachedEntityCount);
+
+    /**
+     * Called after an acquire cycle of the async executor. The acquisition type is one of {@link #ACQUISITION_TYPE_ASYNC_JOBS} or {@link #ACQUISITION_TYPE_TIMER_JOBS}.
+     */
+    void recordJobAcquisition(String acquisitionType, int acquiredJobCount, long durationNanos);
+
+    /**
+     * Called after a job was executed by the async executor.
+     */
+    void recordJobExecution(String jobHandlerType, long durationNanos, boolean successful);
+
+    /**
+     * Registers a value that is sampled by the metrics implementation whenever it needs it, e.g. a cache size or queue depth.
+     * The engines use names of the form {@code <component>.<measure>}, e.g. {@code processDefinitionCache.hitRatio} or {@code asyncExecutor.queueSize},
+     * with the measures being the {@code GAUGE_} constants of this interface.
+     */
+    void registerGauge(String name, Supplier<Number> valueSupplier);
+
+}
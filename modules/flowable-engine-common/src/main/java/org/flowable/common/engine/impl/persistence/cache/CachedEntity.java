@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -32,9 +33,16 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * True when the {@link Entity} tracks its own writes (see {@link DirtyTrackingEntity}) and no snapshot of the persistent state was taken.
+     */
+    protected boolean dirtyTracked;
+
     public CachedEntity(Entity entity, boolean storeState) {
         this.entity = entity;
-        if (storeState) {
+        if (storeState && entity instanceof DirtyTrackingEntity && ((DirtyTrackingEntity) entity).isDirtyTrackingEnabled()) {
+            this.dirtyTracked = true;
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -51,6 +59,9 @@ public class CachedEntity {
     }
 
     public Object getOriginalPersistentState() {
+        if (dirtyTracked) {
+            return entity.getOriginalPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -59,6 +70,10 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
+        if (dirtyTracked) {
+            return ((DirtyTrackingEntity) entity).isDirty() && !entity.getPersistentState().equals(entity.getOriginalPersistentState());
+        }
+
         Object currentPersistentState = entity.getPersistentState();
         return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
                 || currentPersistentState == null && originalPersistentState != null;
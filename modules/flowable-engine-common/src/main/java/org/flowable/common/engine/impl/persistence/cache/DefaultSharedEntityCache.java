@@ -0,0 +1,225 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link SharedEntityCache}: an LRU cache bounded by the total weight of the cached snapshots, where each entry
+ * expires after a fixed time to live. The weight of a snapshot is 1, plus 1 per KB of captured state.
+ */
+public class DefaultSharedEntityCache implements SharedEntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSharedEntityCache.class);
+
+    protected final LinkedHashMap<CacheKey, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true); // true -> access order, for LRU
+    protected final long maxWeight;
+    protected final long timeToLiveMillis;
+    protected long weight;
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxWeight
+     *            the maximum total weight of the cached entities
+     * @param timeToLiveMillis
+     *            the time an entity is served from the cache after it was put in. A value of zero or less means that entries don't expire.
+     */
+    public DefaultSharedEntityCache(long maxWeight, long timeToLiveMillis) {
+        this.maxWeight = maxWeight;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        CacheKey key = new CacheKey(entityClass, id);
+        SharedEntitySnapshot snapshot;
+        synchronized (cache) {
+            CacheEntry entry = cache.get(key);
+            if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+                remove(key);
+                entry = null;
+            }
+
+            if (entry == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+
+            hitCount.incrementAndGet();
+            snapshot = entry.snapshot;
+        }
+
+        // The entity is created outside of the lock: every lookup gets its own instance
+        return (T) snapshot.createEntity();
+    }
+
+    @Override
+    public void put(SharedEntitySnapshot snapshot) {
+        CacheKey key = new CacheKey(snapshot.getEntityClass(), snapshot.getId());
+        int entityWeight = weigh(snapshot);
+        if (entityWeight > maxWeight) {
+            return;
+        }
+
+        long expirationTime = timeToLiveMillis > 0 ? System.currentTimeMillis() + timeToLiveMillis : Long.MAX_VALUE;
+        synchronized (cache) {
+            CacheEntry existingEntry = cache.get(key);
+            if (existingEntry != null && existingEntry.snapshot.getRevision() > snapshot.getRevision()) {
+                return;
+            }
+
+            remove(key);
+            cache.put(key, new CacheEntry(snapshot, entityWeight, expirationTime));
+            weight += entityWeight;
+
+            Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = cache.entrySet().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                Map.Entry<CacheKey, CacheEntry> eldest = iterator.next();
+                LOGGER.trace("Shared entity cache limit is reached, {} will be evicted", eldest.getKey());
+                weight -= eldest.getValue().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void evict(Class<?> entityClass, String id) {
+        synchronized (cache) {
+            remove(new CacheKey(entityClass, id));
+        }
+    }
+
+    @Override
+    public void evictAll(Class<?> entityClass) {
+        synchronized (cache) {
+            Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<CacheKey, CacheEntry> entry = iterator.next();
+                if (entry.getKey().entityClass == entityClass) {
+                    weight -= entry.getValue().weight;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            weight = 0;
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    protected void remove(CacheKey key) {
+        CacheEntry removedEntry = cache.remove(key);
+        if (removedEntry != null) {
+            weight -= removedEntry.weight;
+        }
+    }
+
+    protected int weigh(SharedEntitySnapshot snapshot) {
+        return 1 + snapshot.getSize() / 1024;
+    }
+
+    public long getWeight() {
+        synchronized (cache) {
+            return weight;
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    protected static class CacheKey {
+
+        protected final Class<?> entityClass;
+        protected final String id;
+
+        protected CacheKey(Class<?> entityClass, String id) {
+            this.entityClass = entityClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return entityClass == other.entityClass && Objects.equals(id, other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * entityClass.hashCode() + Objects.hashCode(id);
+        }
+
+        @Override
+        public String toString() {
+            return entityClass.getSimpleName() + "[" + id + "]";
+        }
+    }
+
+    protected static class CacheEntry {
+
+        protected final SharedEntitySnapshot snapshot;
+        protected final int weight;
+        protected final long expirationTime;
+
+        protected CacheEntry(SharedEntitySnapshot snapshot, int weight, long expirationTime) {
+            this.snapshot = snapshot;
+            this.weight = weight;
+            this.expirationTime = expirationTime;
+        }
+
+        protected boolean isExpired(long now) {
+            return now >= expirationTime;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A cache for {@link Entity} instances that is shared by all commands of an engine, as opposed to the {@link EntityCache},
+ * which only lives for the duration of one command.
+ *
+ * It is consulted by {@link org.flowable.common.engine.impl.db.DbSqlSession#selectById(Class, String)} for the entity types that are
+ * configured as shared cacheable, and is meant for immutable or read-mostly entities. The cache keeps {@link SharedEntitySnapshot}s of the
+ * state as it was read from the database, and hands out a new {@link Entity} instance for every lookup, so that a command never sees
+ * changes done by another command. Snapshots are only added once the transaction that read them has committed, and entries are evicted
+ * when the {@link org.flowable.common.engine.impl.db.DbSqlSession} flushes an update or delete for them. Changes done by other engines
+ * in a cluster are not seen until the entry expires, so implementations are expected to bound the lifetime of the entries.
+ */
+public interface SharedEntityCache {
+
+    /**
+     * Returns a new {@link Entity} instance of the given class with the cached state for the given id,
+     * or null if there is no (valid) cached state.
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * Adds the snapshot to the cache. A snapshot that is already cached with a higher revision is not replaced.
+     */
+    void put(SharedEntitySnapshot snapshot);
+
+    /**
+     * Adds a snapshot of the current state of the {@link Entity} to the cache, when the entity can be captured.
+     */
+    default void put(Entity entity) {
+        SharedEntitySnapshot snapshot = SharedEntitySnapshot.of(entity);
+        if (snapshot != null) {
+            put(snapshot);
+        }
+    }
+
+    /**
+     * Removes the {@link Entity} of the given class with the given id from the cache.
+     */
+    void evict(Class<?> entityClass, String id);
+
+    /**
+     * Removes all cached {@link Entity} instances of the given class.
+     */
+    void evictAll(Class<?> entityClass);
+
+    void clear();
+
+    int size();
+
+}
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An immutable copy of the state of an {@link Entity} as it was read from the database, as kept by a {@link SharedEntityCache}.
+ *
+ * The state is kept in serialized form, so that every command gets its own {@link Entity} instance through {@link #createEntity()},
+ * and changes done by one command (whether committed or not) are never seen by another command through the cache.
+ * Only entities implementing {@link Serializable} can be captured.
+ */
+public class SharedEntitySnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedEntitySnapshot.class);
+
+    protected final Class<? extends Entity> entityClass;
+    protected final String id;
+    protected final int revision;
+    protected final byte[] state;
+
+    protected SharedEntitySnapshot(Class<? extends Entity> entityClass, String id, int revision, byte[] state) {
+        this.entityClass = entityClass;
+        this.id = id;
+        this.revision = revision;
+        this.state = state;
+    }
+
+    /**
+     * Captures the current state of the given entity.
+     *
+     * @return the snapshot, or null when the entity can't be serialized
+     */
+    public static SharedEntitySnapshot of(Entity entity) {
+        if (!(entity instanceof Serializable) || entity.getId() == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(entity);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Entity {}[{}] can't be serialized and is not added to the shared entity cache", entity.getClass().getSimpleName(), entity.getId(), e);
+            return null;
+        }
+
+        int revision = entity instanceof HasRevision ? ((HasRevision) entity).getRevision() : 0;
+        return new SharedEntitySnapshot(entity.getClass(), entity.getId(), revision, byteArrayOutputStream.toByteArray());
+    }
+
+    /**
+     * @return a new {@link Entity} instance with the captured state
+     */
+    public Entity createEntity() {
+        try (ObjectInputStream objectInputStream = new EntityObjectInputStream(new ByteArrayInputStream(state), entityClass.getClassLoader())) {
+            Entity entity = entityClass.cast(objectInputStream.readObject());
+
+            // The fields of a non-serializable base class (e.g. AbstractEntity) are not part of the serialized form
+            if (entity.getId() == null) {
+                entity.setId(id);
+            }
+            if (entity instanceof HasRevision) {
+                ((HasRevision) entity).setRevision(revision);
+            }
+            return entity;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new FlowableException("Could not create entity " + entityClass.getSimpleName() + "[" + id + "] from the shared entity cache", e);
+        }
+    }
+
+    public Class<? extends Entity> getEntityClass() {
+        return entityClass;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return the size of the captured state in bytes
+     */
+    public int getSize() {
+        return state.length;
+    }
+
+    protected static class EntityObjectInputStream extends ObjectInputStream {
+
+        protected final ClassLoader classLoader;
+
+        protected EntityObjectInputStream(InputStream inputStream, ClassLoader classLoader) throws IOException {
+            super(inputStream);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the default resolution below
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+}
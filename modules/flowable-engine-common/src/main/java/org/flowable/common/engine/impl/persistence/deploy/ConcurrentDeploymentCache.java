@@ -0,0 +1,348 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DeploymentCache} on top of a {@link ConcurrentHashMap}: lookups don't take a lock and don't change the structure of the cache,
+ * as opposed to the access ordered map of the {@link DefaultDeploymentCache}.
+ *
+ * The cache can be bounded by a maximum total weight, where the weight of each entry is determined by a weigher function
+ * (by default every entry weighs 1). When the limit is exceeded, a random sample of the entries is taken and the one used least
+ * frequently according to a TinyLFU frequency sketch is evicted, with the least recently used entry winning ties. Sampling keeps the cost
+ * of an eviction independent of the number of cached entries. The entry that is being added is never evicted by its own addition,
+ * as callers rely on getting it back from the cache right after adding it.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+    protected final ConcurrentHashMap<String, Node<T>> cache = new ConcurrentHashMap<>();
+    // Only used for a bounded cache, guarded by the eviction lock: the cached nodes in an array, so random entries can be sampled
+    protected final List<Node<T>> evictionCandidates = new ArrayList<>();
+    protected final long maxWeight;
+    protected final ToIntFunction<T> weigher;
+    protected final FrequencySketch frequencySketch;
+    protected final AtomicLong weight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1, value -> 1);
+    }
+
+    /** Cache which holds at most the given number of entries */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, value -> 1);
+    }
+
+    /**
+     * Cache where the total weight of the entries, as determined by the given weigher, is at most the given maximum weight.
+     * A maximum weight of zero or less means no limit.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, ToIntFunction<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.frequencySketch = maxWeight > 0 ? new FrequencySketch((int) Math.min(maxWeight, 1 << 20)) : null;
+    }
+
+    @Override
+    public T get(String id) {
+        Node<T> node = cache.get(id);
+        if (frequencySketch != null) {
+            frequencySketch.increment(id);
+        }
+
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        node.accessTime = System.nanoTime();
+        return node.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        Node<T> node = new Node<>(id, object, Math.max(weigher.applyAsInt(object), 1));
+        if (frequencySketch == null) {
+            Node<T> previousNode = cache.put(id, node);
+            weight.addAndGet(previousNode != null ? node.weight - previousNode.weight : node.weight);
+            return;
+        }
+
+        frequencySketch.increment(id);
+        evictionLock.lock();
+        try {
+            Node<T> previousNode = cache.put(id, node);
+            if (previousNode != null) {
+                node.candidateIndex = previousNode.candidateIndex;
+                evictionCandidates.set(node.candidateIndex, node);
+                weight.addAndGet(node.weight - previousNode.weight);
+            } else {
+                node.candidateIndex = evictionCandidates.size();
+                evictionCandidates.add(node);
+                weight.addAndGet(node.weight);
+            }
+
+            if (weight.get() > maxWeight) {
+                evict(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        if (frequencySketch == null) {
+            Node<T> node = cache.remove(id);
+            if (node != null) {
+                weight.addAndGet(-node.weight);
+            }
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            Node<T> node = cache.remove(id);
+            if (node != null) {
+                removeEvictionCandidate(node);
+                weight.addAndGet(-node.weight);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (String id : cache.keySet()) {
+                remove(id);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        Collection<T> values = new ArrayList<>(cache.size());
+        for (Node<T> node : cache.values()) {
+            values.add(node.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Evicts sampled entries until the weight is within the limit again. Has to be called with the eviction lock held.
+     */
+    protected void evict(Node<T> addedNode) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (weight.get() > maxWeight) {
+            int candidateCount = evictionCandidates.size();
+            boolean sampleAll = candidateCount <= EVICTION_SAMPLE_SIZE;
+            int sampleSize = sampleAll ? candidateCount : EVICTION_SAMPLE_SIZE;
+
+            Node<T> victim = null;
+            int victimFrequency = Integer.MAX_VALUE;
+            for (int i = 0; i < sampleSize; i++) {
+                Node<T> candidate = evictionCandidates.get(sampleAll ? i : random.nextInt(candidateCount));
+                if (candidate == addedNode) {
+                    continue;
+                }
+
+                int frequency = frequencySketch.frequency(candidate.id);
+                if (victim == null || frequency < victimFrequency || (frequency == victimFrequency && candidate.accessTime < victim.accessTime)) {
+                    victim = candidate;
+                    victimFrequency = frequency;
+                }
+            }
+
+            if (victim == null) {
+                if (sampleAll) {
+                    // Only the added entry is left
+                    return;
+                }
+                continue;
+            }
+
+            cache.remove(victim.id, victim);
+            removeEvictionCandidate(victim);
+            weight.addAndGet(-victim.weight);
+            evictionCount.increment();
+            LOGGER.trace("Cache limit is reached, {} will be evicted", victim.id);
+        }
+    }
+
+    protected void removeEvictionCandidate(Node<T> node) {
+        int lastIndex = evictionCandidates.size() - 1;
+        Node<T> lastNode = evictionCandidates.remove(lastIndex);
+        if (lastNode != node) {
+            lastNode.candidateIndex = node.candidateIndex;
+            evictionCandidates.set(node.candidateIndex, lastNode);
+        }
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    protected static class Node<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final int weight;
+        protected volatile long accessTime = System.nanoTime();
+        protected int candidateIndex;
+
+        protected Node(String id, T value, int weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A count-min sketch with 4-bit counters, used to estimate how often a key was accessed recently.
+     * All counters are halved once the number of recorded accesses reaches ten times the table size, so that old popularity fades out.
+     */
+    protected static class FrequencySketch {
+
+        protected static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        protected static final long RESET_MASK = 0x7777777777777777L;
+
+        protected final AtomicLongArray table;
+        protected final int tableMask;
+        protected final int sampleSize;
+        protected final AtomicLong sampleCount = new AtomicLong();
+
+        protected FrequencySketch(int expectedSize) {
+            int tableSize = Integer.highestOneBit(Math.max(expectedSize, 16) - 1) << 1;
+            this.table = new AtomicLongArray(tableSize);
+            this.tableMask = tableSize - 1;
+            this.sampleSize = 10 * tableSize;
+        }
+
+        protected int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                long value = table.get(indexOf(hash, i));
+                int count = (int) ((value >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        protected void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+
+            if (added && sampleCount.incrementAndGet() >= sampleSize) {
+                reset();
+            }
+        }
+
+        protected boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            while (true) {
+                long value = table.get(index);
+                if ((value & mask) == mask) {
+                    return false;
+                }
+                if (table.compareAndSet(index, value, value + (1L << offset))) {
+                    return true;
+                }
+            }
+        }
+
+        protected synchronized void reset() {
+            if (sampleCount.get() < sampleSize) {
+                return;
+            }
+            for (int i = 0; i < table.length(); i++) {
+                long value = table.get(i);
+                table.set(i, (value >>> 1) & RESET_MASK);
+            }
+            sampleCount.set(sampleCount.get() / 2);
+        }
+
+        protected int indexOf(int hash, int i) {
+            long value = (hash + SEEDS[i]) * SEEDS[i];
+            value += value >>> 32;
+            return ((int) value) & tableMask;
+        }
+
+        protected int spread(int hash) {
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+            return (hash >>> 16) ^ hash;
+        }
+    }
+
+}
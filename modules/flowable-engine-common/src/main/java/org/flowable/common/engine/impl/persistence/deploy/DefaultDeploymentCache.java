@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +32,8 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDeploymentCache.class);
 
     protected Map<String, T> cache;
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
 
     /** Cache with no limit */
     public DefaultDeploymentCache() {
@@ -60,7 +63,13 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
 
     @Override
     public T get(String id) {
-        return cache.get(id);
+        T value = cache.get(id);
+        if (value != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return value;
     }
 
     @Override
@@ -93,4 +102,12 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
         return cache.size();
     }
 
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
 }
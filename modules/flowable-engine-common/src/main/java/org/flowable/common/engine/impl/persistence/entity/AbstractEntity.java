@@ -30,6 +30,9 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     
     protected Object originalPersistentState;
 
+    protected boolean dirtyTrackingEnabled;
+    protected boolean dirty;
+
     @Override
     public String getId() {
         return id;
@@ -87,6 +90,10 @@ public abstract class AbstractEntity implements Entity, HasRevision {
 
     @Override
     public Object getOriginalPersistentState() {
+        if (dirtyTrackingEnabled && originalPersistentState == null) {
+            // Nothing has been written yet, so the current state is still the original one
+            return getPersistentState();
+        }
         return originalPersistentState;
     }
 
@@ -94,4 +101,31 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    public void startDirtyTracking() {
+        this.dirtyTrackingEnabled = true;
+        this.dirty = false;
+        this.originalPersistentState = null;
+    }
+
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * To be called by {@link DirtyTrackingEntity} implementations before a persistent field is changed.
+     * The persistent state is captured on the first write only, so entities that are loaded but never changed don't pay for a snapshot.
+     */
+    protected void markDirty() {
+        if (dirtyTrackingEnabled && !dirty) {
+            if (originalPersistentState == null) {
+                originalPersistentState = getPersistentState();
+            }
+            dirty = true;
+        }
+    }
 }
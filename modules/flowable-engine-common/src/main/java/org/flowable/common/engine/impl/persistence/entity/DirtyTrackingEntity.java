@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that records writes to its persistent fields itself, so that the entity cache does not need to
+ * snapshot and diff the complete {@link #getPersistentState()} of every loaded entity to detect updates.
+ *
+ * Implementations must call {@link AbstractEntity#markDirty()} before changing any field that is part of the persistent state.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    /**
+     * Starts tracking writes from this point on. Called when the entity has been loaded from the database and is put in the entity cache.
+     */
+    void startDirtyTracking();
+
+    boolean isDirtyTrackingEnabled();
+
+    /**
+     * @return true if a persistent field has been written since {@link #startDirtyTracking()} was called.
+     */
+    boolean isDirty();
+
+}
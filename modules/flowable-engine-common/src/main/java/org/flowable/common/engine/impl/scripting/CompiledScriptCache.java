@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.script.CompiledScript;
+
+/**
+ * Bounded, least recently used cache of {@link CompiledScript compiled scripts}, keyed by the scripting language and
+ * the script source. Entries also carry the id of the definition (e.g. a process definition) the script belongs to,
+ * so that all scripts of a definition can be invalidated when it is redeployed or removed.
+ */
+public class CompiledScriptCache {
+
+    protected final int limit;
+    protected final Map<Key, CompiledScript> cache;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+
+    public CompiledScriptCache(int limit) {
+        this.limit = limit;
+        this.cache = new LinkedHashMap<Key, CompiledScript>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompiledScript> eldest) {
+                return size() > CompiledScriptCache.this.limit;
+            }
+        };
+    }
+
+    public CompiledScript get(String scopeDefinitionId, String language, String script) {
+        CompiledScript compiledScript;
+        synchronized (cache) {
+            compiledScript = cache.get(new Key(scopeDefinitionId, language, script));
+        }
+        if (compiledScript != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return compiledScript;
+    }
+
+    public void put(String scopeDefinitionId, String language, String script, CompiledScript compiledScript) {
+        synchronized (cache) {
+            cache.put(new Key(scopeDefinitionId, language, script), compiledScript);
+        }
+    }
+
+    /**
+     * Removes all the compiled scripts of the definition with the given id.
+     */
+    public void invalidate(String scopeDefinitionId) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> Objects.equals(key.scopeDefinitionId, scopeDefinitionId));
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    protected static class Key {
+
+        protected final String scopeDefinitionId;
+        protected final String language;
+        protected final String script;
+        protected final int hashCode;
+
+        public Key(String scopeDefinitionId, String language, String script) {
+            this.scopeDefinitionId = scopeDefinitionId;
+            this.language = language;
+            this.script = script;
+            this.hashCode = Objects.hash(scopeDefinitionId, language, script);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(scopeDefinitionId, key.scopeDefinitionId) && Objects.equals(language, key.language) && script.equals(key.script);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
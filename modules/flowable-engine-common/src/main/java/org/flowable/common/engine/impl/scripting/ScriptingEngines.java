@@ -13,11 +13,17 @@
 package org.flowable.common.engine.impl.scripting;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -26,6 +32,7 @@ import javax.script.ScriptException;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.variable.VariableContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +64,14 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * When set, scripts of cached engines implementing {@link Compilable} are compiled once and the compiled script is reused.
+     */
+    protected CompiledScriptCache compiledScriptCache;
+    protected Function<VariableContainer, String> scopeDefinitionIdResolver;
+    // The JUEL script engine binds the script variables when parsing, so its compiled scripts can't be shared
+    protected Set<String> nonCacheableCompiledScriptLanguages = new HashSet<>(Collections.singleton(DEFAULT_SCRIPTING_LANGUAGE));
+
     protected ScriptTraceEnhancer defaultTraceEnhancer;
 
     protected ScriptTraceListener scriptErrorListener = null;
@@ -86,7 +101,8 @@ public class ScriptingEngines {
     protected Object evaluate(ScriptEngine scriptEngine, ScriptEngineRequest request, Bindings bindings) {
         long startNanos = System.nanoTime();
         try {
-            Object scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, request);
+            Object scriptResult = compiledScript != null ? compiledScript.eval(bindings) : scriptEngine.eval(request.getScript(), bindings);
             if (scriptSuccessListener != null) {
                 DefaultScriptTrace scriptTrace = DefaultScriptTrace.successTrace(Duration.ofNanos(System.nanoTime() - startNanos), request);
                 enhanceScriptTrace(request, scriptTrace);
@@ -111,6 +127,32 @@ public class ScriptingEngines {
         }
     }
 
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, ScriptEngineRequest request) throws ScriptException {
+        String language = request.getLanguage();
+        // Only engines that are cached are safe to be used concurrently through their compiled scripts
+        if (compiledScriptCache == null || !(scriptEngine instanceof Compilable) || cachedEngines.get(language) != scriptEngine
+                || nonCacheableCompiledScriptLanguages.contains(language)) {
+            return null;
+        }
+
+        String scopeDefinitionId = scopeDefinitionIdResolver != null ? scopeDefinitionIdResolver.apply(request.getVariableContainer()) : null;
+        CompiledScript compiledScript = compiledScriptCache.get(scopeDefinitionId, language, request.getScript());
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) scriptEngine).compile(request.getScript());
+            compiledScriptCache.put(scopeDefinitionId, language, request.getScript(), compiledScript);
+        }
+        return compiledScript;
+    }
+
+    /**
+     * Removes the compiled scripts of the definition (e.g. a process definition) with the given id, if compiled scripts are cached.
+     */
+    public void invalidateCompiledScripts(String scopeDefinitionId) {
+        if (compiledScriptCache != null) {
+            compiledScriptCache.invalidate(scopeDefinitionId);
+        }
+    }
+
     protected void notifyScriptTraceListener(ScriptTraceListener listener, ScriptTrace scriptTrace) {
         try {
             listener.onScriptTrace(scriptTrace);
@@ -212,6 +254,33 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public CompiledScriptCache getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(CompiledScriptCache compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
+    public Function<VariableContainer, String> getScopeDefinitionIdResolver() {
+        return scopeDefinitionIdResolver;
+    }
+
+    /**
+     * Sets the function determining the id of the definition a script belongs to, used to invalidate compiled scripts per definition.
+     */
+    public void setScopeDefinitionIdResolver(Function<VariableContainer, String> scopeDefinitionIdResolver) {
+        this.scopeDefinitionIdResolver = scopeDefinitionIdResolver;
+    }
+
+    public Set<String> getNonCacheableCompiledScriptLanguages() {
+        return nonCacheableCompiledScriptLanguages;
+    }
+
+    public void setNonCacheableCompiledScriptLanguages(Set<String> nonCacheableCompiledScriptLanguages) {
+        this.nonCacheableCompiledScriptLanguages = nonCacheableCompiledScriptLanguages;
+    }
+
     public ScriptTraceEnhancer getDefaultTraceEnhancer() {
         return defaultTraceEnhancer;
     }
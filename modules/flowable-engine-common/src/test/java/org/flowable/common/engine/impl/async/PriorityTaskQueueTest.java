@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class PriorityTaskQueueTest {
+
+    @Test
+    void tasksTakenInPriorityOrder() throws Exception {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        PriorityTaskQueue queue = new PriorityTaskQueue(10);
+        queue.offer(new TestTask("low1", 10, executed));
+        queue.offer(() -> executed.add("default"));
+        queue.offer(new TestTask("high", 90, executed));
+        queue.offer(new TestTask("low2", 10, executed));
+
+        while (!queue.isEmpty()) {
+            queue.take().run();
+        }
+
+        assertThat(executed).containsExactly("high", "default", "low1", "low2");
+    }
+
+    @Test
+    void offerFailsWhenFull() {
+        PriorityTaskQueue queue = new PriorityTaskQueue(2);
+        Runnable task = () -> { };
+
+        assertThat(queue.offer(task)).isTrue();
+        assertThat(queue.remainingCapacity()).isEqualTo(1);
+        assertThat(queue.offer(new TestTask("other", 90, new CopyOnWriteArrayList<>()))).isTrue();
+        assertThat(queue.remainingCapacity()).isZero();
+        assertThat(queue.offer(task)).isFalse();
+
+        assertThat(queue.remove(task)).isTrue();
+        assertThat(queue.remainingCapacity()).isEqualTo(1);
+    }
+
+    @Test
+    void executorRunsQueuedTasksInPriorityOrder() throws Exception {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaxPoolSize(1);
+        configuration.setQueueSize(3);
+        configuration.setPriorityQueueEnabled(true);
+        configuration.setAwaitTerminationPeriod(Duration.ofSeconds(5));
+        DefaultAsyncTaskExecutor executor = new DefaultAsyncTaskExecutor(configuration);
+        executor.start();
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        try {
+            assertThat(executor.getThreadPoolQueue()).isInstanceOf(PriorityTaskQueue.class);
+
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            executor.execute(new TestTask("low", 10, executed));
+            executor.execute(new TestTask("default", PrioritizedRunnable.DEFAULT_PRIORITY, executed));
+            executor.execute(new TestTask("high", 90, executed));
+            assertThatThrownBy(() -> executor.execute(new TestTask("rejected", 100, executed)))
+                    .isInstanceOf(RejectedExecutionException.class);
+
+            release.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(executed).containsExactly("high", "default", "low");
+    }
+
+    protected static class TestTask implements PrioritizedRunnable {
+
+        protected final String name;
+        protected final int priority;
+        protected final List<String> executed;
+
+        public TestTask(String name, int priority, List<String> executed) {
+            this.name = name;
+            this.priority = priority;
+            this.executed = executed;
+        }
+
+        @Override
+        public void run() {
+            executed.add(name);
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+
+}
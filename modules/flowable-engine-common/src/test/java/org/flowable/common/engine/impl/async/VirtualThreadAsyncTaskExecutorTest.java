@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadAsyncTaskExecutorTest {
+
+    protected VirtualThreadAsyncTaskExecutor executor;
+    protected CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setVirtualThreads(true);
+        configuration.setMaxConcurrency(2);
+        configuration.setAwaitTerminationPeriod(Duration.ofSeconds(5));
+        executor = new VirtualThreadAsyncTaskExecutor(configuration);
+        executor.start();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void remainingCapacityIsBoundByMaxConcurrency() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        assertThat(executor.getRemainingCapacity()).isEqualTo(2);
+
+        executor.execute(() -> awaitRelease(started));
+        executor.execute(() -> awaitRelease(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(executor.getRemainingCapacity()).isZero();
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.getRemainingCapacity()).isEqualTo(2);
+    }
+
+    @Test
+    void submitCompletesWithResult() throws Exception {
+        CompletableFuture<String> future = executor.submit(() -> "done");
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+
+        AtomicInteger counter = new AtomicInteger();
+        executor.submit(() -> {
+            counter.incrementAndGet();
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void rejectsTasksAfterShutdown() {
+        executor.shutdown();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    protected void awaitRelease(CountDownLatch started) {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class DbSqlSessionFactoryTest {
+
+    @Test
+    void skipLockedIsSupportedByDatabaseType() {
+        assertThat(isSkipLockedSupported("postgres", null)).isTrue();
+        assertThat(isSkipLockedSupported("oracle", null)).isTrue();
+        assertThat(isSkipLockedSupported("mssql", null)).isTrue();
+        assertThat(isSkipLockedSupported("h2", null)).isFalse();
+        assertThat(isSkipLockedSupported("db2", null)).isFalse();
+    }
+
+    @Test
+    void skipLockedIsSupportedByMySqlVersion() throws SQLException {
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MySQL", "8.0.33", 8))).isTrue();
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MySQL", "5.7.42", 5))).isFalse();
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MariaDB", "10.6.12-MariaDB", 10))).isTrue();
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MariaDB", "10.5.19-MariaDB", 10))).isFalse();
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MariaDB", "11.0.2-MariaDB", 11))).isTrue();
+
+        // MariaDB reported through the MySQL driver
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MySQL", "5.5.5-10.11.2-MariaDB", 5))).isTrue();
+        assertThat(isSkipLockedSupported("mysql", mockConnection("MySQL", "5.5.5-10.4.28-MariaDB", 5))).isFalse();
+    }
+
+    @Test
+    void skipLockedSupportIsDeterminedOnceOrOverridden() throws SQLException {
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setDatabaseType("mysql");
+        assertThat(dbSqlSessionFactory.isSkipLockedSupported(mockConnection("MySQL", "5.7.42", 5))).isFalse();
+        assertThat(dbSqlSessionFactory.isSkipLockedSupported(mockConnection("MySQL", "8.0.33", 8))).isFalse();
+
+        dbSqlSessionFactory.setSkipLockedSupported(true);
+        assertThat(dbSqlSessionFactory.isSkipLockedSupported(mockConnection("MySQL", "5.7.42", 5))).isTrue();
+    }
+
+    protected boolean isSkipLockedSupported(String databaseType, Connection connection) {
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setDatabaseType(databaseType);
+        return dbSqlSessionFactory.isSkipLockedSupported(connection);
+    }
+
+    protected Connection mockConnection(String productName, String productVersion, int majorVersion) throws SQLException {
+        DatabaseMetaData databaseMetaData = Mockito.mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn(productName);
+        when(databaseMetaData.getDatabaseProductVersion()).thenReturn(productVersion);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(majorVersion);
+
+        Connection connection = Mockito.mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        return connection;
+    }
+
+}
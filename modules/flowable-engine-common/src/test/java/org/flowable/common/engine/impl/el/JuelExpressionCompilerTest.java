@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.junit.jupiter.api.Test;
+
+class JuelExpressionCompilerTest {
+
+    @Test
+    void compiledExpressionsEvaluateLikeInterpretedExpressions() {
+        DefaultExpressionManager interpretingManager = new DefaultExpressionManager(null);
+        DefaultExpressionManager compilingManager = new DefaultExpressionManager(null);
+        compilingManager.setExpressionCompiler(new JuelExpressionCompiler());
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 150);
+        variables.put("approved", true);
+        variables.put("name", "Kermit");
+        variables.put("comment", "");
+        variables.put("customer", new HashMap<>(Map.of("vip", true, "discount", 0.1)));
+        variables.put("items", List.of("a", "b"));
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(variables);
+
+        List<String> expressions = List.of(
+                "${amount > 100}", "${amount <= 100}", "${amount == 150 && approved}", "${amount != 150 || !approved}",
+                "${amount + 1}", "${amount - 1}", "${amount * 2}", "${amount / 4}", "${amount % 7}", "${-amount}",
+                "${approved ? 'yes' : 'no'}", "${empty comment}", "${not empty name}", "${(amount + 50) * 2 >= 400}",
+                "Hello ${name}, you owe ${amount}", "${customer.vip}", "${customer.discount * amount}",
+                "${items[1]}", "${variableContainer.getVariable('name')}", "plain text", "${null}");
+
+        for (String expressionText : expressions) {
+            Object interpreted = interpretingManager.createExpression(expressionText).getValue(variableContainer);
+            Object compiled = compilingManager.createExpression(expressionText).getValue(variableContainer);
+            assertThat(compiled).as(expressionText).isEqualTo(interpreted);
+        }
+
+        assertThat(compilingManager.getExpressionCompiler().getCompiledExpressionCount()).isPositive();
+        assertThat(compilingManager.getExpressionCompiler().getInterpretedExpressionCount()).isPositive();
+    }
+
+    @Test
+    void unsupportedConstructsAreInterpreted() {
+        JuelExpressionCompiler compiler = new JuelExpressionCompiler();
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null);
+        ValueExpression valueExpression = expressionManager.expressionFactory
+                .createValueExpression(new ParsingElContext(null), "${items[0]}", Object.class);
+
+        assertThat(compiler.compile(valueExpression)).isSameAs(valueExpression);
+        assertThat(compiler.getInterpretedExpressionCount()).isEqualTo(1);
+
+        valueExpression = expressionManager.expressionFactory
+                .createValueExpression(new ParsingElContext(null), "${items[0] == 'a' && amount > 1}", Object.class);
+        assertThat(compiler.compile(valueExpression)).isInstanceOf(CompiledValueExpression.class);
+    }
+
+    @Test
+    void unknownPropertyFails() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null);
+        expressionManager.setExpressionCompiler(new JuelExpressionCompiler());
+        Expression expression = expressionManager.createExpression("${unknown > 5}");
+
+        assertThatThrownBy(() -> expression.getValue(new VariableContainerWrapper(null)))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Unknown property used in expression: ${unknown > 5}");
+    }
+
+    @Test
+    void customVariableResolverIsNotBypassed() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(null) {
+
+            @Override
+            protected ELResolver createVariableElResolver() {
+                return new VariableContainerELResolver() {
+
+                    @Override
+                    public Object getValue(ELContext context, Object base, Object property) {
+                        if (base == null && "amount".equals(property)) {
+                            context.setPropertyResolved(true);
+                            return 42;
+                        }
+                        return super.getValue(context, base, property);
+                    }
+                };
+            }
+        };
+        expressionManager.setExpressionCompiler(new JuelExpressionCompiler());
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 150);
+        assertThat(expressionManager.createExpression("${amount + 0}").getValue(new VariableContainerWrapper(variables))).isEqualTo(42L);
+    }
+
+}
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityImpl;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class DefaultSharedEntityCacheTest {
+
+    @Test
+    void putAndGet() {
+        DefaultSharedEntityCache cache = new DefaultSharedEntityCache(10, 0);
+        PropertyEntityImpl property = createProperty("name", 1);
+        cache.put(property);
+
+        PropertyEntityImpl cachedProperty = cache.get(PropertyEntityImpl.class, "name");
+        assertThat(cachedProperty).isNotSameAs(property);
+        assertThat(cachedProperty.getName()).isEqualTo("name");
+        assertThat(cachedProperty.getValue()).isEqualTo("value");
+        assertThat(cache.get(PropertyEntityImpl.class, "other")).isNull();
+        assertThat(cache.get(ByteArrayEntityImpl.class, "name")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void changesAreNotVisibleThroughTheCache() {
+        DefaultSharedEntityCache cache = new DefaultSharedEntityCache(10, 0);
+        PropertyEntityImpl property = createProperty("name", 1);
+        cache.put(property);
+
+        // Changes to the instance that was put, or to an instance that was handed out, don't change the cached state
+        property.setValue("changed");
+        PropertyEntityImpl cachedProperty = cache.get(PropertyEntityImpl.class, "name");
+        cachedProperty.setValue("changed");
+        cachedProperty.setRevision(2);
+
+        PropertyEntityImpl otherCachedProperty = cache.get(PropertyEntityImpl.class, "name");
+        assertThat(otherCachedProperty).isNotSameAs(cachedProperty);
+        assertThat(otherCachedProperty.getValue()).isEqualTo("value");
+        assertThat(otherCachedProperty.getRevision()).isEqualTo(1);
+    }
+
+    @Test
+    void evict() {
+        DefaultSharedEntityCache cache = new DefaultSharedEntityCache(10, 0);
+        cache.put(createProperty("one", 1));
+        cache.put(createProperty("two", 1));
+        cache.put(createByteArray("three", 10));
+
+        cache.evict(PropertyEntityImpl.class, "one");
+        assertThat(cache.get(PropertyEntityImpl.class, "one")).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.evictAll(PropertyEntityImpl.class);
+        assertThat(cache.get(PropertyEntityImpl.class, "two")).isNull();
+        assertThat(cache.get(ByteArrayEntityImpl.class, "three")).isNotNull();
+        assertThat(cache.getWeight()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvictedWhenMaxWeightIsReached() {
+        DefaultSharedEntityCache cache = new DefaultSharedEntityCache(3, 0);
+        cache.put(createProperty("one", 1));
+        cache.put(createProperty("two", 1));
+        cache.put(createProperty("three", 1));
+        cache.get(PropertyEntityImpl.class, "one");
+
+        cache.put(createProperty("four", 1));
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(PropertyEntityImpl.class, "two")).isNull();
+        assertThat(cache.get(PropertyEntityImpl.class, "one")).isNotNull();
+
+        // 2 KB of content (and the serialized fields) weighs 3, so everything else needs to make room
+        cache.put(createByteArray("bytes", 2048));
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getWeight()).isEqualTo(3);
+
+        // Heavier than the cache itself, so it is never cached
+        cache.put(createByteArray("large", 4096));
+        assertThat(cache.get(ByteArrayEntityImpl.class, "large")).isNull();
+        assertThat(cache.get(ByteArrayEntityImpl.class, "bytes")).isNotNull();
+    }
+
+    @Test
+    void olderRevisionDoesNotReplaceNewerRevision() {
+        DefaultSharedEntityCache cache = new DefaultSharedEntityCache(10, 0);
+        PropertyEntityImpl newer = createProperty("name", 3);
+        cache.put(newer);
+        cache.put(createProperty("name", 2));
+
+        assertThat(cache.get(PropertyEntityImpl.class, "name").getRevision()).isEqualTo(3);
+
+        PropertyEntityImpl newest = createProperty("name", 4);
+        cache.put(newest);
+        assertThat(cache.get(PropertyEntityImpl.class, "name").getRevision()).isEqualTo(4);
+    }
+
+    @Test
+    void entriesExpire() throws InterruptedException {
+        DefaultSharedEntityCache cache = new DefaultSharedEntityCache(10, 50);
+        cache.put(createProperty("name", 1));
+        assertThat(cache.get(PropertyEntityImpl.class, "name")).isNotNull();
+
+        Thread.sleep(100);
+        assertThat(cache.get(PropertyEntityImpl.class, "name")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    protected PropertyEntityImpl createProperty(String name, int revision) {
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName(name);
+        property.setValue("value");
+        property.setRevision(revision);
+        return property;
+    }
+
+    protected ByteArrayEntityImpl createByteArray(String id, int size) {
+        ByteArrayEntityImpl byteArray = new ByteArrayEntityImpl();
+        byteArray.setId(id);
+        byteArray.setBytes(new byte[size]);
+        return byteArray;
+    }
+
+}
@@ -0,0 +1,150 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void unboundedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("id50")).isEqualTo("value50");
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.contains("id99")).isTrue();
+        assertThat(cache.getAll()).hasSize(100);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        cache.remove("id50");
+        assertThat(cache.contains("id50")).isFalse();
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void leastFrequentlyUsedEntryIsEvicted() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("one", "1");
+        cache.add("two", "2");
+        cache.add("three", "3");
+        for (int i = 0; i < 5; i++) {
+            cache.get("one");
+            cache.get("three");
+        }
+
+        cache.add("four", "4");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("two")).isFalse();
+        assertThat(cache.contains("one")).isTrue();
+        assertThat(cache.contains("three")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void frequentlyUsedEntriesAreKeptWhenSamplingLargeCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 10; i++) {
+            cache.add("hot" + i, "hot");
+            for (int j = 0; j < 10; j++) {
+                cache.get("hot" + i);
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            cache.add("cold" + i, "cold");
+            cache.remove("cold" + (i - 500));
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getWeight()).isEqualTo(100);
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.contains("hot" + i)).isTrue();
+        }
+        assertThat(cache.contains("cold999")).isTrue();
+    }
+
+    @Test
+    void addedEntryIsNeverEvictedByItsOwnAddition() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("one", "1");
+        cache.add("two", "2");
+        for (int i = 0; i < 10; i++) {
+            cache.get("one");
+            cache.get("two");
+        }
+
+        cache.add("three", "3");
+        assertThat(cache.get("three")).isEqualTo("3");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void entriesAreWeighed() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10, String::length);
+        cache.add("a", "xxxx");
+        cache.add("b", "xxxx");
+        assertThat(cache.getWeight()).isEqualTo(8);
+
+        cache.add("a", "xx");
+        assertThat(cache.getWeight()).isEqualTo(6);
+
+        cache.add("c", "xxxxxx");
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("c")).isEqualTo("xxxxxx");
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<Integer> cache = new ConcurrentDeploymentCache<>(50);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String id = "id" + ((i * 7 + offset) % 200);
+                        if (cache.get(id) == null) {
+                            cache.add(id, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getWeight()).isEqualTo(cache.size());
+    }
+
+}
@@ -224,6 +224,21 @@ public interface ManagementService {
      */
     void bulkMoveDeadLetterJobsToHistoryJobs(Collection<String> jobIds, int retries);
 
+    /**
+     * Moves all the dead letter jobs matching the given query back to be executable (or history) jobs, resetting their retries.
+     * The jobs are moved in chunks of the given size, each chunk in its own transaction. Message and timer jobs are moved with
+     * set based statements, taking over the exception stacktrace without reading it, and no entity events are dispatched for them.
+     * The progress is reported through a batch of type {@link Batch#DEAD_LETTER_JOB_MOVE_TYPE}, every moved chunk is a completed batch part.
+     * Jobs that cannot be moved, e.g. because their execution no longer exists, stay dead letter jobs and are recorded in failed batch parts.
+     * The batch is completed once all matching jobs were handled, with status failed when any job could not be moved.
+     *
+     * @param query the query selecting the dead letter jobs to move, cannot be null.
+     * @param retries the number of retries (value greater than 0) which will be set on the jobs.
+     * @param chunkSize the maximum number of jobs moved in one transaction.
+     * @return the id of the batch reporting the progress
+     */
+    String bulkMoveDeadLetterJobs(DeadLetterJobQuery query, int retries, int chunkSize);
+
     /**
      * Moves a suspended job from the suspended letter job table back to be an executable job. The retries are untouched.
      * 
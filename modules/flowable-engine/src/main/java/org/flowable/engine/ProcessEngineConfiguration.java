@@ -150,6 +150,11 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected Duration cleanInstancesEndedAfter = Duration.ofDays(365);
     protected int cleanInstancesBatchSize = 100;
+    /**
+     * The number of end time partitions in which the history cleanup deletes the finished process instances in parallel.
+     * When 0 (the default) the cleanup deletes the instances sequentially, one batch at a time.
+     */
+    protected int cleanInstancesPartitions = 0;
     protected HistoryCleaningManager historyCleaningManager;
 
 
@@ -851,6 +856,15 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public int getCleanInstancesPartitions() {
+        return cleanInstancesPartitions;
+    }
+
+    public ProcessEngineConfiguration setCleanInstancesPartitions(int cleanInstancesPartitions) {
+        this.cleanInstancesPartitions = cleanInstancesPartitions;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
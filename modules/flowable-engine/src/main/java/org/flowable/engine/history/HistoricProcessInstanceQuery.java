@@ -537,4 +537,18 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      * Instruct localization to fallback to more general locales including the default locale of the JVM if the specified locale is not found.
      */
     HistoricProcessInstanceQuery withLocalizationFallback();
+
+    /**
+     * Perform the deletion of the finished process instances matching this query in independent partitions.
+     * The end time range of the matching instances is split into the given number of partitions,
+     * each partition is deleted in chunks of the given batch size by its own (non-exclusive) jobs,
+     * which means that the partitions can be deleted in parallel by different nodes.
+     * Unfinished process instances are never deleted by this method.
+     *
+     * @param numberOfPartitions the maximum number of partitions in which the deletion is split
+     * @param batchSize the size of each batch deletion within a partition
+     * @param batchName the name of the batch
+     * @return the id the batch that is doing the deletion
+     */
+    String deleteInPartitionsUsingBatch(int numberOfPartitions, int batchSize, String batchName);
 }
@@ -1053,6 +1053,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return commandExecutor.execute(new DeleteHistoricProcessInstancesUsingBatchesCmd(this, batchSize, batchName, true));
     }
 
+    @Override
+    public String deleteInPartitionsUsingBatch(int numberOfPartitions, int batchSize, String batchName) {
+        return commandExecutor.execute(new DeleteHistoricProcessInstancesUsingBatchesCmd(this, batchSize, batchName, numberOfPartitions));
+    }
+
     public String getBusinessKey() {
         return businessKey;
     }
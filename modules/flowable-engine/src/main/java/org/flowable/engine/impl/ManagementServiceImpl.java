@@ -23,6 +23,7 @@ import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchPartBuilder;
 import org.flowable.batch.api.BatchPartQuery;
 import org.flowable.batch.api.BatchQuery;
+import org.flowable.batch.api.BatchService;
 import org.flowable.batch.service.BatchPartBuilderImpl;
 import org.flowable.batch.service.impl.BatchBuilderImpl;
 import org.flowable.batch.service.impl.BatchPartQueryImpl;
@@ -85,6 +86,8 @@ import org.flowable.job.service.impl.SuspendedJobQueryImpl;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.cmd.BulkMoveDeadLetterJobsCmd;
 import org.flowable.job.service.impl.cmd.BulkMoveDeadLetterJobsToHistoryJobsCmd;
+import org.flowable.job.service.impl.cmd.CompleteDeadLetterJobMoveBatchCmd;
+import org.flowable.job.service.impl.cmd.DeadLetterJobMoveChunkResult;
 import org.flowable.job.service.impl.cmd.DeleteDeadLetterJobCmd;
 import org.flowable.job.service.impl.cmd.DeleteExternalWorkerJobCmd;
 import org.flowable.job.service.impl.cmd.DeleteHistoryJobCmd;
@@ -99,6 +102,7 @@ import org.flowable.job.service.impl.cmd.GetJobExceptionStacktraceCmd;
 import org.flowable.job.service.impl.cmd.JobType;
 import org.flowable.job.service.impl.cmd.MoveDeadLetterJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.MoveDeadLetterJobToHistoryJobCmd;
+import org.flowable.job.service.impl.cmd.MoveDeadLetterJobsBatchPartCmd;
 import org.flowable.job.service.impl.cmd.MoveJobToDeadLetterJobCmd;
 import org.flowable.job.service.impl.cmd.MoveSuspendedJobToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerToExecutableJobCmd;
@@ -193,6 +197,52 @@ public class ManagementServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new BulkMoveDeadLetterJobsToHistoryJobsCmd(jobIds, retries, configuration.getJobServiceConfiguration()));
     }
 
+    @Override
+    public String bulkMoveDeadLetterJobs(DeadLetterJobQuery query, int retries, int chunkSize) {
+        if (query == null) {
+            throw new FlowableIllegalArgumentException("query is null");
+        }
+        if (chunkSize <= 0) {
+            throw new FlowableIllegalArgumentException("chunkSize has to be larger than 0");
+        }
+        if (retries < 1) {
+            throw new FlowableIllegalArgumentException("retries has to be at least 1");
+        }
+
+        Batch batch = createBatchBuilder()
+                .batchType(Batch.DEAD_LETTER_JOB_MOVE_TYPE)
+                .status(MoveDeadLetterJobsBatchPartCmd.STATUS_IN_PROGRESS)
+                .batchDocumentJson(configuration.getObjectMapper().createObjectNode()
+                        .put("retries", retries)
+                        .put("chunkSize", chunkSize)
+                        .toString())
+                .create();
+
+        // Every chunk is moved in its own transaction, which keeps the transactions small and makes the progress visible in the batch
+        BatchService batchService = configuration.getBatchServiceConfiguration().getBatchService();
+        String batchStatus = MoveDeadLetterJobsBatchPartCmd.STATUS_FAILED;
+        try {
+            boolean jobsSkipped = false;
+            DeadLetterJobMoveChunkResult chunkResult;
+            do {
+                chunkResult = commandExecutor.execute(new MoveDeadLetterJobsBatchPartCmd(batch.getId(), (DeadLetterJobQueryImpl) query, retries, chunkSize,
+                        batchService, configuration.getJobServiceConfiguration()));
+                jobsSkipped |= !chunkResult.getSkippedJobIds().isEmpty();
+            } while (chunkResult.getSelectedJobCount() == chunkSize);
+
+            // Jobs that could not be moved are recorded in failed batch parts, the batch is only completed when all jobs were moved
+            if (!jobsSkipped) {
+                batchStatus = MoveDeadLetterJobsBatchPartCmd.STATUS_COMPLETED;
+            }
+
+        } finally {
+            // A failing chunk must not leave the batch in progress forever
+            commandExecutor.execute(new CompleteDeadLetterJobMoveBatchCmd(batch.getId(), batchStatus, batchService));
+        }
+
+        return batch.getId();
+    }
+
     @Override
     public Job moveSuspendedJobToExecutableJob(String jobId) {
         return commandExecutor.execute(new MoveSuspendedJobToExecutableJobCmd(jobId, configuration.getJobServiceConfiguration()));
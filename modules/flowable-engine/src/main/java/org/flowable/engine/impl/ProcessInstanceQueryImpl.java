@@ -15,8 +15,11 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -32,6 +35,7 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryValue;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -75,6 +79,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected boolean withJobException;
     protected String name;
     protected String nameLike;
@@ -500,6 +505,16 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public ProcessInstanceQuery withJobException() {
         this.withJobException = true;
@@ -846,7 +861,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
             processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
         }
         
-        if (includeProcessVariables) {
+        if (includeProcessVariables && isLoadVariablesSeparately()) {
+            processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
+            addQueryVariables(processInstances);
+        } else if (includeProcessVariables) {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceAndVariablesByQueryCriteria(this);
         } else {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
@@ -865,9 +883,32 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    /**
+     * Loads the process variables of the given page of process instances with a single query, instead of joining them into the process instance query.
+     */
+    protected void addQueryVariables(List<ProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+
+        Map<String, ExecutionEntity> processInstancesById = new LinkedHashMap<>();
+        for (ProcessInstance processInstance : processInstances) {
+            processInstancesById.put(processInstance.getId(), (ExecutionEntity) processInstance);
+        }
+
+        List<VariableInstanceEntity> variables = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .findVariableInstancesByExecutionIds(processInstancesById.keySet(), includeProcessVariableNames);
+        for (VariableInstanceEntity variable : variables) {
+            ExecutionEntity processInstance = processInstancesById.get(variable.getExecutionId());
+            if (processInstance != null) {
+                processInstance.getQueryVariables().add(variable);
+            }
+        }
+    }
+
     @Override
     public void enhanceCachedValue(ExecutionEntity processInstance) {
-        if (includeProcessVariables) {
+        if (includeProcessVariables && !isLoadVariablesSeparately()) {
             processInstance.getQueryVariables().addAll(processEngineConfiguration.getVariableServiceConfiguration()
                     .getVariableService().findVariableInstancesByExecutionId(processInstance.getId()));
         }
@@ -1049,6 +1090,15 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public boolean isLoadVariablesSeparately() {
+        return (processEngineConfiguration != null && processEngineConfiguration.getPerformanceSettings().isEnableTwoPhaseVariableLoading())
+                || includeProcessVariableNames != null;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
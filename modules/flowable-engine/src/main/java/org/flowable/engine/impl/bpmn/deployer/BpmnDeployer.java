@@ -35,6 +35,7 @@ import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.DynamicBpmnService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -92,6 +93,7 @@ public class BpmnDeployer implements EngineDeployer {
                 setProcessDefinitionVersionsAndIds(parsedDeployment, mapOfNewProcessDefinitionToPreviousVersion);
                 persistProcessDefinitionsAndAuthorizations(parsedDeployment);
                 updateTimersAndEvents(parsedDeployment, mapOfNewProcessDefinitionToPreviousVersion);
+                invalidateCompiledScriptsOfPreviousVersions(mapOfNewProcessDefinitionToPreviousVersion);
 
             } else {
                 Map<ProcessDefinitionEntity, ProcessDefinitionEntity> mapOfNewProcessDefinitionToPreviousDerivedVersion = 
@@ -297,6 +299,19 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * A new version supersedes the previous one, so its compiled scripts don't need to stay cached.
+     * Running instances of the previous version will compile them again when needed.
+     */
+    protected void invalidateCompiledScriptsOfPreviousVersions(Map<ProcessDefinitionEntity, ProcessDefinitionEntity> mapNewToOldProcessDefinitions) {
+        ScriptingEngines scriptingEngines = CommandContextUtil.getProcessEngineConfiguration().getScriptingEngines();
+        if (scriptingEngines != null) {
+            for (ProcessDefinitionEntity previousProcessDefinition : mapNewToOldProcessDefinitions.values()) {
+                scriptingEngines.invalidateCompiledScripts(previousProcessDefinition.getId());
+            }
+        }
+    }
+
     protected void dispatchProcessDefinitionEntityInitializedEvent(ParsedDeployment parsedDeployment) {
         CommandContext commandContext = Context.getCommandContext();
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
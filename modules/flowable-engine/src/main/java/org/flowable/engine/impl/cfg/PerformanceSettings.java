@@ -61,6 +61,13 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * When true, the variables included in process instance and task query results are not fetched by outer joining them to the query,
+     * but in a separate query for the ids of the returned page. This avoids multiplying the result rows by the number of variables.
+     * Queries that restrict the included variables by name always load them in this way.
+     */
+    protected boolean enableTwoPhaseVariableLoading = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +116,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableTwoPhaseVariableLoading() {
+        return enableTwoPhaseVariableLoading;
+    }
+
+    public void setEnableTwoPhaseVariableLoading(boolean enableTwoPhaseVariableLoading) {
+        this.enableTwoPhaseVariableLoading = enableTwoPhaseVariableLoading;
+    }
+
 }
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -61,6 +62,7 @@ import org.flowable.common.engine.impl.agenda.AgendaFutureMaxWaitTimeoutProvider
 import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -74,6 +76,7 @@ import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsExpressionFunction;
@@ -101,15 +104,18 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataManager;
 import org.flowable.common.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -231,6 +237,7 @@ import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceIdsJo
 import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceStatusJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsStatusJobHandler;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesPartitionJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesSequentialJobHandler;
 import org.flowable.engine.impl.dynamic.DefaultDynamicStateManager;
 import org.flowable.engine.impl.el.FlowableDateFunctionDelegate;
@@ -291,6 +298,7 @@ import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
@@ -306,6 +314,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
@@ -342,6 +351,7 @@ import org.flowable.engine.impl.repository.DefaultProcessDefinitionLocalizationM
 import org.flowable.engine.impl.repository.DeploymentProcessDefinitionDeletionManager;
 import org.flowable.engine.impl.repository.DeploymentProcessDefinitionDeletionManagerImpl;
 import org.flowable.engine.impl.scripting.ProcessEngineScriptTraceEnhancer;
+import org.flowable.engine.impl.scripting.ProcessScopeDefinitionIdResolver;
 import org.flowable.engine.impl.scripting.VariableScopeResolverFactory;
 import org.flowable.engine.impl.util.ProcessInstanceHelper;
 import org.flowable.engine.impl.variable.BpmnAggregatedVariableType;
@@ -427,6 +437,7 @@ import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
 import org.flowable.variable.service.impl.types.NullType;
 import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.SerializableVariableCodec;
 import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
@@ -559,8 +570,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
+    /**
+     * If true, a {@link ConcurrentDeploymentCache} is used as process definition cache, so that lookups of process definitions
+     * on different threads don't contend on one lock.
+     */
+    protected boolean enableConcurrentProcessDefinitionCache;
+    /**
+     * Only used with the concurrent process definition cache: when set, the cache is bounded by the total number of flow elements
+     * of the cached process definitions, instead of by the number of process definitions ({@link #processDefinitionCacheLimit}).
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
+    /**
+     * The time (in milliseconds) the process definition info cache returns an entry without checking its revision in the database.
+     * By default (0), the revision is checked on every access. Changes done through the {@link org.flowable.engine.DynamicBpmnService}
+     * of this engine are always visible immediately; changes done by other engines in a cluster become visible once the entry expires.
+     */
+    protected long processDefinitionInfoCacheTimeToLive;
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
     protected int knowledgeBaseCacheLimit = -1;
@@ -636,9 +663,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
 
     protected List<String> enabledJobCategories;
+
+    /**
+     * The priority of the jobs per job handler type, for the jobs that don't get a priority from the model (flowable:jobPriority).
+     * Can e.g. be used to give background jobs such as the history cleanup a lower priority than the jobs continuing instances.
+     */
+    protected Map<String, Integer> jobHandlerPriorities;
+
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
 
+    /**
+     * Acquire async, timer and external worker jobs with {@code SELECT ... FOR UPDATE SKIP LOCKED} (or {@code READPAST} on SQL Server)
+     * when the database supports it (PostgreSQL, MySQL 8, MariaDB 10.6, Oracle and SQL Server), so that multiple nodes acquiring jobs concurrently
+     * never select the same jobs. On other databases the regular acquisition is used.
+     */
+    protected boolean skipLockedJobAcquisitionEnabled;
+
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
     /**
@@ -706,6 +747,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * The codec used by the 'serializable' variable type to write values, e.g. the {@link org.flowable.variable.service.impl.types.CompactBinaryVariableCodec}.
+     * When not set, values are written with Java serialization. Existing values are always read, whatever they were written with.
+     */
+    protected SerializableVariableCodec serializableVariableCodec;
+
+    /**
+     * The minimum size, in bytes, from which byte array values of variables are stored compressed. By default -1, which disables compression.
+     */
+    protected int variableByteArrayCompressionThreshold = -1;
+
+    /**
+     * The maximum number of variable values kept across commands, so variables that did not change are not fetched and parsed again in every command.
+     * A kept value is only used for a variable with the same revision. By default -1, which disables keeping values.
+     * Only engines with kept values bump the revision of a variable when its byte array value changes,
+     * so every engine sharing the database has to enable this, otherwise stale values can be served.
+     */
+    protected int variableValueSnapshotCacheLimit = -1;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -718,6 +778,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * This flag determines whether JSON objects stored in variables of the type 'json' and 'longJson' are parsed lazily.
+     * When true, reading such a variable returns an object node that only parses the fields that are accessed, e.g. by an expression like ${order.customer.id}.
+     * The complete object is only parsed when it is iterated, changed or serialized.
+     */
+    protected boolean jsonVariableTypeLazyParsing;
+
     /**
      * Whether the Parallel Multi instance should perform the leave operation through an async exclusive job.
      * When this is true then non exclusive parallel multi instances can run in non exclusive asynchronously without an exception being thrown.
@@ -736,11 +803,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected List<ResolverFactory> resolverFactories;
     protected Collection<ResolverFactory> preDefaultResolverFactories;
     protected Collection<ResolverFactory> postDefaultResolverFactories;
+
+    /**
+     * Whether scripts of script engines implementing {@link javax.script.Compilable} are compiled once and reused,
+     * instead of being parsed on every evaluation. Note that engines can report script errors slightly differently
+     * for compiled scripts (e.g. Groovy wraps the cause in a single {@link javax.script.ScriptException}).
+     */
+    protected boolean isCompiledScriptCacheEnabled;
+    protected int compiledScriptCacheSize = 1000;
     // END SCRIPTING
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * Whether parsed expressions are compiled into closure trees instead of being interpreted on every evaluation.
+     * Constructs that can't be compiled are still interpreted.
+     */
+    protected boolean isExpressionCompilationEnabled;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -986,6 +1067,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initAsyncTaskInvoker();
         initAsyncExecutor();
         initAsyncHistoryExecutor();
+        initEngineMetrics();
 
         configuratorsAfterInit();
         afterInitTaskServiceConfiguration();
@@ -1397,6 +1479,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    @Override
+    protected Collection<Class<? extends Entity>> getDefaultSharedEntityCacheClasses() {
+        return Arrays.asList(ProcessDefinitionEntityImpl.class, DeploymentEntityImpl.class);
+    }
+
     public void configureVariableServiceConfiguration() {
         this.variableServiceConfiguration = instantiateVariableServiceConfiguration();
         this.variableServiceConfiguration.setHistoryLevel(this.historyLevel);
@@ -1413,6 +1500,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setVariableByteArrayCompressionThreshold(this.getVariableByteArrayCompressionThreshold());
+        this.variableServiceConfiguration.setVariableValueSnapshotCacheLimit(this.getVariableValueSnapshotCacheLimit());
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
     }
 
@@ -1524,6 +1613,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableTwoPhaseVariableLoading(this.performanceSettings.isEnableTwoPhaseVariableLoading());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
 
@@ -1549,6 +1639,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
             this.jobServiceConfiguration.setExpressionManager(this.expressionManager);
+            this.jobServiceConfiguration.setEngineMetrics(this.engineMetrics);
 
             List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
             if (customAsyncRunnableExecutionExceptionHandlers != null) {
@@ -1590,12 +1681,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setHistoryJobProcessors(this.historyJobProcessors);
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.skipLockedJobAcquisitionEnabled);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
             
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
 
+            if (jobHandlerPriorities != null) {
+                this.jobServiceConfiguration.getJobHandlerPriorities().putAll(jobHandlerPriorities);
+            }
+
             this.jobServiceConfiguration.setConfigurators(jobServiceConfigurators);
         }
     }
@@ -1701,7 +1797,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (enableConcurrentProcessDefinitionCache) {
+                if (processDefinitionCacheMaxWeight > 0) {
+                    processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheMaxWeight,
+                            cacheEntry -> cacheEntry.getProcess() != null ? cacheEntry.getProcess().getFlowElementMap().size() : 1);
+                } else {
+                    processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit);
+                }
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1716,6 +1819,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            ((ProcessDefinitionInfoCache) processDefinitionInfoCache).setTimeToLive(processDefinitionInfoCacheTimeToLive);
         }
     }
 
@@ -2031,6 +2135,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         DeleteHistoricProcessInstancesSequentialJobHandler deleteHistoricProcessInstancesSequentialJobHandler = new DeleteHistoricProcessInstancesSequentialJobHandler();
         jobHandlers.put(deleteHistoricProcessInstancesSequentialJobHandler.getType(), deleteHistoricProcessInstancesSequentialJobHandler);
 
+        DeleteHistoricProcessInstancesPartitionJobHandler deleteHistoricProcessInstancesPartitionJobHandler = new DeleteHistoricProcessInstancesPartitionJobHandler();
+        jobHandlers.put(deleteHistoricProcessInstancesPartitionJobHandler.getType(), deleteHistoricProcessInstancesPartitionJobHandler);
+
         DeleteHistoricProcessInstanceIdsStatusJobHandler deleteHistoricProcessInstanceStatusJobHandler = new DeleteHistoricProcessInstanceIdsStatusJobHandler();
         jobHandlers.put(deleteHistoricProcessInstanceStatusJobHandler.getType(), deleteHistoricProcessInstanceStatusJobHandler);
 
@@ -2058,6 +2165,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // /////////////////////////////////////////////////////////////
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && getOrCreateAsyncExecutorTaskExecutorConfiguration().isVirtualThreads()) {
+            VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
+            virtualThreadAsyncTaskExecutor.setThreadFactory(asyncExecutorThreadFactory);
+
+            virtualThreadAsyncTaskExecutor.start();
+            this.shutdownAsyncTaskExecutor = true;
+
+            this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
 
@@ -2113,6 +2230,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
 
     protected void initAsyncHistoryTaskExecutor() {
+        if (this.asyncHistoryTaskExecutor == null && getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().isVirtualThreads()) {
+            VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor(getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration());
+
+            virtualThreadAsyncTaskExecutor.start();
+            shutdownAsyncHistoryTaskExecutor = true;
+
+            this.asyncHistoryTaskExecutor = virtualThreadAsyncTaskExecutor;
+        }
+
         if (this.asyncHistoryTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor(getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration());
 
@@ -2169,6 +2295,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    @Override
+    public void initEngineMetrics() {
+        super.initEngineMetrics();
+        if (engineMetrics != null) {
+            registerDeploymentCacheGauges("processDefinitionCache", processDefinitionCache);
+            registerAsyncTaskExecutorGauges("asyncExecutor", () -> asyncExecutor != null ? asyncExecutor.getTaskExecutor() : null);
+            if (asyncHistoryExecutor != null) {
+                registerAsyncTaskExecutorGauges("asyncHistoryExecutor", asyncHistoryExecutor::getTaskExecutor);
+            }
+        }
+    }
+
     protected AsyncJobExecutorConfiguration getOrCreateAsyncHistoryExecutorConfiguration() {
         if (asyncHistoryExecutorConfiguration == null) {
             asyncHistoryExecutorConfiguration = new AsyncJobExecutorConfiguration();
@@ -2260,14 +2398,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeLazyParsing));
             // longJsonType only needed for reading purposes
-            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeLazyParsing));
             variableTypes.addType(new ParallelMultiInstanceLoopVariableType(this));
             variableTypes.addType(new BpmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableCodec));
 
         } else {
             if (customPreVariableTypes != null) {
@@ -2353,6 +2491,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new ProcessEngineScriptTraceEnhancer());
+            if (isCompiledScriptCacheEnabled) {
+                scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheSize));
+                scriptingEngines.setScopeDefinitionIdResolver(new ProcessScopeDefinitionIdResolver());
+            }
         }
     }
 
@@ -2365,6 +2507,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (isExpressionCompilationEnabled) {
+                processExpressionManager.setExpressionCompiler(new JuelExpressionCompiler());
+            }
+
             if (preDefaultELResolvers != null) {
                 preDefaultELResolvers.forEach(processExpressionManager::addPreDefaultResolver);
             }
@@ -3192,6 +3338,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public SerializableVariableCodec getSerializableVariableCodec() {
+        return serializableVariableCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setSerializableVariableCodec(SerializableVariableCodec serializableVariableCodec) {
+        this.serializableVariableCodec = serializableVariableCodec;
+        return this;
+    }
+
+    public int getVariableByteArrayCompressionThreshold() {
+        return variableByteArrayCompressionThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableByteArrayCompressionThreshold(int variableByteArrayCompressionThreshold) {
+        this.variableByteArrayCompressionThreshold = variableByteArrayCompressionThreshold;
+        return this;
+    }
+
+    public int getVariableValueSnapshotCacheLimit() {
+        return variableValueSnapshotCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableValueSnapshotCacheLimit(int variableValueSnapshotCacheLimit) {
+        this.variableValueSnapshotCacheLimit = variableValueSnapshotCacheLimit;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -3201,6 +3374,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isJsonVariableTypeLazyParsing() {
+        return jsonVariableTypeLazyParsing;
+    }
+
+    public ProcessEngineConfigurationImpl setJsonVariableTypeLazyParsing(boolean jsonVariableTypeLazyParsing) {
+        this.jsonVariableTypeLazyParsing = jsonVariableTypeLazyParsing;
+        return this;
+    }
+
     public boolean isParallelMultiInstanceAsyncLeave() {
         return parallelMultiInstanceAsyncLeave;
     }
@@ -3288,6 +3470,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public boolean isExpressionCacheEnabled() {
         return isExpressionCacheEnabled;
     }
@@ -3306,6 +3506,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isExpressionCompilationEnabled() {
+        return isExpressionCompilationEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCompilationEnabled(boolean isExpressionCompilationEnabled) {
+        this.isExpressionCompilationEnabled = isExpressionCompilationEnabled;
+        return this;
+    }
+
     public int getExpressionTextLengthCacheLimit() {
         return expressionTextLengthCacheLimit;
     }
@@ -3739,6 +3948,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableConcurrentProcessDefinitionCache() {
+        return enableConcurrentProcessDefinitionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableConcurrentProcessDefinitionCache(boolean enableConcurrentProcessDefinitionCache) {
+        this.enableConcurrentProcessDefinitionCache = enableConcurrentProcessDefinitionCache;
+        return this;
+    }
+
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3753,6 +3980,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionInfoCacheTimeToLive() {
+        return processDefinitionInfoCacheTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheTimeToLive(long processDefinitionInfoCacheTimeToLive) {
+        this.processDefinitionInfoCacheTimeToLive = processDefinitionInfoCacheTimeToLive;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionInfoCacheObject> getProcessDefinitionInfoCache() {
         return processDefinitionInfoCache;
     }
@@ -3994,6 +4230,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableTwoPhaseVariableLoading(boolean enableTwoPhaseVariableLoading) {
+        this.performanceSettings.setEnableTwoPhaseVariableLoading(enableTwoPhaseVariableLoading);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -4771,6 +5012,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreads() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().isVirtualThreads();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreads(boolean asyncExecutorVirtualThreads) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setVirtualThreads(asyncExecutorVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrency() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().getMaxConcurrency();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrency(int asyncExecutorMaxConcurrency) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setMaxConcurrency(asyncExecutorMaxConcurrency);
+        return this;
+    }
+
     public int getAsyncExecutorThreadPoolQueueSize() {
         return getOrCreateAsyncExecutorTaskExecutorConfiguration().getQueueSize();
     }
@@ -5057,6 +5316,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public Map<String, Integer> getJobHandlerPriorities() {
+        return jobHandlerPriorities;
+    }
+
+    public ProcessEngineConfigurationImpl setJobHandlerPriorities(Map<String, Integer> jobHandlerPriorities) {
+        this.jobHandlerPriorities = jobHandlerPriorities;
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl addJobHandlerPriority(String jobHandlerType, int priority) {
+        if (jobHandlerPriorities == null) {
+            jobHandlerPriorities = new HashMap<>();
+        }
+
+        jobHandlerPriorities.put(jobHandlerType, priority);
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
@@ -5066,6 +5343,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
@@ -5119,6 +5405,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorVirtualThreads() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().isVirtualThreads();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorVirtualThreads(boolean asyncHistoryExecutorVirtualThreads) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setVirtualThreads(asyncHistoryExecutorVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorMaxConcurrency() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().getMaxConcurrency();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorMaxConcurrency(int asyncHistoryExecutorMaxConcurrency) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setMaxConcurrency(asyncHistoryExecutorMaxConcurrency);
+        return this;
+    }
+
     public int getAsyncHistoryExecutorThreadPoolQueueSize() {
         return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().getQueueSize();
     }
@@ -47,6 +47,7 @@ public class BatchDeleteProcessConfig {
     protected final BatchPart batchPart;
     protected final String error;
     protected final boolean sequentialExecution;
+    protected boolean partitionedExecution;
     protected int batchSize;
     protected HistoricProcessInstanceQuery query;
 
@@ -77,6 +78,10 @@ public class BatchDeleteProcessConfig {
         return sequentialExecution;
     }
 
+    public boolean isPartitionedExecution() {
+        return partitionedExecution;
+    }
+
     public int getBatchSize() {
         return batchSize;
     }
@@ -121,6 +126,26 @@ public class BatchDeleteProcessConfig {
         config.batchSize = batchSizeNode.intValue();
         config.query = query;
 
+        JsonNode partitionsNode = batchConfiguration.path("partitions");
+        if (partitionsNode.isArray()) {
+            // In the partitioned execution every batch part only deletes the finished instances within its own end time range
+            JsonNode partitionNode = partitionsNode.path(Integer.parseInt(batchPart.getSearchKey()));
+            if (partitionNode.isMissingNode()) {
+                return new BatchDeleteProcessConfig(batch, batchPart,
+                        prepareFailedResultAsJsonString("Batch configuration has no partition " + batchPart.getSearchKey(), engineConfiguration),
+                        sequentialExecution);
+            }
+
+            query.finished();
+            if (partitionNode.hasNonNull("finishedAfter")) {
+                query.finishedAfter(AsyncHistoryDateUtil.parseDate(partitionNode.path("finishedAfter").textValue()));
+            }
+            if (partitionNode.hasNonNull("finishedBefore")) {
+                query.finishedBefore(AsyncHistoryDateUtil.parseDate(partitionNode.path("finishedBefore").textValue()));
+            }
+            config.partitionedExecution = true;
+        }
+
         return config;
     }
 
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.delete;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the historic process instances of one end time partition of a partitioned delete batch.
+ * Every execution deletes at most one batch size of instances using the bulk deletes of the related history tables
+ * and then schedules a new job for the next chunk of the same partition, until the partition has no instances left.
+ * The partitions are independent of each other, so their jobs can be executed in parallel on different nodes.
+ * The completion of the batch is done by the {@link DeleteHistoricProcessInstanceIdsStatusJobHandler}.
+ */
+public class DeleteHistoricProcessInstancesPartitionJobHandler implements JobHandler {
+
+    public static final String TYPE = "delete-historic-processes-partition";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        BatchDeleteProcessConfig config = BatchDeleteProcessConfig.create(configuration, engineConfiguration);
+        BatchPart batchPart = config.getBatchPart();
+        Batch batch = config.getBatch();
+        if (config.hasError()) {
+            batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_FAILED, config.getError());
+            return;
+        }
+
+        if (DeleteProcessInstanceBatchConstants.STATUS_STOPPED.equals(batch.getStatus())) {
+            batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_STOPPED, null);
+            return;
+        }
+
+        // The query is restricted to the partition, so we are always deleting the first elements
+        List<HistoricProcessInstance> historicProcessInstances = config.getQuery().listPage(0, config.getBatchSize());
+        ObjectNode resultNode = engineConfiguration.getObjectMapper().createObjectNode();
+        Set<String> processInstanceIdsToDelete = new HashSet<>();
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            processInstanceIdsToDelete.add(historicProcessInstance.getId());
+        }
+
+        if (processInstanceIdsToDelete.isEmpty()) {
+            batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_COMPLETED, resultNode.toString());
+            return;
+        }
+
+        String status = DeleteProcessInstanceBatchConstants.STATUS_COMPLETED;
+
+        try {
+            engineConfiguration.getHistoryService().bulkDeleteHistoricProcessInstances(processInstanceIdsToDelete);
+            ArrayNode deletedProcessInstanceIdsNode = resultNode.withArray("processInstanceIdsDeleted");
+            processInstanceIdsToDelete.forEach(deletedProcessInstanceIdsNode::add);
+
+        } catch (FlowableException ex) {
+            status = DeleteProcessInstanceBatchConstants.STATUS_FAILED;
+            ArrayNode processInstanceIdsFailedToDelete = resultNode.withArray("processInstanceIdsFailedToDelete");
+            processInstanceIdsToDelete.forEach(processInstanceIdsFailedToDelete::add);
+            resultNode.put("error", ex.getMessage());
+            resultNode.put("stacktrace", ExceptionUtils.getStackTrace(ex));
+        }
+
+        batchService.completeBatchPart(batchPart.getId(), status, resultNode.toString());
+
+        if (DeleteProcessInstanceBatchConstants.STATUS_COMPLETED.equals(status)) {
+            // Create the next batch part of the same partition and schedule a job for it
+            BatchPart nextBatchPart = engineConfiguration.getManagementService()
+                    .createBatchPartBuilder(batch)
+                    .type(DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE)
+                    .searchKey(batchPart.getSearchKey())
+                    .searchKey2(String.valueOf(Integer.parseInt(batchPart.getSearchKey2()) + 1))
+                    .status(DeleteProcessInstanceBatchConstants.STATUS_WAITING)
+                    .create();
+
+            JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+
+            JobEntity nextJob = jobService.createJob();
+            nextJob.setJobHandlerType(DeleteHistoricProcessInstancesPartitionJobHandler.TYPE);
+            nextJob.setJobHandlerConfiguration(nextBatchPart.getId());
+            jobService.createAsyncJob(nextJob, false);
+            jobService.scheduleAsyncJob(nextJob);
+        }
+    }
+}
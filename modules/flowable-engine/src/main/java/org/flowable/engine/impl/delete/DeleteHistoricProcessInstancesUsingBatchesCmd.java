@@ -16,6 +16,9 @@ import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonU
 import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfNotNullOrEmpty;
 import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfTrue;
 
+import java.util.Date;
+import java.util.List;
+
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
@@ -26,6 +29,8 @@ import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.ManagementService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.IdentityLinkQueryObject;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -48,6 +53,8 @@ public class DeleteHistoricProcessInstancesUsingBatchesCmd implements Command<St
     protected HistoricProcessInstanceQueryImpl historicProcessInstanceQuery;
     protected int batchSize;
     protected boolean sequential;
+    protected boolean partitioned;
+    protected int numberOfPartitions;
     protected String batchName;
 
     public DeleteHistoricProcessInstancesUsingBatchesCmd(HistoricProcessInstanceQueryImpl query, int batchSize, String batchName, boolean sequential) {
@@ -57,6 +64,12 @@ public class DeleteHistoricProcessInstancesUsingBatchesCmd implements Command<St
         this.sequential = sequential;
     }
 
+    public DeleteHistoricProcessInstancesUsingBatchesCmd(HistoricProcessInstanceQueryImpl query, int batchSize, String batchName, int numberOfPartitions) {
+        this(query, batchSize, batchName, false);
+        this.partitioned = true;
+        this.numberOfPartitions = numberOfPartitions;
+    }
+
     @Override
     public String execute(CommandContext commandContext) {
         if (historicProcessInstanceQuery == null) {
@@ -67,14 +80,21 @@ public class DeleteHistoricProcessInstancesUsingBatchesCmd implements Command<St
             throw new FlowableIllegalArgumentException("batchSize has to be larger than 0");
         }
 
+        if (partitioned && numberOfPartitions <= 0) {
+            throw new FlowableIllegalArgumentException("numberOfPartitions has to be larger than 0");
+        }
+
         ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         BatchService batchService = engineConfiguration.getBatchServiceConfiguration()
                 .getBatchService();
 
-        long numberOfProcessInstancesToDelete = historicProcessInstanceQuery.count();
-
         ObjectNode batchConfiguration = engineConfiguration.getObjectMapper().createObjectNode();
-        batchConfiguration.put("numberOfInstances", numberOfProcessInstancesToDelete);
+        long numberOfProcessInstancesToDelete = 0;
+        if (!partitioned) {
+            // The partitioned deletion does not count the instances up front, that is too expensive on large history tables
+            numberOfProcessInstancesToDelete = historicProcessInstanceQuery.count();
+            batchConfiguration.put("numberOfInstances", numberOfProcessInstancesToDelete);
+        }
         batchConfiguration.put("batchSize", batchSize);
         if (sequential) {
             batchConfiguration.put("sequential", true);
@@ -89,19 +109,11 @@ public class DeleteHistoricProcessInstancesUsingBatchesCmd implements Command<St
             populateQueryNode(orQueryNode, orQueryObject);
         }
 
-        String tenantId = historicProcessInstanceQuery.getTenantId();
-        if (historicProcessInstanceQuery.isWithoutTenantId()) {
-            tenantId = ProcessEngineConfigurationImpl.NO_TENANT_ID;
+        if (partitioned) {
+            return createPartitionedBatch(engineConfiguration, batchConfiguration);
         }
 
-        Batch batch = batchService.createBatchBuilder()
-                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
-                .tenantId(tenantId)
-                .searchKey(batchName)
-                .searchKey2(Authentication.getAuthenticatedUserId())
-                .status(DeleteProcessInstanceBatchConstants.STATUS_IN_PROGRESS)
-                .batchDocumentJson(batchConfiguration.toString())
-                .create();
+        Batch batch = createBatch(batchService, batchConfiguration);
 
         if (numberOfProcessInstancesToDelete > 0) {
             // We convert to double, and tet the ceiling of the division to get the parts
@@ -119,33 +131,101 @@ public class DeleteHistoricProcessInstancesUsingBatchesCmd implements Command<St
         return batch.getId();
     }
 
-    protected void createBatchPartsForParallelExecution(ProcessEngineConfigurationImpl engineConfiguration, Batch batch, long numberOfBatchParts) {
-        JobService jobService = engineConfiguration.getJobServiceConfiguration()
-                .getJobService();
+    protected String createPartitionedBatch(ProcessEngineConfigurationImpl engineConfiguration, ObjectNode batchConfiguration) {
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
 
-        ManagementService managementService = engineConfiguration.getManagementService();
+        // The partitions are computed from the end time range of the instances that need to be deleted.
+        // This avoids paging with large offsets, which does not scale on big history tables.
+        HistoricProcessInstance firstEnded = findFinishedInstance((ObjectNode) batchConfiguration.path("query"), true, engineConfiguration);
+        HistoricProcessInstance lastEnded = findFinishedInstance((ObjectNode) batchConfiguration.path("query"), false, engineConfiguration);
 
-        for (int i = 0; i < numberOfBatchParts; i++) {
+        if (firstEnded == null || lastEnded == null) {
+            batchConfiguration.putArray("partitions");
+            Batch batch = createBatch(batchService, batchConfiguration);
+            batchService.completeBatch(batch.getId(), DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+            return batch.getId();
+        }
+
+        long rangeStart = firstEnded.getEndTime().getTime();
+        long rangeEnd = lastEnded.getEndTime().getTime();
+        long partitions = Math.max(1, Math.min(numberOfPartitions, rangeEnd - rangeStart));
+
+        // Adjacent partitions share their boundary, every partition bound is inclusive.
+        // The first partition has no lower bound and the last one no upper bound,
+        // this makes sure that no instance is missed due to the precision of the stored end times.
+        ArrayNode partitionsNode = batchConfiguration.putArray("partitions");
+        for (long i = 0; i < partitions; i++) {
+            ObjectNode partitionNode = partitionsNode.addObject();
+            if (i > 0) {
+                putIfNotNull(partitionNode, "finishedAfter", new Date(rangeStart + (rangeEnd - rangeStart) * i / partitions));
+            }
+            if (i < partitions - 1) {
+                putIfNotNull(partitionNode, "finishedBefore", new Date(rangeStart + (rangeEnd - rangeStart) * (i + 1) / partitions));
+            }
+        }
 
+        Batch batch = createBatch(batchService, batchConfiguration);
+
+        JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+        ManagementService managementService = engineConfiguration.getManagementService();
+        for (int i = 0; i < partitions; i++) {
             BatchPart batchPart = managementService.createBatchPartBuilder(batch)
-                    .type(DeleteProcessInstanceBatchConstants.BATCH_PART_COMPUTE_IDS_TYPE)
+                    .type(DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE)
                     .searchKey(Integer.toString(i))
+                    .searchKey2(Integer.toString(0))
                     .status(DeleteProcessInstanceBatchConstants.STATUS_WAITING)
                     .create();
 
+            // The jobs are not exclusive, this way the partitions can be executed in parallel on all the nodes
             JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ComputeDeleteHistoricProcessInstanceIdsJobHandler.TYPE);
+            job.setJobHandlerType(DeleteHistoricProcessInstancesPartitionJobHandler.TYPE);
             job.setJobHandlerConfiguration(batchPart.getId());
             jobService.createAsyncJob(job, false);
             jobService.scheduleAsyncJob(job);
         }
 
+        scheduleStatusTimerJob(engineConfiguration, batch, DeleteHistoricProcessInstanceIdsStatusJobHandler.TYPE);
+
+        return batch.getId();
+    }
+
+    protected HistoricProcessInstance findFinishedInstance(ObjectNode queryNode, boolean firstEnded, ProcessEngineConfigurationImpl engineConfiguration) {
+        HistoricProcessInstanceQuery query = engineConfiguration.getHistoryService().createHistoricProcessInstanceQuery();
+        BatchDeleteProcessConfig.populateQuery(queryNode, query, engineConfiguration);
+        query.finished().orderByProcessInstanceEndTime();
+        if (firstEnded) {
+            query.asc();
+        } else {
+            query.desc();
+        }
+
+        List<HistoricProcessInstance> instances = query.listPage(0, 1);
+        return instances.isEmpty() ? null : instances.get(0);
+    }
+
+    protected Batch createBatch(BatchService batchService, ObjectNode batchConfiguration) {
+        String tenantId = historicProcessInstanceQuery.getTenantId();
+        if (historicProcessInstanceQuery.isWithoutTenantId()) {
+            tenantId = ProcessEngineConfigurationImpl.NO_TENANT_ID;
+        }
+
+        return batchService.createBatchBuilder()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .tenantId(tenantId)
+                .searchKey(batchName)
+                .searchKey2(Authentication.getAuthenticatedUserId())
+                .status(DeleteProcessInstanceBatchConstants.STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchConfiguration.toString())
+                .create();
+    }
+
+    protected void scheduleStatusTimerJob(ProcessEngineConfigurationImpl engineConfiguration, Batch batch, String jobHandlerType) {
         TimerJobService timerJobService = engineConfiguration.getJobServiceConfiguration()
                 .getTimerJobService();
         TimerJobEntity timerJob = timerJobService.createTimerJob();
         timerJob.setJobType(Job.JOB_TYPE_TIMER);
         timerJob.setRevision(1);
-        timerJob.setJobHandlerType(ComputeDeleteHistoricProcessInstanceStatusJobHandler.TYPE);
+        timerJob.setJobHandlerType(jobHandlerType);
         timerJob.setJobHandlerConfiguration(batch.getId());
 
         BusinessCalendar businessCalendar = engineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
@@ -155,6 +235,30 @@ public class DeleteHistoricProcessInstancesUsingBatchesCmd implements Command<St
         timerJobService.scheduleTimerJob(timerJob);
     }
 
+    protected void createBatchPartsForParallelExecution(ProcessEngineConfigurationImpl engineConfiguration, Batch batch, long numberOfBatchParts) {
+        JobService jobService = engineConfiguration.getJobServiceConfiguration()
+                .getJobService();
+
+        ManagementService managementService = engineConfiguration.getManagementService();
+
+        for (int i = 0; i < numberOfBatchParts; i++) {
+
+            BatchPart batchPart = managementService.createBatchPartBuilder(batch)
+                    .type(DeleteProcessInstanceBatchConstants.BATCH_PART_COMPUTE_IDS_TYPE)
+                    .searchKey(Integer.toString(i))
+                    .status(DeleteProcessInstanceBatchConstants.STATUS_WAITING)
+                    .create();
+
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(ComputeDeleteHistoricProcessInstanceIdsJobHandler.TYPE);
+            job.setJobHandlerConfiguration(batchPart.getId());
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+
+        scheduleStatusTimerJob(engineConfiguration, batch, ComputeDeleteHistoricProcessInstanceStatusJobHandler.TYPE);
+    }
+
     protected void createBatchPartsForSequentialExecution(ProcessEngineConfigurationImpl engineConfiguration, Batch batch, long numberOfBatchParts) {
         ManagementService managementService = engineConfiguration.getManagementService();
 
@@ -51,4 +51,9 @@ public class ProcessVariableScopeELResolver extends VariableContainerELResolver
         return null;
     }
 
+    @Override
+    public boolean isVariableLookup(String name) {
+        return super.isVariableLookup(name) && !EXECUTION_KEY.equals(name) && !TASK_KEY.equals(name);
+    }
+
 }
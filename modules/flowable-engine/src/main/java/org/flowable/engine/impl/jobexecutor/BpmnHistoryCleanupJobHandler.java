@@ -47,9 +47,14 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
         }
 
         int batchSize = processEngineConfiguration.getCleanInstancesBatchSize();
+        int partitions = processEngineConfiguration.getCleanInstancesPartitions();
 
         HistoricProcessInstanceQuery query = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
-        query.deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        if (partitions > 0) {
+            query.deleteInPartitionsUsingBatch(partitions, batchSize, DEFAULT_BATCH_NAME);
+        } else {
+            query.deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        }
 
         BatchQuery batchCleaningQuery = processEngineConfiguration.getHistoryCleaningManager().createBatchCleaningQuery();
         if (batchCleaningQuery != null) {
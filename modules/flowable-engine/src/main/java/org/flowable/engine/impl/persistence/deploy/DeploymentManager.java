@@ -215,6 +215,9 @@ public class DeploymentManager {
         for (ProcessDefinition processDefinition : processDefinitions) {
             processDefinitionCache.remove(processDefinition.getId());
             processDefinitionInfoCache.remove(processDefinition.getId());
+            if (processEngineConfiguration.getScriptingEngines() != null) {
+                processEngineConfiguration.getScriptingEngines().invalidateCompiledScripts(processDefinition.getId());
+            }
         }
 
         appResourceCache.remove(deploymentId);
@@ -45,6 +45,12 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * The time (in milliseconds) a cached object is returned without checking the revision in the database.
+     * With the default of 0, the revision is checked on every access.
+     */
+    protected long timeToLive;
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -74,6 +80,13 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     @Override
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
+        if (timeToLive > 0) {
+            ProcessDefinitionInfoCacheObject cachedObject = cache.get(processDefinitionId);
+            if (cachedObject != null && System.currentTimeMillis() - cachedObject.getVerificationTime() < timeToLive) {
+                return cachedObject;
+            }
+        }
+
         ProcessDefinitionInfoCacheObject infoCacheObject = null;
         Command<ProcessDefinitionInfoCacheObject> cacheCommand = new Command<ProcessDefinitionInfoCacheObject>() {
 
@@ -122,6 +135,14 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         return cache.size();
     }
 
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
@@ -152,6 +173,11 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        if (timeToLive > 0) {
+            cacheObject.setVerificationTime(System.currentTimeMillis());
+            cache.put(processDefinitionId, cacheObject);
+        }
+
         return cacheObject;
     }
 
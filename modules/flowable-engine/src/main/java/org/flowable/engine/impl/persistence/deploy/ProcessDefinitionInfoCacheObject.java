@@ -26,6 +26,7 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected long verificationTime;
 
     public String getId() {
         return id;
@@ -50,4 +51,15 @@ public class ProcessDefinitionInfoCacheObject implements Serializable {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
-}
\ No newline at end of file
+
+    /**
+     * The time (in milliseconds) at which the revision of this object was last compared with the database.
+     */
+    public long getVerificationTime() {
+        return verificationTime;
+    }
+
+    public void setVerificationTime(long verificationTime) {
+        this.verificationTime = verificationTime;
+    }
+}
@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.scripting;
+
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.task.service.delegate.DelegateTask;
+
+/**
+ * Resolves the process definition id a script is evaluated for, used to invalidate compiled scripts when a process definition is redeployed.
+ */
+public class ProcessScopeDefinitionIdResolver implements Function<VariableContainer, String> {
+
+    @Override
+    public String apply(VariableContainer variableContainer) {
+        if (variableContainer instanceof DelegateExecution) {
+            return ((DelegateExecution) variableContainer).getProcessDefinitionId();
+        } else if (variableContainer instanceof DelegateTask) {
+            return ((DelegateTask) variableContainer).getProcessDefinitionId();
+        }
+        return null;
+    }
+
+}
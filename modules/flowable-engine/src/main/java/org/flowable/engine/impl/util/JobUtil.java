@@ -18,7 +18,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.ExtensionElement;
 import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.job.service.JobService;
@@ -57,6 +59,11 @@ public class JobUtil {
             }
         }
 
+        Integer priority = getJobPriority(baseElement, execution, processEngineConfiguration);
+        if (priority != null) {
+            job.setPriority(priority);
+        }
+
         // Inherit tenant id (if applicable)
         if (execution.getTenantId() != null) {
             job.setTenantId(execution.getTenantId());
@@ -65,4 +72,30 @@ public class JobUtil {
         return job;
     }
 
+    /**
+     * @return the priority of the flowable:jobPriority extension element of the given element, or null when the element has none
+     */
+    public static Integer getJobPriority(BaseElement baseElement, VariableContainer variableContainer, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        List<ExtensionElement> jobPriorityElements = baseElement.getExtensionElements().get("jobPriority");
+        if (jobPriorityElements == null || jobPriorityElements.isEmpty() || StringUtils.isEmpty(jobPriorityElements.get(0).getElementText())) {
+            return null;
+        }
+
+        String jobPriorityText = jobPriorityElements.get(0).getElementText();
+        Object priorityValue = processEngineConfiguration.getExpressionManager().createExpression(jobPriorityText).getValue(variableContainer);
+        if (priorityValue == null) {
+            return null;
+        } else if (priorityValue instanceof Number) {
+            return ((Number) priorityValue).intValue();
+        } else if (priorityValue instanceof String) {
+            try {
+                return Integer.valueOf((String) priorityValue);
+            } catch (NumberFormatException e) {
+                throw new FlowableIllegalArgumentException("Job priority does not resolve to a number: " + priorityValue, e);
+            }
+        } else {
+            throw new FlowableIllegalArgumentException("Job priority expression does not resolve to a number: " + jobPriorityText);
+        }
+    }
+
 }
@@ -174,6 +174,12 @@ public class TimerUtil {
             } else if (jobCategoryElementText != null) {
                 timer.setCategory(jobCategoryElementText);
             }
+
+            Integer priority = JobUtil.getJobPriority(currentFlowElement,
+                    executionEntity != null ? executionEntity : NoExecutionVariableScope.getSharedInstance(), processEngineConfiguration);
+            if (priority != null) {
+                timer.setPriority(priority);
+            }
             
         } else {
             throw new FlowableException("Due date could not be determined for timer job " + dueDateString);
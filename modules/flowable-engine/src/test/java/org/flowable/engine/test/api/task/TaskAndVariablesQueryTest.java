@@ -18,9 +18,12 @@ import static org.assertj.core.api.Assertions.entry;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -260,6 +263,89 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertThat(tasks).isEmpty();
     }
 
+    @Test
+    public void testQueryWithPagingAndTwoPhaseVariableLoading() {
+        List<Task> joinedTasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().orderByTaskPriority()
+                .asc().orderByTaskId().asc().listPage(1, 2);
+
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableTwoPhaseVariableLoading(true);
+        try {
+            List<Task> tasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().orderByTaskPriority()
+                    .asc().orderByTaskId().asc().listPage(1, 2);
+            assertThat(tasks)
+                    .extracting(Task::getId)
+                    .containsExactlyElementsOf(joinedTasks.stream().map(Task::getId).collect(Collectors.toList()));
+            for (int i = 0; i < tasks.size(); i++) {
+                assertThat(tasks.get(i).getTaskLocalVariables()).isNotEmpty().usingRecursiveComparison().isEqualTo(joinedTasks.get(i).getTaskLocalVariables());
+                assertThat(tasks.get(i).getProcessVariables()).usingRecursiveComparison().isEqualTo(joinedTasks.get(i).getProcessVariables());
+            }
+
+            tasks = taskService.createTaskQuery().includeTaskLocalVariables().includeIdentityLinks().taskCandidateUser("kermit").list();
+            assertThat(tasks).hasSize(2);
+            assertThat(tasks.get(0).getTaskLocalVariables()).containsEntry("test", "test");
+            assertThat(tasks.get(0).getIdentityLinks()).isNotEmpty();
+
+        } finally {
+            processEngineConfiguration.getTaskServiceConfiguration().setEnableTwoPhaseVariableLoading(false);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testQueryWithIncludedVariableNames() {
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("name", "instance" + i);
+            variables.put("amount", i);
+            variables.put("document", "Large document".getBytes());
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        }
+
+        List<Task> tasks = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess")
+                .includeProcessVariables(Arrays.asList("name", "amount"))
+                .orderByTaskCreateTime().asc()
+                .listPage(0, 2);
+        assertThat(tasks).hasSize(2);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).containsOnlyKeys("name", "amount");
+            assertThat(task.getTaskLocalVariables()).isEmpty();
+        }
+
+        Task task = tasks.get(0);
+        taskService.setVariableLocal(task.getId(), "comment", "test");
+        taskService.setVariableLocal(task.getId(), "otherComment", "other");
+
+        task = taskService.createTaskQuery().taskId(task.getId())
+                .includeProcessVariables(Arrays.asList("amount", "missing"))
+                .includeTaskLocalVariables(Arrays.asList("comment"))
+                .singleResult();
+        assertThat(task.getProcessVariables()).containsOnlyKeys("amount");
+        assertThat(task.getTaskLocalVariables()).containsOnly(entry("comment", "test"));
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess")
+                .includeProcessVariables(Arrays.asList("name"))
+                .listPage(0, 3);
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getProcessVariables)
+                .containsExactlyInAnyOrder(
+                        Collections.singletonMap("name", "instance0"),
+                        Collections.singletonMap("name", "instance1"),
+                        Collections.singletonMap("name", "instance2")
+                );
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricTaskInstance historicTask = historyService.createHistoricTaskInstanceQuery().taskId(task.getId())
+                    .includeProcessVariables(Arrays.asList("name"))
+                    .includeTaskLocalVariables(Arrays.asList("otherComment"))
+                    .singleResult();
+            assertThat(historicTask.getProcessVariables()).containsOnlyKeys("name");
+            assertThat(historicTask.getTaskLocalVariables()).containsOnly(entry("otherComment", "other"));
+        }
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables(Collections.emptyList()))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
     // Unit test for https://activiti.atlassian.net/browse/ACT-4152
     @Test
     public void testQueryWithIncludeTaskVariableAndTaskCategory() {
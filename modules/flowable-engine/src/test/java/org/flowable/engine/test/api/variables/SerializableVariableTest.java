@@ -16,7 +16,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -30,6 +35,8 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.CompactBinaryVariableCodec;
+import org.flowable.variable.service.impl.types.SerializableType;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -142,6 +149,71 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testCompactBinaryCodecReadsAndMigratesJavaSerializedValue() {
+        Map<String, Object> value = new HashMap<>();
+        value.put("number", 1);
+        value.put("items", new ArrayList<>(Arrays.asList("a", "b")));
+        value.put("custom", new TestSerializableVariable(5));
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", value)
+                .start();
+
+        SerializableType serializableType = (SerializableType) processEngineConfiguration.getVariableTypes().getVariableType(SerializableType.TYPE_NAME);
+        CompactBinaryVariableCodec codec = new CompactBinaryVariableCodec();
+        serializableType.setCodec(codec);
+        try {
+            Map<String, Object> storedValue = getMapVariable(processInstance.getId(), "var");
+            assertThat(storedValue)
+                    .containsEntry("number", 1)
+                    .containsEntry("items", Arrays.asList("a", "b"));
+            assertThat(storedValue.get("custom"))
+                    .asInstanceOf(type(TestSerializableVariable.class))
+                    .extracting(TestSerializableVariable::getNumber)
+                    .isEqualTo(5);
+
+            // Reading an unchanged value does not rewrite it
+            assertThat(codec.canDecode(getVariableBytes(processInstance.getId(), "var"))).isFalse();
+
+            managementService.executeCommand(commandContext -> {
+                getMapVariable(processInstance.getId(), "var").put("number", 2);
+                return null;
+            });
+
+            assertThat(codec.canDecode(getVariableBytes(processInstance.getId(), "var"))).isTrue();
+            storedValue = getMapVariable(processInstance.getId(), "var");
+            assertThat(storedValue)
+                    .containsEntry("number", 2)
+                    .containsEntry("items", Arrays.asList("a", "b"));
+            assertThat(storedValue.get("custom"))
+                    .asInstanceOf(type(TestSerializableVariable.class))
+                    .extracting(TestSerializableVariable::getNumber)
+                    .isEqualTo(5);
+
+            runtimeService.setVariable(processInstance.getId(), "newVar", new LinkedHashMap<>(Collections.singletonMap("key", new Date(0))));
+            assertThat(codec.canDecode(getVariableBytes(processInstance.getId(), "newVar"))).isTrue();
+            assertThat(runtimeService.getVariable(processInstance.getId(), "newVar"))
+                    .isInstanceOf(LinkedHashMap.class)
+                    .isEqualTo(Collections.singletonMap("key", new Date(0)));
+
+        } finally {
+            serializableType.setCodec(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> getMapVariable(String processInstanceId, String variableName) {
+        return (Map<String, Object>) runtimeService.getVariable(processInstanceId, variableName);
+    }
+
+    protected byte[] getVariableBytes(String processInstanceId, String variableName) {
+        return managementService.executeCommand(commandContext ->
+                ((VariableInstanceEntity) runtimeService.getVariableInstance(processInstanceId, variableName)).getBytes());
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         @Override
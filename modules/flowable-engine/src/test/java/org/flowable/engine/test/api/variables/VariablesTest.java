@@ -13,6 +13,7 @@
 package org.flowable.engine.test.api.variables;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 import java.io.Serializable;
@@ -20,14 +21,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.Deflater;
 
+import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.groups.Tuple;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
@@ -42,12 +47,16 @@ import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.VariableValueSnapshotCache;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.util.VariableByteArrayCompressionUtil;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * Testing various constructs with variables.
  *
@@ -667,6 +676,160 @@ public class VariablesTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCompressedByteArrayVariables() {
+        byte[] bytes = new byte[20000];
+        Arrays.fill(bytes, (byte) 'a');
+        ObjectNode jsonValue = processEngineConfiguration.getObjectMapper().createObjectNode();
+        jsonValue.put("text", StringUtils.repeat("flowable", 1000));
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                Collections.singletonMap("uncompressedBytes", bytes));
+
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        variableServiceConfiguration.setVariableByteArrayCompressionThreshold(1024);
+        try {
+            runtimeService.setVariable(processInstance.getId(), "bytes", bytes);
+            runtimeService.setVariable(processInstance.getId(), "smallBytes", new byte[] { 1, 2, 3 });
+            runtimeService.setVariable(processInstance.getId(), "json", jsonValue);
+
+            assertThat(isStoredCompressed(processInstance.getId(), "uncompressedBytes")).isFalse();
+            assertThat(isStoredCompressed(processInstance.getId(), "bytes")).isTrue();
+            assertThat(isStoredCompressed(processInstance.getId(), "smallBytes")).isFalse();
+            assertThat(isStoredCompressed(processInstance.getId(), "json")).isTrue();
+
+            assertThat(runtimeService.getVariable(processInstance.getId(), "uncompressedBytes")).isEqualTo(bytes);
+            assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(bytes);
+            assertThat(runtimeService.getVariable(processInstance.getId(), "smallBytes")).isEqualTo(new byte[] { 1, 2, 3 });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "json")).isEqualTo(jsonValue);
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).variableName("bytes")
+                        .singleResult().getValue()).isEqualTo(bytes);
+                assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).variableName("json")
+                        .singleResult().getValue()).isEqualTo(jsonValue);
+            }
+
+        } finally {
+            variableServiceConfiguration.setVariableByteArrayCompressionThreshold(-1);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUncompressedByteArrayVariablesStartingWithCompressionHeader() {
+        // Header followed by a huge original length that the remaining bytes can't possibly inflate to
+        byte[] hugeLength = new byte[] { 'F', 'L', 'Z', 1, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 1, 2, 3 };
+        // Header followed by a negative original length
+        byte[] negativeLength = new byte[] { 'F', 'L', 'Z', 1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 1, 2, 3 };
+
+        // Valid deflated bytes of 100 zeros, but with a header claiming fewer bytes
+        Deflater deflater = new Deflater();
+        deflater.setInput(new byte[100]);
+        deflater.finish();
+        byte[] deflated = new byte[128];
+        int deflatedLength = deflater.deflate(deflated);
+        deflater.end();
+        byte[] wrongLength = new byte[8 + deflatedLength];
+        System.arraycopy(new byte[] { 'F', 'L', 'Z', 1, 0, 0, 0, 50 }, 0, wrongLength, 0, 8);
+        System.arraycopy(deflated, 0, wrongLength, 8, deflatedLength);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("hugeLength", hugeLength);
+        variables.put("negativeLength", negativeLength);
+        variables.put("wrongLength", wrongLength);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "hugeLength")).isEqualTo(hugeLength);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "negativeLength")).isEqualTo(negativeLength);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "wrongLength")).isEqualTo(wrongLength);
+    }
+
+    protected boolean isStoredCompressed(String processInstanceId, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstanceId, variableName);
+            byte[] storedBytes = processEngineConfiguration.getByteArrayEntityManager().findById(variableInstance.getByteArrayRef().getId()).getBytes();
+            return VariableByteArrayCompressionUtil.isCompressed(storedBytes);
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testVariableValueSnapshotCache() {
+        ObjectNode jsonValue = processEngineConfiguration.getObjectMapper().createObjectNode();
+        jsonValue.put("text", StringUtils.repeat("flowable", 1000));
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("bytes", new byte[] { 1, 2, 3 });
+        variables.put("json", jsonValue);
+
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        VariableValueSnapshotCache snapshotCache = new VariableValueSnapshotCache(100);
+        variableServiceConfiguration.setVariableValueSnapshotCache(snapshotCache);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+            byte[] bytes = (byte[]) runtimeService.getVariable(processInstance.getId(), "bytes");
+            assertThat(bytes).containsExactly(1, 2, 3);
+            assertThat(runtimeService.getVariable(processInstance.getId(), "json")).isEqualTo(jsonValue);
+            assertThat(snapshotCache.size()).isEqualTo(2);
+            long hitCount = snapshotCache.getHitCount();
+
+            // Changing a value handed out must not change the snapshot
+            bytes[0] = 9;
+            ((ObjectNode) runtimeService.getVariable(processInstance.getId(), "json")).put("other", "value");
+            assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(new byte[] { 1, 2, 3 });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "json")).isEqualTo(jsonValue);
+            assertThat(snapshotCache.getHitCount()).isGreaterThan(hitCount);
+
+            // An updated value is never served from a stale snapshot
+            jsonValue.put("other", "value");
+            runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 4, 5 });
+            runtimeService.setVariable(processInstance.getId(), "json", jsonValue);
+            assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(new byte[] { 4, 5 });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "json")).isEqualTo(jsonValue);
+
+            managementService.executeCommand(commandContext -> {
+                runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 6 });
+                assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(new byte[] { 6 });
+                return null;
+            });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(new byte[] { 6 });
+
+        } finally {
+            variableServiceConfiguration.setVariableValueSnapshotCache(null);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testVariableValueSnapshotCacheWithRolledBackTransaction() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                Collections.singletonMap("bytes", new byte[] { 1, 2, 3 }));
+
+        VariableServiceConfiguration variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+        VariableValueSnapshotCache snapshotCache = new VariableValueSnapshotCache(100);
+        variableServiceConfiguration.setVariableValueSnapshotCache(snapshotCache);
+        try {
+            // A value written and read within a transaction that is rolled back is never kept
+            assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+                runtimeService.setVariable(processInstance.getId(), "bytes", new byte[] { 4, 5 });
+                CommandContextUtil.getDbSqlSession(commandContext).flush();
+                // Read the variable again, as a later command in the same transaction would
+                CommandContextUtil.getEntityCache(commandContext).getAllCachedEntities().clear();
+                assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(new byte[] { 4, 5 });
+                throw new FlowableException("rollback");
+            })).hasMessage("rollback");
+            assertThat(snapshotCache.size()).isZero();
+
+            assertThat(runtimeService.getVariable(processInstance.getId(), "bytes")).isEqualTo(new byte[] { 1, 2, 3 });
+            assertThat(snapshotCache.size()).isEqualTo(1);
+
+        } finally {
+            variableServiceConfiguration.setVariableValueSnapshotCache(null);
+        }
+    }
+
     @Test
     public void testCreateAndUpdateWithValue() {
         List<Object> toDelete = new LinkedList<>();
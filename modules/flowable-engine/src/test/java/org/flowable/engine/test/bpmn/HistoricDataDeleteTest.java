@@ -49,6 +49,8 @@ import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsStatusJobHandler;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesPartitionJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesSequentialJobHandler;
 import org.flowable.engine.impl.delete.DeleteProcessInstanceBatchConstants;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
@@ -947,6 +949,118 @@ public class HistoricDataDeleteTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testDeleteHistoricInstancesInPartitionsUsingBatch() {
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -1);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                for (int i = 0; i < 10; i++) {
+                    // Spread the end times of the instances, so they end up in different partitions
+                    cal.add(Calendar.HOUR_OF_DAY, 1);
+                    clock.setCurrentCalendar(cal);
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.complete(task.getId());
+                }
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                String batchId = historyService.createHistoricProcessInstanceQuery()
+                        .finishedBefore(clock.getCurrentTime())
+                        .deleteInPartitionsUsingBatch(3, 2, "Test Deletion");
+                batchesToRemove.add(batchId);
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(20);
+
+                Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_IN_PROGRESS);
+                assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                        .isEqualTo("{"
+                                + "  batchSize: 2,"
+                                + "  query: {"
+                                + "    finished: true,"
+                                + "    finishedBefore: '${json-unit.any-string}'"
+                                + "  },"
+                                + "  partitions: ["
+                                + "    { finishedBefore: '${json-unit.any-string}' },"
+                                + "    { finishedAfter: '${json-unit.any-string}', finishedBefore: '${json-unit.any-string}' },"
+                                + "    { finishedAfter: '${json-unit.any-string}' }"
+                                + "  ]"
+                                + "}");
+
+                assertThat(managementService.createBatchPartQuery().list())
+                        .extracting(BatchPart::getStatus, BatchPart::getType, BatchPart::getSearchKey)
+                        .containsExactlyInAnyOrder(
+                                tuple(DeleteProcessInstanceBatchConstants.STATUS_WAITING, DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE, "0"),
+                                tuple(DeleteProcessInstanceBatchConstants.STATUS_WAITING, DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE, "1"),
+                                tuple(DeleteProcessInstanceBatchConstants.STATUS_WAITING, DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE, "2")
+                        );
+
+                assertThat(managementService.createJobQuery().list())
+                        .hasSize(3)
+                        .allSatisfy(job -> {
+                            assertThat(job.getJobHandlerType()).isEqualTo(DeleteHistoricProcessInstancesPartitionJobHandler.TYPE);
+                            assertThat(job.isExclusive()).isFalse();
+                        });
+
+                List<Job> partitionJobs = managementService.createJobQuery().list();
+                while (!partitionJobs.isEmpty()) {
+                    for (Job partitionJob : partitionJobs) {
+                        managementService.executeJob(partitionJob.getId());
+                    }
+                    partitionJobs = managementService.createJobQuery().list();
+                }
+
+                assertThat(managementService.createBatchPartQuery().batchId(batchId).list())
+                        .extracting(BatchPart::getStatus)
+                        .containsOnly(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+
+                Job statusJob = managementService.createTimerJobQuery().handlerType(DeleteHistoricProcessInstanceIdsStatusJobHandler.TYPE).singleResult();
+                assertThat(statusJob).isNotNull();
+                Job executableStatusJob = managementService.moveTimerToExecutableJob(statusJob.getId());
+                managementService.executeJob(executableStatusJob.getId());
+
+                batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+                assertThat(batch.getCompleteTime()).isNotNull();
+
+                if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 300);
+                }
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(10);
+                assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(10);
+
+                for (int i = 0; i < 20; i++) {
+                    if (i < 10) {
+                        assertThat(historyService.getHistoricIdentityLinksForProcessInstance(processInstanceIds.get(i))).isEmpty();
+                        assertThat(historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+                        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+                    } else {
+                        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isEqualTo(1);
+                    }
+                }
+            }
+
+        } finally {
+            processEngineConfiguration.resetClock();
+        }
+    }
+
     @Test
     @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
     public void testHistoryCleanupTimerJob() {
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.usertask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheTimeToLiveTest extends PluggableFlowableTestCase {
+
+    protected long originalTimeToLive;
+
+    @BeforeEach
+    protected void setTimeToLive() {
+        originalTimeToLive = getProcessDefinitionInfoCache().getTimeToLive();
+        getProcessDefinitionInfoCache().setTimeToLive(60000);
+    }
+
+    @AfterEach
+    protected void resetTimeToLive() {
+        getProcessDefinitionInfoCache().setTimeToLive(originalTimeToLive);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DynamicUserTaskTest.assignment.bpmn20.xml" })
+    public void testCachedInfoIsTrustedUntilExpired() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("dynamicUserTask").singleResult().getId();
+        assertThat(startProcessAndGetAssignee()).isEqualTo("test");
+
+        // Changes through the dynamic bpmn service of this engine are visible immediately
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, dynamicBpmnService.changeUserTaskAssignee("task1", "test2"));
+        assertThat(startProcessAndGetAssignee()).isEqualTo("test2");
+
+        // A change that bypasses this engine (as another engine in the cluster would do) is not seen while the cached info is trusted
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskAssignee("task1", "test3");
+        managementService.executeCommand(commandContext -> {
+            ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+            String infoId = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId).getId();
+            infoEntityManager.updateInfoJson(infoId, infoNode.toString().getBytes());
+            return null;
+        });
+        assertThat(startProcessAndGetAssignee()).isEqualTo("test2");
+
+        getProcessDefinitionInfoCache().setTimeToLive(0);
+        assertThat(startProcessAndGetAssignee()).isEqualTo("test3");
+    }
+
+    protected String startProcessAndGetAssignee() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+        return task.getAssignee();
+    }
+
+    protected ProcessDefinitionInfoCache getProcessDefinitionInfoCache() {
+        return (ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache();
+    }
+
+}
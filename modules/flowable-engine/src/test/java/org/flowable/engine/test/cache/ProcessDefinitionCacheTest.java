@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.ProcessEngines;
@@ -26,6 +27,7 @@ import org.flowable.engine.TaskService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.cfg.StandaloneProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.test.AbstractTestCase;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -156,4 +158,39 @@ public class ProcessDefinitionCacheTest extends AbstractTestCase {
         processEngine2.close();
     }
 
+    @Test
+    public void testConcurrentProcessDefinitionCache() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+                .setEnableConcurrentProcessDefinitionCache(true)
+                .setProcessDefinitionCacheMaxWeight(10);
+        processEngineConfiguration.setEngineName("concurrent-cache-test");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-concurrent-cache-test;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            assertThat(processEngineConfiguration.getProcessDefinitionCache()).isInstanceOf(ConcurrentDeploymentCache.class);
+            ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> cache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>)
+                    processEngineConfiguration.getProcessDefinitionCache();
+
+            RepositoryService repositoryService = processEngine.getRepositoryService();
+            for (int i = 0; i < 5; i++) {
+                repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/cache/originalProcess.bpmn20.xml").deploy();
+            }
+            assertThat(cache.getWeight()).isLessThanOrEqualTo(10);
+            assertThat(cache.getEvictionCount()).isPositive();
+
+            // Evicted definitions are reloaded from the database
+            for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+                assertThat(processEngine.getRuntimeService().startProcessInstanceById(processDefinition.getId())).isNotNull();
+            }
+            assertThat(processEngine.getTaskService().createTaskQuery().count()).isEqualTo(5);
+
+            for (org.flowable.engine.repository.Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        } finally {
+            processEngine.close();
+        }
+    }
+
 }
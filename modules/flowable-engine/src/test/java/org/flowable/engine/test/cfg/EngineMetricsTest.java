@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EngineMetricsTest {
+
+    protected ProcessEngine processEngine;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected RecordingEngineMetrics engineMetrics;
+
+    @BeforeEach
+    public void setupProcessEngine() {
+        engineMetrics = new RecordingEngineMetrics();
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:engineMetricsTest");
+        processEngineConfiguration.setEngineMetrics(engineMetrics);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void shutdownProcessEngine() {
+        processEngine.close();
+    }
+
+    @Test
+    public void testCommandAndFlushMetrics() {
+        String deploymentId = processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/db/oneJobProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+        try {
+            engineMetrics.reset();
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            assertThat(engineMetrics.commandCounts).containsKey(StartProcessInstanceCmd.class);
+            assertThat(engineMetrics.failedCommandCount.get()).isZero();
+            assertThat(engineMetrics.insertCount.get()).isPositive();
+            assertThat(engineMetrics.maxEntityCacheSize.get()).isPositive();
+
+            assertThat(engineMetrics.gauges).containsKeys("processDefinitionCache.size", "processDefinitionCache.hitRatio",
+                    "asyncExecutor.queueSize", "asyncExecutor.remainingCapacity");
+            assertThat(engineMetrics.gauges.get("processDefinitionCache.size").get().intValue()).isEqualTo(1);
+            assertThat(engineMetrics.gauges.get("processDefinitionCache.hitRatio").get().doubleValue()).isPositive();
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobsAndTimerJobs(processEngineConfiguration, processEngine.getManagementService(), 10000, 200);
+
+            assertThat(engineMetrics.acquiredJobCounts.get(EngineMetrics.ACQUISITION_TYPE_TIMER_JOBS).get()).isEqualTo(1);
+            assertThat(engineMetrics.executedJobCounts.get(TriggerTimerEventJobHandler.TYPE).get()).isEqualTo(1);
+
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deploymentId, true);
+        }
+    }
+
+    protected static class RecordingEngineMetrics implements EngineMetrics {
+
+        protected final Map<Class<?>, AtomicInteger> commandCounts = new ConcurrentHashMap<>();
+        protected final AtomicInteger failedCommandCount = new AtomicInteger();
+        protected final AtomicInteger insertCount = new AtomicInteger();
+        protected final AtomicInteger maxEntityCacheSize = new AtomicInteger();
+        protected final Map<String, AtomicInteger> acquiredJobCounts = new ConcurrentHashMap<>();
+        protected final Map<String, AtomicInteger> executedJobCounts = new ConcurrentHashMap<>();
+        protected final Map<String, Supplier<Number>> gauges = new ConcurrentHashMap<>();
+
+        @Override
+        public void recordCommand(Class<?> commandClass, long durationNanos, boolean successful) {
+            commandCounts.computeIfAbsent(commandClass, key -> new AtomicInteger()).incrementAndGet();
+            if (!successful) {
+                failedCommandCount.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void recordFlush(int insertCount, int updateCount, int deleteCount) {
+            this.insertCount.addAndGet(insertCount);
+        }
+
+        @Override
+        public void recordEntityCacheSize(int cachedEntityCount) {
+            maxEntityCacheSize.accumulateAndGet(cachedEntityCount, Math::max);
+        }
+
+        @Override
+        public void recordJobAcquisition(String acquisitionType, int acquiredJobCount, long durationNanos) {
+            acquiredJobCounts.computeIfAbsent(acquisitionType, key -> new AtomicInteger()).addAndGet(acquiredJobCount);
+        }
+
+        @Override
+        public void recordJobExecution(String jobHandlerType, long durationNanos, boolean successful) {
+            executedJobCounts.computeIfAbsent(jobHandlerType, key -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void registerGauge(String name, Supplier<Number> valueSupplier) {
+            gauges.put(name, valueSupplier);
+        }
+
+        protected void reset() {
+            commandCounts.clear();
+            failedCommandCount.set(0);
+            insertCount.set(0);
+            maxEntityCacheSize.set(0);
+            acquiredJobCounts.clear();
+            executedJobCounts.clear();
+        }
+    }
+}
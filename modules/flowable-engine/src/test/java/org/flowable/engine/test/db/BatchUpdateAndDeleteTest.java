@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchUpdateAndDeleteTest extends PluggableFlowableTestCase {
+
+    protected boolean originalBatchUpdateAndDeleteEnabled;
+
+    @BeforeEach
+    protected void enableBatchUpdateAndDelete() {
+        originalBatchUpdateAndDeleteEnabled = processEngineConfiguration.getDbSqlSessionFactory().isBatchUpdateAndDeleteEnabled();
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateAndDeleteEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetBatchUpdateAndDelete() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdateAndDeleteEnabled(originalBatchUpdateAndDeleteEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBatchUpdateVariables() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", createVariables("initial"));
+
+        runtimeService.setVariables(processInstance.getId(), createVariables("first"));
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(createVariables("first"));
+
+        // The revisions need to be incremented after the batch, otherwise the second update would fail
+        runtimeService.setVariables(processInstance.getId(), createVariables("second"));
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEqualTo(createVariables("second"));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBatchDeleteVariables() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", createVariables("initial"));
+
+        runtimeService.removeVariables(processInstance.getId(), createVariables("initial").keySet());
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEmpty();
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOptimisticLockingExceptionDetectedInBatch() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", createVariables("initial"));
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.getVariables();
+
+            // Change one of the variables in a separate transaction
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), nestedCommandContext -> {
+                runtimeService.setVariable(processInstance.getId(), "var5", "concurrent");
+                return null;
+            });
+
+            execution.setVariables(createVariables("changed"));
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class)
+                .hasMessageContaining("var5");
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var5")).isEqualTo("concurrent");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var1")).isEqualTo("initial1");
+    }
+
+    protected Map<String, Object> createVariables(String prefix) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, prefix + i);
+        }
+        return variables;
+    }
+
+}
@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends PluggableFlowableTestCase {
+
+    protected boolean originalEntityDirtyTrackingEnabled;
+
+    @BeforeEach
+    protected void enableEntityDirtyTracking() {
+        originalEntityDirtyTrackingEnabled = processEngineConfiguration.getDbSqlSessionFactory().isEntityDirtyTrackingEnabled();
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityDirtyTrackingEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetEntityDirtyTracking() {
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityDirtyTrackingEnabled(originalEntityDirtyTrackingEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUnchangedEntitiesAreNotUpdated() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Map.of("var", "value"));
+        int executionRevision = getExecutionRevision(processInstance.getId());
+        int taskRevision = getTaskRevision(processInstance.getId());
+        int variableRevision = getVariableRevision(processInstance.getId(), "var");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            VariableInstanceEntity variable = (VariableInstanceEntity) execution.getVariableInstance("var");
+            TaskEntity task = (TaskEntity) taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+            assertThat((DirtyTrackingEntity) execution).extracting(DirtyTrackingEntity::isDirtyTrackingEnabled, DirtyTrackingEntity::isDirty)
+                    .containsExactly(true, false);
+            assertThat((DirtyTrackingEntity) variable).extracting(DirtyTrackingEntity::isDirtyTrackingEnabled, DirtyTrackingEntity::isDirty)
+                    .containsExactly(true, false);
+            assertThat((DirtyTrackingEntity) task).extracting(DirtyTrackingEntity::isDirtyTrackingEnabled, DirtyTrackingEntity::isDirty)
+                    .containsExactly(true, false);
+            assertThat(task.getOriginalPersistentState()).isEqualTo(task.getPersistentState());
+
+            // Writing the same value marks the entity as dirty, but doesn't lead to an update
+            task.setName(task.getName());
+            assertThat(((DirtyTrackingEntity) task).isDirty()).isTrue();
+            return null;
+        });
+
+        assertThat(getExecutionRevision(processInstance.getId())).isEqualTo(executionRevision);
+        assertThat(getTaskRevision(processInstance.getId())).isEqualTo(taskRevision);
+        assertThat(getVariableRevision(processInstance.getId(), "var")).isEqualTo(variableRevision);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testChangedEntitiesAreUpdated() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Map.of("var", "value"));
+        int executionRevision = getExecutionRevision(processInstance.getId());
+        int taskRevision = getTaskRevision(processInstance.getId());
+        int variableRevision = getVariableRevision(processInstance.getId(), "var");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setBusinessKey("newBusinessKey");
+            execution.setVariable("var", "newValue");
+
+            TaskEntity task = (TaskEntity) taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            task.setAssignee("kermit");
+
+            // The state as it was when the entity was loaded is still available after the first write
+            assertThat(((Map<?, ?>) task.getOriginalPersistentState()).get("assignee")).isNull();
+            assertThat(((Map<?, ?>) task.getPersistentState()).get("assignee")).isEqualTo("kermit");
+            return null;
+        });
+
+        assertThat(getExecutionRevision(processInstance.getId())).isEqualTo(executionRevision + 1);
+        assertThat(getTaskRevision(processInstance.getId())).isEqualTo(taskRevision + 1);
+        assertThat(getVariableRevision(processInstance.getId(), "var")).isEqualTo(variableRevision + 1);
+
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getBusinessKey())
+                .isEqualTo("newBusinessKey");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var")).isEqualTo("newValue");
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getAssignee()).isEqualTo("kermit");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessCompletesWithDirtyTracking() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Map.of("var", "value"));
+
+        String taskId = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId();
+        taskService.claim(taskId, "kermit");
+        taskService.setVariable(taskId, "var", "otherValue");
+        taskService.complete(taskId);
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected int getExecutionRevision(String processInstanceId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(processInstanceId).getRevision());
+    }
+
+    protected int getTaskRevision(String processInstanceId) {
+        return ((TaskEntity) taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult()).getRevision();
+    }
+
+    protected int getVariableRevision(String processInstanceId, String variableName) {
+        return managementService.executeCommand(commandContext -> ((VariableInstanceEntity) CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(processInstanceId).getVariableInstance(variableName)).getRevision());
+    }
+
+}
@@ -0,0 +1,177 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.DefaultSharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SharedEntityCacheTest extends PluggableFlowableTestCase {
+
+    protected SharedEntityCache originalSharedEntityCache;
+    protected Set<Class<? extends Entity>> originalSharedEntityCacheClasses;
+    protected DefaultSharedEntityCache sharedEntityCache;
+
+    @BeforeEach
+    protected void enableSharedEntityCache() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        originalSharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        originalSharedEntityCacheClasses = dbSqlSessionFactory.getSharedEntityCacheClasses();
+
+        sharedEntityCache = new DefaultSharedEntityCache(100, 0);
+        dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
+        dbSqlSessionFactory.setSharedEntityCacheClasses(Set.of(ProcessDefinitionEntityImpl.class));
+    }
+
+    @AfterEach
+    protected void resetSharedEntityCache() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        dbSqlSessionFactory.setSharedEntityCache(originalSharedEntityCache);
+        dbSqlSessionFactory.setSharedEntityCacheClasses(originalSharedEntityCacheClasses);
+    }
+
+    @Test
+    public void testEntityIsSharedBetweenCommands() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+
+            ProcessDefinitionEntity processDefinition = findProcessDefinitionById(processDefinitionId);
+            assertThat(processDefinition).isNotNull();
+            assertThat(sharedEntityCache.size()).isEqualTo(1);
+
+            ProcessDefinitionEntity cachedProcessDefinition = findProcessDefinitionById(processDefinitionId);
+            assertThat(cachedProcessDefinition).isNotSameAs(processDefinition);
+            assertThat(cachedProcessDefinition.getKey()).isEqualTo(processDefinition.getKey());
+            assertThat(cachedProcessDefinition.getRevision()).isEqualTo(processDefinition.getRevision());
+            assertThat(sharedEntityCache.getHitCount()).isEqualTo(1);
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    @Test
+    public void testRolledBackUpdateIsNotVisibleThroughCache() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+            String category = findProcessDefinitionById(processDefinitionId).getCategory();
+
+            assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+                ProcessDefinitionEntity processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+                processDefinition.setCategory("changed");
+                CommandContextUtil.getDbSqlSession(commandContext).flush();
+                throw new FlowableException("rollback");
+            })).hasMessage("rollback");
+
+            assertThat(findProcessDefinitionById(processDefinitionId).getCategory()).isEqualTo(category);
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    @Test
+    public void testReadInRolledBackTransactionIsNotCached() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+
+            assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+                assertThat(CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId)).isNotNull();
+                throw new FlowableException("rollback");
+            })).hasMessage("rollback");
+            assertThat(sharedEntityCache.size()).isZero();
+
+            assertThat(findProcessDefinitionById(processDefinitionId)).isNotNull();
+            assertThat(sharedEntityCache.size()).isEqualTo(1);
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    @Test
+    public void testConcurrentUpdateIsNotVisibleThroughCache() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+            String category = findProcessDefinitionById(processDefinitionId).getCategory();
+
+            String categoryInOtherCommand = managementService.executeCommand(commandContext -> {
+                ProcessDefinitionEntity processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+                processDefinition.setCategory("changed");
+
+                // Another command, on another thread, while the change of this command is not committed
+                return CompletableFuture.supplyAsync(() -> findProcessDefinitionById(processDefinitionId).getCategory()).join();
+            });
+
+            assertThat(categoryInOtherCommand).isEqualTo(category);
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    @Test
+    public void testEntityIsEvictedOnUpdate() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        try {
+            String processDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+            assertThat(findProcessDefinitionById(processDefinitionId).isSuspended()).isFalse();
+
+            repositoryService.suspendProcessDefinitionById(processDefinitionId);
+            assertThat(sharedEntityCache.get(ProcessDefinitionEntityImpl.class, processDefinitionId)).isNull();
+            assertThat(findProcessDefinitionById(processDefinitionId).isSuspended()).isTrue();
+
+            repositoryService.activateProcessDefinitionById(processDefinitionId);
+            assertThat(findProcessDefinitionById(processDefinitionId).isSuspended()).isFalse();
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    @Test
+    public void testEntityIsEvictedOnDelete() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+        assertThat(findProcessDefinitionById(processDefinition.getId())).isNotNull();
+
+        repositoryService.deleteDeployment(deploymentId, true);
+        assertThat(findProcessDefinitionById(processDefinition.getId())).isNull();
+    }
+
+    protected ProcessDefinitionEntity findProcessDefinitionById(String processDefinitionId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext)
+                .findById(processDefinitionId));
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -24,6 +25,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -44,6 +47,8 @@ import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEnt
 import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.ExternalWorkerJobWaiters;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.task.api.TaskInfo;
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -79,6 +84,72 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWaitingForJobs() throws Exception {
+        ExternalWorkerJobWaiters externalWorkerJobWaiters = processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobWaiters();
+
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = CompletableFuture.supplyAsync(
+                () -> managementService.createExternalWorkerJobAcquireBuilder()
+                        .topic("simple", Duration.ofMinutes(30))
+                        .waitForJobs(Duration.ofSeconds(30))
+                        .acquireAndLock(1, "testWorker"));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> externalWorkerJobWaiters.getWaiterCount("simple") == 1);
+        assertThat(acquiredJobsFuture).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .start();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(10, TimeUnit.SECONDS);
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getLockOwner)
+                .containsExactly(tuple(processInstance.getId(), "testWorker"));
+        assertThat(externalWorkerJobWaiters.getWaiterCount("simple")).isZero();
+    }
+
+    @Test
+    void testAcquireWaitingForJobsTimesOut() {
+        long start = System.nanoTime();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .waitForJobs(Duration.ofMillis(200))
+                .acquireAndLock(1, "testWorker");
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        assertThat(processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobWaiters().getWaiterCount("simple")).isZero();
+    }
+
+    @Test
+    void testAcquireWaitingForJobsIsCappedToMaxWaitTimeout() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        Duration originalMaxWaitTimeout = jobServiceConfiguration.getExternalWorkerJobMaxWaitTimeout();
+        jobServiceConfiguration.setExternalWorkerJobMaxWaitTimeout(Duration.ofMillis(200));
+        try {
+            long start = System.nanoTime();
+            List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("simple", Duration.ofMinutes(30))
+                    .waitForJobs(Duration.ofHours(1))
+                    .acquireAndLock(1, "testWorker");
+
+            assertThat(acquiredJobs).isEmpty();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+
+        } finally {
+            jobServiceConfiguration.setExternalWorkerJobMaxWaitTimeout(originalMaxWaitTimeout);
+        }
+    }
+
+    @Test
+    void testAcquireWaitingForJobsWithNegativeTimeout() {
+        assertThatThrownBy(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .waitForJobs(Duration.ofSeconds(-1)))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
     @Test
     @Deployment
     void testSimple() {
@@ -27,12 +27,14 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -203,6 +205,41 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testSkipLockedAcquisitionOnUnsupportedDatabase() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+            processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+            processEngineConfiguration.setDatabaseSchemaUpdate("true");
+            processEngineConfiguration.setAsyncExecutorActivate(true);
+            processEngineConfiguration.setSkipLockedJobAcquisitionEnabled(true);
+            processEngine = processEngineConfiguration.buildProcessEngine();
+
+            // H2 can't skip locked rows, the regular acquisition is used
+            assertThat(processEngineConfiguration.getJobServiceConfiguration().isSkipLockedJobAcquisitionEnabled()).isTrue();
+            boolean skipLockedSupported = processEngine.getManagementService().executeCommand(commandContext -> CommandContextUtil.getDbSqlSession(commandContext)
+                    .isSkipLockedSupported());
+            assertThat(skipLockedSupported).isFalse();
+
+            deploy(processEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+            waitForAllJobsBeingExecuted(processEngine);
+
+            assertThat(processEngine.getManagementService().createJobQuery().count()).isZero();
+            assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        } finally {
+
+            // Clean up
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
     @Test
     public void testAsyncFailingScript() {
 
@@ -343,6 +380,53 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testJobRejectionOnMaxConcurrencyWithVirtualThreads() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+
+        // Important for this test
+        processEngineConfiguration.setAsyncExecutorVirtualThreads(true);
+        processEngineConfiguration.setAsyncExecutorMaxConcurrency(2);
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        assertThat(processEngineConfiguration.getAsyncTaskExecutor()).isInstanceOf(VirtualThreadAsyncTaskExecutor.class);
+
+        TestRejectionEventListener.COUNTER.set(0);
+        TestBlockingJavaDelegate.SEMAPHORE.drainPermits();
+        processEngine.getProcessEngineConfiguration().getEventDispatcher().addEventListener(new TestRejectionEventListener(), FlowableEngineEventType.JOB_REJECTED);
+
+        // 3 starts:
+        // 1) and 2) a permit available -> 1 thread blocked each
+        // 3) no permit available -> rejected, there is no queue
+        int nrOfProcesses = 3;
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testAsyncJobRejection.bpmn20.xml");
+
+            for (int i = 0; i < nrOfProcesses; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("testRejection");
+            }
+            assertThat(TestRejectionEventListener.COUNTER.get()).isEqualTo(1);
+            assertThat(processEngineConfiguration.getAsyncTaskExecutor().getRemainingCapacity()).isZero();
+
+        } finally {
+
+            TestBlockingJavaDelegate.SEMAPHORE.release(nrOfProcesses);
+
+            // 2 blocked jobs should be processed and end the process instance
+            // other job should have been changed to a timer job
+            await().atMost(Duration.of(10, SECONDS)).until(() -> processEngine.getRuntimeService().createProcessInstanceQuery().count() == 1);
+            assertThat(TestRejectionEventListener.COUNTER.get()).isEqualTo(1);
+
+            TestRejectionEventListener.COUNTER.set(0);
+            TestBlockingJavaDelegate.SEMAPHORE.drainPermits();
+            cleanup(processEngine);
+        }
+    }
+
     // Helpers ////////////////////////////////////////////////////////
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
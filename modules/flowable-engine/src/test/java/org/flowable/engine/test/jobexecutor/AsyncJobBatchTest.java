@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncJobBatchTest extends PluggableFlowableTestCase {
+
+    protected static final Set<CommandContext> COMMAND_CONTEXTS = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    protected int originalBatchSize;
+
+    @BeforeEach
+    public void setUp() {
+        COMMAND_CONTEXTS.clear();
+        originalBatchSize = processEngineConfiguration.getAsyncExecutorConfiguration().getAsyncJobBatchSize();
+        processEngineConfiguration.getAsyncExecutorConfiguration().setAsyncJobBatchSize(5);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngineConfiguration.getAsyncExecutorConfiguration().setAsyncJobBatchSize(originalBatchSize);
+        COMMAND_CONTEXTS.clear();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncJobBatchTest.asyncJobBatch.bpmn20.xml")
+    public void testIndependentJobsExecutedInBatches() {
+        for (int i = 0; i < 10; i++) {
+            runtimeService.startProcessInstanceByKey("asyncJobBatch");
+        }
+        assertThat(managementService.createJobQuery().count()).isEqualTo(10);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(taskService.createTaskQuery().taskDefinitionKey("theTask").count()).isEqualTo(10);
+        assertThat(COMMAND_CONTEXTS).hasSizeLessThan(10);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncJobBatchTest.asyncJobBatch.bpmn20.xml")
+    public void testFailingJobFallsBackToPerJobExecution() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("asyncJobBatch").getId());
+        }
+        ProcessInstance failingProcessInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("asyncJobBatch")
+                .variable("fail", true)
+                .start();
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        for (String processInstanceId : processInstanceIds) {
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+        }
+
+        assertThat(taskService.createTaskQuery().processInstanceId(failingProcessInstance.getId()).count()).isZero();
+        Job deadLetterJob = managementService.createDeadLetterJobQuery().processInstanceId(failingProcessInstance.getId()).singleResult();
+        assertThat(deadLetterJob).isNotNull();
+        assertThat(deadLetterJob.getExceptionMessage()).isEqualTo("Failing as requested");
+    }
+
+    public static class RecordingDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            if (Boolean.TRUE.equals(execution.getVariable("fail"))) {
+                throw new FlowableException("Failing as requested");
+            }
+            COMMAND_CONTEXTS.add(Context.getCommandContext());
+        }
+    }
+
+}
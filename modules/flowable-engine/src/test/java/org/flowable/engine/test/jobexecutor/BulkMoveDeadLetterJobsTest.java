@@ -13,15 +13,27 @@
 package org.flowable.engine.test.jobexecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.cmd.FailingDelegate;
 import org.flowable.engine.test.Deployment;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -89,4 +101,133 @@ public class BulkMoveDeadLetterJobsTest extends JobExecutorTestCase {
         assertProcessEnded(instance1.getId());
         assertProcessEnded(instance2.getId());
     }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/BulkMoveDeadLetterJobsTest.testBulkMoveDeadLetterJobs.bpmn20.xml")
+    public void testBulkMoveDeadLetterJobsByQueryInChunks() {
+        List<ProcessInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            instances.add(runtimeService.createProcessInstanceBuilder().variable("fail", true).processDefinitionKey("failedServiceTask").start());
+        }
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(managementService.createDeadLetterJobQuery().count()).isEqualTo(3);
+
+        for (ProcessInstance instance : instances) {
+            runtimeService.setVariable(instance.getId(), "fail", false);
+        }
+
+        String batchId = managementService.bulkMoveDeadLetterJobs(
+                managementService.createDeadLetterJobQuery().processDefinitionId(instances.get(0).getProcessDefinitionId()), 3, 2);
+
+        assertThat(managementService.createDeadLetterJobQuery().list()).isEmpty();
+
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertThat(jobs)
+                .extracting(Job::getRetries, Job::getExceptionMessage)
+                .containsOnly(tuple(3, FailingDelegate.EXCEPTION_MESSAGE));
+        for (Job job : jobs) {
+            assertThat(managementService.getJobExceptionStacktrace(job.getId())).contains(FailingDelegate.EXCEPTION_MESSAGE);
+        }
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getBatchType()).isEqualTo(Batch.DEAD_LETTER_JOB_MOVE_TYPE);
+        assertThat(batch.getStatus()).isEqualTo("completed");
+
+        List<BatchPart> batchParts = managementService.findBatchPartsByBatchId(batchId);
+        assertThat(batchParts)
+                .extracting(BatchPart::getStatus)
+                .containsExactly("completed", "completed");
+        assertThat(batchParts)
+                .extracting(batchPart -> managementService.getBatchPartDocument(batchPart.getId()))
+                .containsExactlyInAnyOrder("{\"numberOfMovedJobs\":2}", "{\"numberOfMovedJobs\":1}");
+
+        jobs.forEach(job -> managementService.executeJob(job.getId()));
+
+        assertThat(managementService.createJobQuery().list()).isEmpty();
+        for (ProcessInstance instance : instances) {
+            assertProcessEnded(instance.getId());
+        }
+
+        managementService.deleteBatch(batchId);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/BulkMoveDeadLetterJobsTest.testBulkMoveDeadLetterJobs.bpmn20.xml")
+    public void testBulkMoveDeadLetterJobsByQueryWithOrphanedJob() {
+        List<ProcessInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            instances.add(runtimeService.createProcessInstanceBuilder().variable("fail", true).processDefinitionKey("failedServiceTask").start());
+        }
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        for (ProcessInstance instance : instances) {
+            runtimeService.setVariable(instance.getId(), "fail", false);
+        }
+
+        // A deadletter job whose scope is gone cannot be moved. The mocked internal job manager of the job's scope type reports the scope as gone,
+        // as the foreign key to the execution does not allow inserting such a job directly. The id makes sure the job is part of the first chunk.
+        InternalJobManager internalJobManager = processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager();
+        internalJobManager.registerScopedInternalJobManager("orphanedScope", mock(InternalJobManager.class));
+        String processDefinitionId = instances.get(0).getProcessDefinitionId();
+        try {
+            managementService.executeCommand(commandContext -> {
+                DeadLetterJobEntityManager deadLetterJobEntityManager = processEngineConfiguration.getJobServiceConfiguration().getDeadLetterJobEntityManager();
+                DeadLetterJobEntity orphanedJob = deadLetterJobEntityManager.create();
+                orphanedJob.setId("0000-orphaned-job");
+                orphanedJob.setJobType(Job.JOB_TYPE_MESSAGE);
+                orphanedJob.setScopeType("orphanedScope");
+                orphanedJob.setProcessDefinitionId(processDefinitionId);
+                orphanedJob.setJobHandlerType(AsyncContinuationJobHandler.TYPE);
+                deadLetterJobEntityManager.insert(orphanedJob);
+                return null;
+            });
+
+            assertThat(managementService.createDeadLetterJobQuery().orderByJobId().asc().list())
+                    .extracting(Job::getId)
+                    .hasSize(4)
+                    .startsWith("0000-orphaned-job");
+
+            String batchId = managementService.bulkMoveDeadLetterJobs(managementService.createDeadLetterJobQuery().processDefinitionId(processDefinitionId), 3, 2);
+
+            assertThat(managementService.createDeadLetterJobQuery().list())
+                    .extracting(Job::getId)
+                    .containsExactly("0000-orphaned-job");
+            assertThat(managementService.createJobQuery().count()).isEqualTo(3);
+
+            Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+            assertThat(batch.getStatus()).isEqualTo("failed");
+
+            List<BatchPart> batchParts = managementService.findBatchPartsByBatchId(batchId);
+            assertThat(batchParts)
+                    .extracting(BatchPart::getStatus, batchPart -> managementService.getBatchPartDocument(batchPart.getId()))
+                    .containsExactlyInAnyOrder(
+                            tuple("completed", "{\"numberOfMovedJobs\":1}"),
+                            tuple("failed", "{\"skippedJobIds\":[\"0000-orphaned-job\"]}"),
+                            tuple("completed", "{\"numberOfMovedJobs\":2}")
+                    );
+
+            managementService.createJobQuery().list().forEach(job -> managementService.executeJob(job.getId()));
+            for (ProcessInstance instance : instances) {
+                assertProcessEnded(instance.getId());
+            }
+
+            managementService.deleteDeadLetterJob("0000-orphaned-job");
+            managementService.deleteBatch(batchId);
+
+        } finally {
+            internalJobManager.registerScopedInternalJobManager("orphanedScope", null);
+        }
+    }
+
+    @Test
+    public void testBulkMoveDeadLetterJobsByQueryWithInvalidRetries() {
+        assertThatThrownBy(() -> managementService.bulkMoveDeadLetterJobs(managementService.createDeadLetterJobQuery(), 0, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("retries has to be at least 1");
+
+        assertThat(managementService.createBatchQuery().batchType(Batch.DEAD_LETTER_JOB_MOVE_TYPE).count()).isZero();
+    }
 }
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.FairJobScheduler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.Test;
+
+public class FairJobSchedulingTest extends PluggableFlowableTestCase {
+
+    protected static final String RESOURCE = "org/flowable/engine/test/jobexecutor/FairJobSchedulingTest.asyncTask.bpmn20.xml";
+
+    @Test
+    public void testSaturatedTenantsExcludedFromAcquisition() {
+        deployForTenant("flood");
+        deployForTenant("tenantA");
+        deployForTenant("");
+
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKeyAndTenantId("fairJobScheduling", "flood");
+        }
+        runtimeService.startProcessInstanceByKeyAndTenantId("fairJobScheduling", "tenantA");
+        runtimeService.startProcessInstanceByKey("fairJobScheduling");
+        assertThat(managementService.createJobQuery().count()).isEqualTo(5);
+
+        assertThat(findJobsToExecute(Collections.emptyList())).hasSize(5);
+        assertThat(findJobsToExecute(Collections.singletonList("flood")))
+                .extracting(JobInfo::getTenantId)
+                .containsExactlyInAnyOrder("tenantA", "");
+        assertThat(findJobsToExecute(Arrays.asList("flood", "")))
+                .extracting(JobInfo::getTenantId)
+                .containsExactly("tenantA");
+    }
+
+    @Test
+    public void testAcquiredJobsInterleavedByTenant() {
+        deployForTenant("flood");
+        deployForTenant("tenantA");
+
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKeyAndTenantId("fairJobScheduling", "flood");
+        }
+        runtimeService.startProcessInstanceByKeyAndTenantId("fairJobScheduling", "tenantA");
+
+        AsyncJobExecutorConfiguration configuration = new AsyncJobExecutorConfiguration();
+        configuration.setMaxConcurrentJobsPerTenant(2);
+        FairJobScheduler scheduler = new FairJobScheduler(configuration);
+
+        List<JobEntity> orderedJobs = scheduler.order(findJobsToExecute(Collections.emptyList()));
+        assertThat(orderedJobs).extracting(JobInfo::getTenantId).containsExactly("flood", "tenantA", "flood", "flood");
+
+        orderedJobs.forEach(scheduler::tryAcquireSlot);
+        assertThat(scheduler.getSaturatedTenantIds()).containsExactly("flood");
+        assertThat(findJobsToExecute(scheduler.getSaturatedTenantIds()))
+                .extracting(JobInfo::getTenantId)
+                .containsExactly("tenantA");
+    }
+
+    protected void deployForTenant(String tenantId) {
+        Deployment deployment = repositoryService.createDeployment()
+                .addClasspathResource(RESOURCE)
+                .tenantId(tenantId)
+                .deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+    }
+
+    protected List<JobEntity> findJobsToExecute(Collection<String> excludedTenantIds) {
+        return managementService.executeCommand(commandContext -> processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager()
+                .findJobsToExecute(null, new HashSet<>(excludedTenantIds), new Page(0, 10)));
+    }
+
+}
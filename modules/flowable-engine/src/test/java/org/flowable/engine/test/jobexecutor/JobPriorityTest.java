@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.Page;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class JobPriorityTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    public void tearDown() {
+        processEngineConfiguration.getJobServiceConfiguration().getJobHandlerPriorities().remove(AsyncContinuationJobHandler.TYPE);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobPriorityTest.jobPriority.bpmn20.xml")
+    public void testJobPriorityFromModel() {
+        String processInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", 90)
+                .start()
+                .getId();
+
+        Job job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(job.getPriority()).isEqualTo(90);
+
+        String otherProcessInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", "20")
+                .start()
+                .getId();
+        assertThat(managementService.createJobQuery().processInstanceId(otherProcessInstanceId).singleResult().getPriority()).isEqualTo(20);
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", "high")
+                .start())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("does not resolve to a number");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobPriorityTest.jobPriority.bpmn20.xml")
+    public void testJobPriorityFromJobHandlerType() {
+        String processInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", null)
+                .start()
+                .getId();
+        assertThat(managementService.createJobQuery().processInstanceId(processInstanceId).singleResult().getPriority()).isEqualTo(Job.DEFAULT_PRIORITY);
+
+        processEngineConfiguration.getJobServiceConfiguration().addJobHandlerPriority(AsyncContinuationJobHandler.TYPE, 10);
+        String otherProcessInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", null)
+                .start()
+                .getId();
+        assertThat(managementService.createJobQuery().processInstanceId(otherProcessInstanceId).singleResult().getPriority()).isEqualTo(10);
+
+        // A priority from the model wins over the priority of the job handler type
+        String modelPriorityProcessInstanceId = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", 70)
+                .start()
+                .getId();
+        assertThat(managementService.createJobQuery().processInstanceId(modelPriorityProcessInstanceId).singleResult().getPriority()).isEqualTo(70);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobPriorityTest.jobPriority.bpmn20.xml")
+    public void testJobsAcquiredInPriorityOrder() {
+        String lowProcessInstanceId = startProcessInstanceWithPriority(10);
+        String defaultProcessInstanceId = startProcessInstanceWithPriority(Job.DEFAULT_PRIORITY);
+        String highProcessInstanceId = startProcessInstanceWithPriority(90);
+        String otherLowProcessInstanceId = startProcessInstanceWithPriority(10);
+
+        List<JobEntity> jobs = managementService.executeCommand(commandContext -> processEngineConfiguration.getJobServiceConfiguration()
+                .getJobEntityManager().findJobsToExecute(Collections.emptyList(), new Page(0, 10)));
+
+        assertThat(jobs)
+                .extracting(Job::getProcessInstanceId)
+                .startsWith(highProcessInstanceId, defaultProcessInstanceId)
+                .containsExactlyInAnyOrder(highProcessInstanceId, defaultProcessInstanceId, lowProcessInstanceId, otherLowProcessInstanceId);
+
+        List<JobEntity> firstJob = managementService.executeCommand(commandContext -> processEngineConfiguration.getJobServiceConfiguration()
+                .getJobEntityManager().findJobsToExecute(Collections.emptyList(), new Page(0, 1)));
+        assertThat(firstJob).extracting(Job::getProcessInstanceId).containsExactly(highProcessInstanceId);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobPriorityTest.timerJobPriority.bpmn20.xml")
+    public void testTimerJobPriorityKeptWhenMovedToExecutable() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("timerJobPriority").getId();
+
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(timerJob.getPriority()).isEqualTo(80);
+
+        Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+        assertThat(job.getPriority()).isEqualTo(80);
+        assertThat(managementService.createJobQuery().processInstanceId(processInstanceId).singleResult().getPriority()).isEqualTo(80);
+
+        managementService.moveJobToDeadLetterJob(job.getId());
+        assertThat(managementService.createDeadLetterJobQuery().processInstanceId(processInstanceId).singleResult().getPriority()).isEqualTo(80);
+    }
+
+    protected String startProcessInstanceWithPriority(int priority) {
+        return runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("jobPriority")
+                .variable("priority", priority)
+                .start()
+                .getId();
+    }
+
+}
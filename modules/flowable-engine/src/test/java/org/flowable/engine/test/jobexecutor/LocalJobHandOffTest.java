@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class LocalJobHandOffTest {
+
+    protected ProcessEngine processEngine;
+    protected JobEntityRecordingListener listener = new JobEntityRecordingListener();
+
+    @AfterEach
+    public void tearDown() {
+        if (processEngine != null) {
+            for (Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testHandedOffJobExecutedWithoutReadBack() {
+        buildProcessEngine(true);
+
+        ProcessInstance processInstance = startProcessAndWaitForAsyncTask();
+
+        Object createdJob = listener.createdJobs.get(processInstance.getId());
+        assertThat(createdJob).isNotNull();
+        assertThat(listener.executedJobs.get(processInstance.getId())).isSameAs(createdJob);
+        assertThat(processEngine.getManagementService().createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    public void testJobReadBackWithoutHandOff() {
+        buildProcessEngine(false);
+
+        ProcessInstance processInstance = startProcessAndWaitForAsyncTask();
+
+        Object createdJob = listener.createdJobs.get(processInstance.getId());
+        assertThat(createdJob).isNotNull();
+        assertThat(listener.executedJobs.get(processInstance.getId())).isNotNull().isNotSameAs(createdJob);
+    }
+
+    protected void buildProcessEngine(boolean localJobHandOffEnabled) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-LocalJobHandOffTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("drop-create");
+        processEngineConfiguration.setEngineName("localJobHandOffEngine");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setLocalJobHandOffEnabled(localJobHandOffEnabled);
+
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        processEngine.getRuntimeService().addEventListener(listener, FlowableEngineEventType.ENTITY_CREATED, FlowableEngineEventType.JOB_EXECUTION_SUCCESS);
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/LocalJobHandOffTest.asyncTask.bpmn20.xml")
+                .deploy();
+    }
+
+    protected ProcessInstance startProcessAndWaitForAsyncTask() {
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("localJobHandOff");
+
+        await("async task created")
+                .atMost(Duration.ofSeconds(20))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertThat(processEngine.getTaskService().createTaskQuery()
+                        .processInstanceId(processInstance.getId())
+                        .count()).isEqualTo(1));
+
+        return processInstance;
+    }
+
+    public static class JobEntityRecordingListener implements FlowableEventListener {
+
+        protected final Map<String, Object> createdJobs = new ConcurrentHashMap<>();
+        protected final Map<String, Object> executedJobs = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            Object entity = ((FlowableEngineEntityEvent) event).getEntity();
+            if (entity instanceof Job && ((Job) entity).getProcessInstanceId() != null) {
+                if (event.getType() == FlowableEngineEventType.ENTITY_CREATED) {
+                    createdJobs.put(((Job) entity).getProcessInstanceId(), entity);
+                } else {
+                    executedJobs.put(((Job) entity).getProcessInstanceId(), entity);
+                }
+            }
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        @Override
+        public boolean isFireOnTransactionLifecycleEvent() {
+            return false;
+        }
+
+        @Override
+        public String getOnTransaction() {
+            return null;
+        }
+    }
+
+}
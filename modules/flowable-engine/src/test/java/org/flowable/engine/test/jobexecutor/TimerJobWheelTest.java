@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TimerJobWheelTest {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-TimerJobWheelTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("drop-create");
+        processEngineConfiguration.setEngineName("timerJobWheelEngine");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+
+        // The timer job acquisition would only find the timer after a minute
+        processEngineConfiguration.getAsyncExecutorConfiguration().setDefaultTimerJobAcquireWaitTime(Duration.ofMinutes(1));
+        processEngineConfiguration.getAsyncExecutorConfiguration().setTimerWheelEnabled(true);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setTimerWheelTickDuration(Duration.ofMillis(20));
+
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testTimerMovedAtDueTime() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        assertThat(jobServiceConfiguration.getTimerJobWheel()).isNotNull();
+        assertThat(jobServiceConfiguration.getTimerJobWheel().isRunning()).isTrue();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/TimerJobWheelTest.testTimerMovedAtDueTime.bpmn20.xml")
+                .deploy();
+
+        ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("timerJobWheel");
+        assertThat(processEngine.getManagementService().createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        await("timer fired by the timer wheel")
+                .atMost(Duration.ofSeconds(20))
+                .pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertThat(processEngine.getTaskService().createTaskQuery()
+                        .processInstanceId(processInstance.getId())
+                        .taskDefinitionKey("taskAfterTimer")
+                        .count()).isEqualTo(1));
+
+        assertThat(processEngine.getManagementService().createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(jobServiceConfiguration.getTimerJobWheel().getSize()).isZero();
+    }
+
+    @Test
+    public void testTimerWheelStoppedWithAsyncExecutor() {
+        TimerJobWheel timerJobWheel = processEngineConfiguration.getJobServiceConfiguration().getTimerJobWheel();
+        processEngineConfiguration.getAsyncExecutor().shutdown();
+
+        assertThat(timerJobWheel.isRunning()).isFalse();
+        assertThat(processEngineConfiguration.getJobServiceConfiguration().getTimerJobWheel()).isNull();
+        assertThat(timerJobWheel.schedule("someJobId", 0)).isFalse();
+    }
+
+}
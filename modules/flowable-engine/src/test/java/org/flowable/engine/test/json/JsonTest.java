@@ -30,6 +30,7 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -38,9 +39,12 @@ import org.flowable.engine.test.Deployment;
 import org.flowable.task.api.Task;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LazyJsonObjectNode;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -828,6 +832,71 @@ public class JsonTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testLazyJsonParsing() {
+        ObjectNode order = objectMapper.createObjectNode();
+        order.putObject("customer").put("id", "c1").put("name", "Kermit");
+        order.putArray("items").add(1).add(2);
+        order.put("notes", RandomStringUtils.randomAlphanumeric(5000));
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("order", order)
+                .start();
+
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        VariableType jsonType = variableTypes.getVariableType(JsonType.TYPE_NAME);
+        VariableType longJsonType = variableTypes.getVariableType("longJson");
+        int jsonTypeIndex = variableTypes.getTypeIndex(jsonType);
+        variableTypes.removeType(jsonType);
+        variableTypes.addType(new JsonType(processEngineConfiguration.getMaxLengthString(), objectMapper, true, true), jsonTypeIndex);
+        int longJsonTypeIndex = variableTypes.getTypeIndex(longJsonType);
+        variableTypes.removeType(longJsonType);
+        variableTypes.addType(JsonType.longJsonType(processEngineConfiguration.getMaxLengthString(), objectMapper, true, true), longJsonTypeIndex);
+        try {
+            managementService.executeCommand(commandContext -> {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${order.customer.id}");
+                assertThat(expression.getValue(execution)).isEqualTo("c1");
+
+                LazyJsonObjectNode orderNode = (LazyJsonObjectNode) execution.getVariable("order");
+                assertThat(orderNode.isMaterialized()).isFalse();
+                assertThat(orderNode.isPossiblyModified()).isFalse();
+                assertThat(((LazyJsonObjectNode) orderNode.get("customer")).isMaterialized()).isFalse();
+                return null;
+            });
+
+            int revision = ((VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "order")).getRevision();
+
+            managementService.executeCommand(commandContext -> {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                assertThat(processEngineConfiguration.getExpressionManager().createExpression("${order.items[1]}").getValue(execution)).isEqualTo(2);
+                assertThat(processEngineConfiguration.getExpressionManager().createExpression("${order.customer.name}").getValue(execution))
+                        .isEqualTo("Kermit");
+                return null;
+            });
+            assertThat(((VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "order")).getRevision()).isEqualTo(revision);
+
+            managementService.executeCommand(commandContext -> {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                processEngineConfiguration.getExpressionManager().createExpression("${order.customer.name}").setValue("Gonzo", execution);
+                return null;
+            });
+
+            JsonNode storedOrder = (JsonNode) runtimeService.getVariable(processInstance.getId(), "order");
+            assertThat(storedOrder).isInstanceOf(LazyJsonObjectNode.class);
+            ((ObjectNode) order.get("customer")).put("name", "Gonzo");
+            assertThat(storedOrder).isEqualTo(order);
+
+        } finally {
+            variableTypes.removeType(variableTypes.getVariableType(JsonType.TYPE_NAME));
+            variableTypes.addType(jsonType, jsonTypeIndex);
+            variableTypes.removeType(variableTypes.getVariableType("longJson"));
+            variableTypes.addType(longJsonType, longJsonTypeIndex);
+        }
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
     void testSetIntegerInJsonNode() {
@@ -22,8 +22,11 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.FlowableScriptEvaluationException;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.scripting.ProcessScopeDefinitionIdResolver;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -207,4 +210,37 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
                 .containsOnly(entry("persistentResult", "success"));
     }
 
+    @Test
+    public void testCompiledScriptCache() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(10);
+        scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+        scriptingEngines.setScopeDefinitionIdResolver(new ProcessScopeDefinitionIdResolver());
+        try {
+            String resource = "org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testCompiledScriptCache.bpmn20.xml";
+
+            String firstDeploymentId = repositoryService.createDeployment().addClasspathResource(resource).deploy().getId();
+            for (int i = 0; i < 3; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("compiledScriptProcess", CollectionUtil.map("a", i, "b", 10));
+                assertThat(runtimeService.getVariable(processInstance.getId(), "sum")).isEqualTo(i + 10);
+            }
+            assertThat(compiledScriptCache.size()).isEqualTo(1);
+            assertThat(compiledScriptCache.getMissCount()).isEqualTo(1);
+            assertThat(compiledScriptCache.getHitCount()).isEqualTo(2);
+
+            // A new version supersedes the compiled scripts of the previous one
+            String secondDeploymentId = repositoryService.createDeployment().addClasspathResource(resource).deploy().getId();
+            assertThat(compiledScriptCache.size()).isZero();
+            runtimeService.startProcessInstanceByKey("compiledScriptProcess", CollectionUtil.map("a", 1, "b", 2));
+            assertThat(compiledScriptCache.size()).isEqualTo(1);
+
+            repositoryService.deleteDeployment(secondDeploymentId, true);
+            assertThat(compiledScriptCache.size()).isZero();
+            repositoryService.deleteDeployment(firstDeploymentId, true);
+        } finally {
+            scriptingEngines.setCompiledScriptCache(null);
+            scriptingEngines.setScopeDefinitionIdResolver(null);
+        }
+    }
+
 }
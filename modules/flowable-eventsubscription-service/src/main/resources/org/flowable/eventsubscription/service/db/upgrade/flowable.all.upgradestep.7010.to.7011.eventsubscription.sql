@@ -0,0 +1 @@
+update ACT_GE_PROPERTY set VALUE_ = '7.0.1.1' where NAME_ = 'eventsubscription.schema.version';
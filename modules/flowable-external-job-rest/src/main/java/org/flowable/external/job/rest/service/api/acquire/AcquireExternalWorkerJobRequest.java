@@ -43,6 +43,11 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When there are no jobs, wait at most this long for a job with the topic to be created before responding (long polling). ISO-8601 duration format PnDTnHnMn.nS. Must not be negative and is capped to the configured maximum, 30 seconds by default. By default the response is immediate.",
+            example = "PT30S", dataType = "string")
+    protected Duration waitTimeout;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +95,12 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
 }
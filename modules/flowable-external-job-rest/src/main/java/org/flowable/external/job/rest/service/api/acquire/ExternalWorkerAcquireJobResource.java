@@ -81,6 +81,14 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
+        if (request.getWaitTimeout() != null) {
+            if (request.getWaitTimeout().isNegative()) {
+                throw new FlowableIllegalArgumentException("waitTimeout must not be negative");
+            }
+            // The builder caps the wait timeout to the maximum configured on the job service configuration
+            acquireBuilder.waitForJobs(request.getWaitTimeout());
+        }
+
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
             List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
                     .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
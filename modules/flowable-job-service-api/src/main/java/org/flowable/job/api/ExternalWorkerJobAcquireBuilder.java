@@ -57,6 +57,14 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * When no jobs are available, wait at most the given time for a job with the requested topic to be created,
+     * instead of returning an empty list right away (long polling).
+     * The wait ends early when an external worker job for the topic is created on the same engine node.
+     * Wait timeouts longer than the configured maximum (30 seconds by default) are capped to that maximum.
+     */
+    ExternalWorkerJobAcquireBuilder waitForJobs(Duration waitTimeout);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
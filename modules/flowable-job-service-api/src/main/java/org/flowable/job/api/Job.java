@@ -28,6 +28,8 @@ public interface Job extends JobInfo {
 
     boolean DEFAULT_EXCLUSIVE = true;
 
+    int DEFAULT_PRIORITY = 50;
+
     /**
      * Returns the correlation id of a job.
      * The same job can be moved around and have its technical id changed.
@@ -59,6 +61,11 @@ public interface Job extends JobInfo {
      * Get the category for this job.
      */
     String getCategory();
+
+    /**
+     * Get the priority for this job. Jobs with a higher priority are acquired and executed before jobs with a lower priority.
+     */
+    int getPriority();
     
     /**
      * Get the job type for this job.
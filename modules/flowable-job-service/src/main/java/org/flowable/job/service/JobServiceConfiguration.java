@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,6 +27,9 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.ExternalWorkerJobWaiters;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -36,6 +40,7 @@ import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.asyncexecutor.TimerJobScheduler;
 import org.flowable.job.service.impl.asyncexecutor.TimerJobSchedulerImpl;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobWheel;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityManager;
@@ -84,6 +89,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected JobManager jobManager;
 
     protected TimerJobScheduler timerJobScheduler;
+    protected TimerJobWheel timerJobWheel;
+    protected ExternalWorkerJobWaiters externalWorkerJobWaiters = new ExternalWorkerJobWaiters();
+
+    /**
+     * The longest time an external worker job acquisition waits for jobs, longer wait timeouts are capped to it.
+     * Every waiting acquisition holds its calling thread, e.g. a request thread of the REST API.
+     */
+    protected Duration externalWorkerJobMaxWaitTimeout = Duration.ofSeconds(30);
     protected Collection<ServiceConfigurator<JobServiceConfiguration>> configurators;
 
     // DATA MANAGERS ///////////////////////////////////////////////////
@@ -119,11 +132,32 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     
     protected String jobExecutionScope;
     protected Map<String, JobHandler> jobHandlers;
+
+    /**
+     * The priority per job handler type, given to the jobs that have no priority of their own when they are inserted.
+     * Jobs of a job handler type without a priority here get {@link Job#DEFAULT_PRIORITY}.
+     */
+    protected Map<String, Integer> jobHandlerPriorities = new HashMap<>();
+
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
     protected List<JobProcessor> jobProcessors;
     
     protected List<String> enabledJobCategories;
+
+    /**
+     * Whether async, timer and external worker jobs are acquired with {@code SELECT ... FOR UPDATE SKIP LOCKED} on databases supporting it.
+     * The selected rows stay locked until the acquiring transaction commits, so concurrent acquirers skip them
+     * instead of selecting the same jobs and failing on the optimistic lock when claiming them.
+     */
+    protected boolean skipLockedJobAcquisitionEnabled;
+
+    /**
+     * On Oracle, the number of jobs that is skip locked can't be limited in the statement itself, as rows are locked when they are fetched.
+     * The statement selects this many times the number of jobs to acquire as candidates, in priority order, and only the wanted number
+     * of unlocked jobs is fetched from them. Concurrent acquirers then find enough unlocked jobs, instead of all selecting the same first rows.
+     */
+    protected int skipLockedJobAcquisitionCandidateMultiplier = 10;
     
     protected AsyncExecutor asyncHistoryExecutor;
     protected int asyncHistoryExecutorNumberOfRetries;
@@ -131,6 +165,8 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobProcessor> historyJobProcessors;
+
+    protected EngineMetrics engineMetrics;
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -290,6 +326,32 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.timerJobScheduler = timerJobScheduler;
     }
 
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
+    public void setTimerJobWheel(TimerJobWheel timerJobWheel) {
+        this.timerJobWheel = timerJobWheel;
+    }
+
+    public ExternalWorkerJobWaiters getExternalWorkerJobWaiters() {
+        return externalWorkerJobWaiters;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobWaiters(ExternalWorkerJobWaiters externalWorkerJobWaiters) {
+        this.externalWorkerJobWaiters = externalWorkerJobWaiters;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobMaxWaitTimeout() {
+        return externalWorkerJobMaxWaitTimeout;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobMaxWaitTimeout(Duration externalWorkerJobMaxWaitTimeout) {
+        this.externalWorkerJobMaxWaitTimeout = externalWorkerJobMaxWaitTimeout;
+        return this;
+    }
+
     public Collection<ServiceConfigurator<JobServiceConfiguration>> getConfigurators() {
         return configurators;
     }
@@ -466,6 +528,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
     
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
+    public int getSkipLockedJobAcquisitionCandidateMultiplier() {
+        return skipLockedJobAcquisitionCandidateMultiplier;
+    }
+
+    public JobServiceConfiguration setSkipLockedJobAcquisitionCandidateMultiplier(int skipLockedJobAcquisitionCandidateMultiplier) {
+        this.skipLockedJobAcquisitionCandidateMultiplier = skipLockedJobAcquisitionCandidateMultiplier;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
@@ -510,6 +590,28 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public Map<String, Integer> getJobHandlerPriorities() {
+        return jobHandlerPriorities;
+    }
+
+    public JobServiceConfiguration setJobHandlerPriorities(Map<String, Integer> jobHandlerPriorities) {
+        this.jobHandlerPriorities = jobHandlerPriorities;
+        return this;
+    }
+
+    public JobServiceConfiguration addJobHandlerPriority(String type, int priority) {
+        if (this.jobHandlerPriorities == null) {
+            this.jobHandlerPriorities = new HashMap<>();
+        }
+        this.jobHandlerPriorities.put(type, priority);
+        return this;
+    }
+
+    public int getJobHandlerPriority(String type) {
+        Integer priority = jobHandlerPriorities != null && type != null ? jobHandlerPriorities.get(type) : null;
+        return priority != null ? priority : Job.DEFAULT_PRIORITY;
+    }
+
     public FailedJobCommandFactory getFailedJobCommandFactory() {
         return failedJobCommandFactory;
     }
@@ -616,4 +718,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         enabledJobCategories.add(jobCategory);
     }
 
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public JobServiceConfiguration setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
+
 }
@@ -61,6 +61,11 @@ public class AcquiredExternalWorkerJobImpl implements AcquiredExternalWorkerJob
         return job.getCategory();
     }
 
+    @Override
+    public int getPriority() {
+        return job.getPriority();
+    }
+
     @Override
     public String getJobType() {
         return job.getJobType();
@@ -16,7 +16,9 @@ package org.flowable.job.service.impl;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -69,6 +71,8 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
     protected String tenantId;
     protected String tenantIdLike;
     protected boolean withoutTenantId;
+    protected Set<String> excludedJobIds;
+    protected List<List<String>> safeExcludedJobIds;
 
     public DeadLetterJobQueryImpl() {
     }
@@ -417,6 +421,18 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
         return orderBy(JobQueryProperty.TENANT_ID);
     }
 
+    /**
+     * Excludes the given jobs from the results.
+     * Used by the bulk move to page past the jobs it could not move, as those stay deadletter jobs.
+     */
+    public DeadLetterJobQueryImpl excludeJobIds(Collection<String> jobIds) {
+        if (excludedJobIds == null) {
+            excludedJobIds = new LinkedHashSet<>();
+        }
+        excludedJobIds.addAll(jobIds);
+        return this;
+    }
+
     // results //////////////////////////////////////////
 
     @Override
@@ -479,6 +495,18 @@ public class DeadLetterJobQueryImpl extends AbstractQuery<DeadLetterJobQuery, Jo
         return id;
     }
 
+    public Set<String> getExcludedJobIds() {
+        return excludedJobIds;
+    }
+
+    public List<List<String>> getSafeExcludedJobIds() {
+        return safeExcludedJobIds;
+    }
+
+    public void setSafeExcludedJobIds(List<List<String>> safeExcludedJobIds) {
+        this.safeExcludedJobIds = safeExcludedJobIds;
+    }
+
     public String getProcessDefinitionId() {
         return processDefinitionId;
     }
@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -40,6 +41,7 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Duration waitTimeout;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,8 +111,52 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder waitForJobs(Duration waitTimeout) {
+        if (waitTimeout == null || waitTimeout.isNegative()) {
+            throw new FlowableIllegalArgumentException("waitTimeout must not be null or negative");
+        }
+
+        this.waitTimeout = waitTimeout;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
+        List<AcquiredExternalWorkerJob> acquiredJobs = doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        if (!acquiredJobs.isEmpty() || waitTimeout == null || waitTimeout.isZero() || topic == null) {
+            return acquiredJobs;
+        }
+
+        Duration effectiveWaitTimeout = waitTimeout;
+        Duration maxWaitTimeout = jobServiceConfiguration.getExternalWorkerJobMaxWaitTimeout();
+        if (maxWaitTimeout != null && effectiveWaitTimeout.compareTo(maxWaitTimeout) > 0) {
+            effectiveWaitTimeout = maxWaitTimeout;
+        }
+
+        ExternalWorkerJobWaiters externalWorkerJobWaiters = jobServiceConfiguration.getExternalWorkerJobWaiters();
+        long deadline = System.nanoTime() + effectiveWaitTimeout.toNanos();
+        while (true) {
+            // Registering before looking for jobs again, so a job created in between wakes up the wait
+            ExternalWorkerJobWaiters.Waiter waiter = externalWorkerJobWaiters.register(topic);
+            try {
+                acquiredJobs = doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+                long remainingNanos = deadline - System.nanoTime();
+                if (!acquiredJobs.isEmpty() || remainingNanos <= 0 || !waiter.await(remainingNanos, TimeUnit.NANOSECONDS)) {
+                    return acquiredJobs;
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Collections.emptyList();
+
+            } finally {
+                externalWorkerJobWaiters.unregister(waiter);
+            }
+        }
+    }
+
+    protected List<AcquiredExternalWorkerJob> doAcquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
             try {
                 return commandExecutor.execute(new AcquireExternalWorkerJobsCmd(workerId, numberOfTasks, this, jobServiceConfiguration));
@@ -146,4 +192,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
 }
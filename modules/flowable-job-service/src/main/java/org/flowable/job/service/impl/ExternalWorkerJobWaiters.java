@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the external worker acquisitions waiting for jobs of a topic (long polling),
+ * and wakes them up when an external worker job for that topic is created on this node.
+ * <p>
+ * Waiters register before they look for jobs, so a job created between the lookup and the wait is not missed.
+ * Jobs created by another node are not signalled, the waiters see those when their wait times out.
+ */
+public class ExternalWorkerJobWaiters {
+
+    protected final Map<String, Queue<Waiter>> waitersByTopic = new ConcurrentHashMap<>();
+
+    public Waiter register(String topic) {
+        Waiter waiter = new Waiter(topic);
+        waitersByTopic.compute(topic, (key, waiters) -> {
+            if (waiters == null) {
+                waiters = new ConcurrentLinkedQueue<>();
+            }
+            waiters.add(waiter);
+            return waiters;
+        });
+        return waiter;
+    }
+
+    public void unregister(Waiter waiter) {
+        waitersByTopic.computeIfPresent(waiter.getTopic(), (key, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    /**
+     * Wakes up all acquisitions waiting for the given topic. They look for jobs again and wait again when another worker was faster.
+     */
+    public void signal(String topic) {
+        if (topic == null) {
+            return;
+        }
+
+        Queue<Waiter> waiters = waitersByTopic.remove(topic);
+        if (waiters != null) {
+            for (Waiter waiter : waiters) {
+                waiter.signal();
+            }
+        }
+    }
+
+    public int getWaiterCount(String topic) {
+        Queue<Waiter> waiters = waitersByTopic.get(topic);
+        return waiters != null ? waiters.size() : 0;
+    }
+
+    public static class Waiter {
+
+        protected final String topic;
+        protected final CountDownLatch latch = new CountDownLatch(1);
+
+        public Waiter(String topic) {
+            this.topic = topic;
+        }
+
+        /**
+         * @return true if the waiter was signalled, false if the timeout expired first
+         */
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return latch.await(timeout, unit);
+        }
+
+        public void signal() {
+            latch.countDown();
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+    }
+}
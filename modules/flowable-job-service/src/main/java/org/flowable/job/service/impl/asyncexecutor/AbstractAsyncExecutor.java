@@ -13,9 +13,18 @@
 package org.flowable.job.service.impl.asyncexecutor;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.InternalJobCompatibilityManager;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
@@ -45,6 +54,8 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     
     protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
 
+    protected FairJobScheduler fairJobScheduler;
+
     protected boolean isAutoActivate;
     protected boolean isActive;
 
@@ -77,6 +88,156 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected abstract boolean executeAsyncJob(final JobInfo job, Runnable runnable);
 
+    @Override
+    public boolean executeHandedOffAsyncJob(JobInfo job) {
+        if (!isActive || !configuration.isLocalJobHandOffEnabled()) {
+            return executeAsyncJob(job);
+        }
+
+        Runnable runnable = createRunnableForJob(job);
+        if (runnable instanceof ExecuteAsyncRunnable) {
+            ((ExecuteAsyncRunnable) runnable).setHandedOff(true);
+        }
+        return executeAsyncJob(job, runnable);
+    }
+
+    @Override
+    public <T extends JobInfo> List<T> executeAsyncJobs(List<T> jobs) {
+        if (isActive && fairJobScheduler != null) {
+            return executeAsyncJobsFairly(jobs);
+        }
+
+        int batchSize = configuration.getAsyncJobBatchSize();
+        if (!isActive || batchSize <= 1 || jobs.size() <= 1) {
+            return AsyncExecutor.super.executeAsyncJobs(jobs);
+        }
+
+        List<T> rejected = new ArrayList<>();
+        for (List<T> batch : createAsyncJobBatches(jobs, batchSize)) {
+            if (batch.size() == 1) {
+                if (!executeAsyncJob(batch.get(0))) {
+                    rejected.add(batch.get(0));
+                }
+
+            } else if (!executeAsyncJobBatch(batch, createRunnableForJobBatch(batch))) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+    protected <T extends JobInfo> List<T> executeAsyncJobsFairly(List<T> jobs) {
+        List<T> rejected = new ArrayList<>();
+        List<T> overTenantLimit = new ArrayList<>();
+        for (T job : fairJobScheduler.order(jobs)) {
+            if (!fairJobScheduler.tryAcquireSlot(job)) {
+                overTenantLimit.add(job);
+                continue;
+            }
+
+            Runnable runnable = fairJobScheduler.releaseSlotAfter(job, createRunnableForJob(job));
+            if (!executeAsyncJob(job, runnable)) {
+                fairJobScheduler.releaseSlot(job);
+                rejected.add(job);
+            }
+        }
+
+        if (!overTenantLimit.isEmpty()) {
+            // Released for the next acquisitions, which leave out the tenants that are still at their limit
+            unacquireJobs(overTenantLimit);
+        }
+        return rejected;
+    }
+
+    protected void unacquireJobs(List<? extends JobInfo> jobs) {
+        jobServiceConfiguration.getCommandExecutor().execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), commandContext -> {
+            for (JobInfo job : jobs) {
+                jobServiceConfiguration.getJobManager().unacquire(job);
+            }
+            return null;
+        });
+    }
+
+    protected abstract boolean executeAsyncJobBatch(List<? extends JobInfo> jobs, Runnable runnable);
+
+    /**
+     * Groups the jobs that can be executed together in one transaction: non-exclusive jobs of the same tenant that share no
+     * process instance, execution, case instance or plan item instance. Jobs that can't be grouped end up in a batch of their own.
+     */
+    protected <T extends JobInfo> List<List<T>> createAsyncJobBatches(List<T> jobs, int batchSize) {
+        List<List<T>> batches = new ArrayList<>();
+        List<AsyncJobBatch<T>> openBatches = new ArrayList<>();
+        for (T job : jobs) {
+            Set<String> instanceKeys = getBatchInstanceKeys(job);
+            if (instanceKeys == null) {
+                List<T> batch = new ArrayList<>(1);
+                batch.add(job);
+                batches.add(batch);
+                continue;
+            }
+
+            AsyncJobBatch<T> matchingBatch = null;
+            for (AsyncJobBatch<T> openBatch : openBatches) {
+                if (openBatch.accepts(job, instanceKeys)) {
+                    matchingBatch = openBatch;
+                    break;
+                }
+            }
+
+            if (matchingBatch == null) {
+                matchingBatch = new AsyncJobBatch<>(job.getTenantId());
+                openBatches.add(matchingBatch);
+                batches.add(matchingBatch.jobs);
+            }
+
+            matchingBatch.add(job, instanceKeys);
+            if (matchingBatch.jobs.size() >= batchSize) {
+                openBatches.remove(matchingBatch);
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * @return the keys of the instances the job touches, or null if the job must be executed in its own transaction
+     */
+    protected Set<String> getBatchInstanceKeys(JobInfo jobInfo) {
+        if (!(jobInfo instanceof Job)) {
+            return null;
+        }
+
+        Job job = (Job) jobInfo;
+        if (job.isExclusive()) {
+            return null;
+        }
+
+        InternalJobCompatibilityManager internalJobCompatibilityManager = jobServiceConfiguration.getInternalJobCompatibilityManager();
+        if (internalJobCompatibilityManager != null && internalJobCompatibilityManager.isFlowable5Job(job)) {
+            return null;
+        }
+
+        Set<String> instanceKeys = new HashSet<>();
+        if (job.getProcessInstanceId() != null) {
+            instanceKeys.add("processInstance:" + job.getProcessInstanceId());
+        }
+        if (job.getExecutionId() != null) {
+            instanceKeys.add("execution:" + job.getExecutionId());
+        }
+        if (job.getScopeId() != null) {
+            instanceKeys.add("scope:" + job.getScopeId());
+        }
+        if (job.getSubScopeId() != null) {
+            instanceKeys.add("subScope:" + job.getSubScopeId());
+        }
+
+        // Jobs that are not bound to an instance can have any side effect, those are not grouped
+        return instanceKeys.isEmpty() ? null : instanceKeys;
+    }
+
+    protected Runnable createRunnableForJobBatch(List<? extends JobInfo> jobs) {
+        return new ExecuteAsyncJobBatchRunnable(jobs, jobServiceConfiguration, jobEntityManager, this::createRunnableForJob);
+    }
+
     protected void unlockOwnedJobs() {
         jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(configuration.getLockOwner(), configuration.getTenantId(), jobServiceConfiguration));
     }
@@ -101,6 +262,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         LOGGER.info("Starting up the async job executor [{}] for engine {}", getClass().getName(), getJobServiceConfiguration().getEngineName());
 
         initializeJobEntityManager();
+        initializeFairJobScheduler();
         initializeRunnables();
         startAdditionalComponents();
         executeTemporaryJobs();
@@ -112,6 +274,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
     }
 
+    protected void initializeFairJobScheduler() {
+        if (configuration.isFairSchedulingEnabled() && fairJobScheduler == null) {
+            fairJobScheduler = new FairJobScheduler(configuration);
+        }
+    }
+
     protected void initializeRunnables() {
         if (configuration.isTimerRunnableNeeded() && timerJobRunnable == null) {
             timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
@@ -447,6 +615,15 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         configuration.setTenantId(tenantId);
     }
 
+    @Override
+    public FairJobScheduler getFairJobScheduler() {
+        return fairJobScheduler;
+    }
+
+    public void setFairJobScheduler(FairJobScheduler fairJobScheduler) {
+        this.fairJobScheduler = fairJobScheduler;
+    }
+
     public AsyncJobExecutorConfiguration getConfiguration() {
         return configuration;
     }
@@ -481,6 +658,21 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         public Duration getLockForceAcquireAfter() {
             return configuration.getTimerLockForceAcquireAfter();
         }
+
+        @Override
+        public boolean isAdaptiveAcquisitionEnabled() {
+            return configuration.isAdaptiveAcquisitionEnabled();
+        }
+
+        @Override
+        public int getAdaptiveAcquisitionMinJobs() {
+            return configuration.getAdaptiveAcquisitionMinJobs();
+        }
+
+        @Override
+        public Duration getAdaptiveAcquisitionMinWaitTime() {
+            return configuration.getAdaptiveAcquisitionMinWaitTime();
+        }
     }
 
     public class AcquireAsyncJobsDueRunnableConfiguration implements AcquireJobsRunnableConfiguration {
@@ -509,5 +701,48 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         public Duration getLockForceAcquireAfter() {
             return configuration.getAsyncJobsGlobalLockForceAcquireAfter();
         }
+
+        @Override
+        public boolean isAdaptiveAcquisitionEnabled() {
+            return configuration.isAdaptiveAcquisitionEnabled();
+        }
+
+        @Override
+        public int getAdaptiveAcquisitionMinJobs() {
+            return configuration.getAdaptiveAcquisitionMinJobs();
+        }
+
+        @Override
+        public Duration getAdaptiveAcquisitionMinWaitTime() {
+            return configuration.getAdaptiveAcquisitionMinWaitTime();
+        }
+    }
+
+    protected static class AsyncJobBatch<T extends JobInfo> {
+
+        protected final String tenantId;
+        protected final List<T> jobs = new ArrayList<>();
+        protected final Set<String> instanceKeys = new HashSet<>();
+
+        public AsyncJobBatch(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        public boolean accepts(T job, Set<String> jobInstanceKeys) {
+            if (!Objects.equals(tenantId, job.getTenantId())) {
+                return false;
+            }
+            for (String jobInstanceKey : jobInstanceKeys) {
+                if (instanceKeys.contains(jobInstanceKey)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        public void add(T job, Set<String> jobInstanceKeys) {
+            jobs.add(job);
+            instanceKeys.addAll(jobInstanceKeys);
+        }
     }
 }
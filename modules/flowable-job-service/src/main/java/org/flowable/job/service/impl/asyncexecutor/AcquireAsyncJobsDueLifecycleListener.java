@@ -29,4 +29,14 @@ public interface AcquireAsyncJobsDueLifecycleListener {
 
     void startWaiting(String engineName, long millisToWait);
 
+    /**
+     * Called after each acquisition cycle when adaptive acquisition is enabled.
+     *
+     * @param nextJobsToAcquire the number of jobs the next acquisition will fetch at most
+     * @param millisToWait the time the acquisition thread waits before the next acquisition
+     */
+    default void adaptiveAcquisition(String engineName, int nextJobsToAcquire, long millisToWait) {
+
+    }
+
 }
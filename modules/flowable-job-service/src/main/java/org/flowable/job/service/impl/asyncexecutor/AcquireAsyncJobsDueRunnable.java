@@ -21,6 +21,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManager;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireJobsWithGlobalAcquireLockCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
@@ -83,6 +84,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected AcquireJobsRunnableConfiguration configuration;
     protected LockManager lockManager;
+    protected AdaptiveAcquisitionController adaptiveAcquisitionController;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -102,6 +104,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
         // Always initialize the lock manager, allowing to switch execution modes if needed
         this.lockManager = createLockManager(asyncExecutor.getJobServiceConfiguration().getCommandExecutor());
+        this.adaptiveAcquisitionController = configuration.isAdaptiveAcquisitionEnabled() ? createAdaptiveAcquisitionController() : null;
 
         LOGGER.info("starting to acquire async jobs due for engine {}", getEngineName());
         Thread.currentThread().setName(name);
@@ -147,13 +150,22 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return new LockManagerImpl(commandExecutor, configuration.getGlobalAcquireLockPrefix() + ACQUIRE_ASYNC_JOBS_GLOBAL_LOCK, configuration.getLockPollRate(), configuration.getLockForceAcquireAfter(), getEngineName());
     }
 
+    protected AdaptiveAcquisitionController createAdaptiveAcquisitionController() {
+        return new AdaptiveAcquisitionController(configuration.getAdaptiveAcquisitionMinJobs(), configuration.getAdaptiveAcquisitionMinWaitTime());
+    }
+
     protected long executeAcquireCycle(CommandExecutor commandExecutor) {
         int remainingCapacity = asyncExecutor.getTaskExecutor().getRemainingCapacity();
         lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
         final long millisToWait;
         if (remainingCapacity > 0) {
-            millisToWait = acquireAndExecuteJobs(commandExecutor, remainingCapacity);
+            int jobsToAcquire = remainingCapacity;
+            if (adaptiveAcquisitionController != null) {
+                adaptiveAcquisitionController.recordRemainingCapacity(remainingCapacity);
+                jobsToAcquire = Math.min(remainingCapacity, adaptiveAcquisitionController.getAcquireSize(asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+            }
+            millisToWait = acquireAndExecuteJobs(commandExecutor, jobsToAcquire);
 
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("acquired and queued new jobs for engine {}; sleeping for {} ms", getEngineName(), millisToWait);
@@ -173,6 +185,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         boolean globalAcquireLockEnabled = configuration.isGlobalAcquireLockEnabled();
+        long acquireStart = System.nanoTime();
         try {
             List<? extends JobInfoEntity> acquiredJobs;
             if (globalAcquireLockEnabled) {
@@ -185,6 +198,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
             lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
+            EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobAcquisition(EngineMetrics.ACQUISITION_TYPE_ASYNC_JOBS, acquiredJobs.size(), System.nanoTime() - acquireStart);
+            }
+
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), getEngineName());
@@ -195,6 +213,15 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
+
+            if (adaptiveAcquisitionController != null) {
+                int requestedJobs = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+                long millisToWait = adaptiveAcquisitionController.acquired(requestedJobs, acquiredJobs.size(),
+                        asyncExecutor.getTaskExecutor().getRemainingCapacity(), asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+                lifecycleListener.adaptiveAcquisition(getEngineName(),
+                        adaptiveAcquisitionController.getAcquireSize(asyncExecutor.getMaxAsyncJobsDuePerAcquisition()), millisToWait);
+                return millisToWait;
+            }
             if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
                 return 0L; // the maximum amount of jobs were acquired, so we can expect more.
             }
@@ -224,14 +251,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     }
 
     protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
-        List<JobInfoEntity> rejected = new ArrayList<>();
-        for (JobInfoEntity job : acquiredJobs) {
-            boolean jobSuccessFullyOffered = asyncExecutor.executeAsyncJob(job);
-            if (!jobSuccessFullyOffered) {
-                rejected.add(job);
-            }
-        }
-        return rejected;
+        return new ArrayList<>(asyncExecutor.executeAsyncJobs(acquiredJobs));
     }
 
     public void stop() {
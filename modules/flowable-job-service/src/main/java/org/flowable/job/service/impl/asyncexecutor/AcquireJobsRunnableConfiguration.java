@@ -60,4 +60,16 @@ public interface AcquireJobsRunnableConfiguration {
     Duration getLockPollRate();
 
     Duration getLockForceAcquireAfter();
+
+    default boolean isAdaptiveAcquisitionEnabled() {
+        return false;
+    }
+
+    default int getAdaptiveAcquisitionMinJobs() {
+        return 16;
+    }
+
+    default Duration getAdaptiveAcquisitionMinWaitTime() {
+        return Duration.ofMillis(100);
+    }
 }
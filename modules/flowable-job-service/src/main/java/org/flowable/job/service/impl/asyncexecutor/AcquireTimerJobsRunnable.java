@@ -27,6 +27,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManager;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithGlobalAcquireLockCmd;
 import org.flowable.job.service.impl.cmd.BulkMoveTimerJobsToExecutableJobsCmd;
@@ -77,6 +78,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected AcquireJobsRunnableConfiguration configuration;
     protected LockManager lockManager;
+    protected AdaptiveAcquisitionController adaptiveAcquisitionController;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -105,6 +107,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         // Always initialize the lock manager, allowing to switch execution modes if needed
         this.lockManager = createLockManager(asyncExecutor.getJobServiceConfiguration().getCommandExecutor());
+        this.adaptiveAcquisitionController = configuration.isAdaptiveAcquisitionEnabled() ? createAdaptiveAcquisitionController() : null;
 
         LOGGER.info("starting to acquire async jobs due for engine {}", getEngineName());
         String threadName = "flowable-" + getEngineName() + "-acquire-timer-jobs";
@@ -135,6 +138,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
         return new LockManagerImpl(commandExecutor, configuration.getGlobalAcquireLockPrefix() + ACQUIRE_TIMER_JOBS_GLOBAL_LOCK, configuration.getLockPollRate(), configuration.getLockForceAcquireAfter(), getEngineName());
     }
 
+    protected AdaptiveAcquisitionController createAdaptiveAcquisitionController() {
+        return new AdaptiveAcquisitionController(configuration.getAdaptiveAcquisitionMinJobs(), configuration.getAdaptiveAcquisitionMinWaitTime());
+    }
+
     protected void createTimerMoveExecutorService(String threadName) {
         BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
             .namingPattern(threadName + "-move")
@@ -153,6 +160,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         List<TimerJobEntity> timerJobs = Collections.emptyList();
         long millisToWait = 0L;
+        long acquireStart = System.nanoTime();
+        int jobsToAcquire = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        if (adaptiveAcquisitionController != null) {
+            jobsToAcquire = adaptiveAcquisitionController.getAcquireSize(jobsToAcquire);
+        }
 
         try {
 
@@ -161,9 +173,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
                 // When running with global acquire lock, we only need to have the lock during the acquire.
                 // In the move phase, other nodes can already acquire timer jobs themselves (as the lock is free).
+                int finalJobsToAcquire = jobsToAcquire;
                 try {
                     timerJobs = lockManager.waitForLockRunAndRelease(configuration.getLockWaitTime(), () -> {
-                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor));
+                        return commandExecutor.execute(new AcquireTimerJobsWithGlobalAcquireLockCmd(asyncExecutor, finalJobsToAcquire));
                     });
 
                 } catch (Exception e) {
@@ -175,7 +188,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 }
 
             } else {
-                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, jobsToAcquire));
 
             }
 
@@ -191,7 +204,21 @@ public class AcquireTimerJobsRunnable implements Runnable {
             int nrOfJobsAcquired = timerJobs.size();
             lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, asyncExecutor.getMaxTimerJobsPerAcquisition());
 
-            if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+            EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobAcquisition(EngineMetrics.ACQUISITION_TYPE_TIMER_JOBS, nrOfJobsAcquired, System.nanoTime() - acquireStart);
+            }
+
+            if (adaptiveAcquisitionController != null) {
+                millisToWait = adaptiveAcquisitionController.acquired(jobsToAcquire, nrOfJobsAcquired, -1, asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis());
+                if (millisToWait == 0 && globalAcquireLockEnabled) {
+                    // Give other nodes the ability to acquire timer jobs, as below
+                    millisToWait = configuration.getLockPollRate().toMillis();
+                }
+                lifecycleListener.adaptiveAcquisition(getEngineName(),
+                        adaptiveAcquisitionController.getAcquireSize(asyncExecutor.getMaxTimerJobsPerAcquisition()), millisToWait);
+
+            } else if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
 
                 if (globalAcquireLockEnabled) {
                     // Always wait when running with global acquire lock, to let other nodes have the ability to fill the queue
@@ -24,4 +24,14 @@ public interface AcquireTimerLifecycleListener {
     void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition);
 
     void startWaiting(String engineName, long millisToWait);
+
+    /**
+     * Called after each acquisition cycle when adaptive acquisition is enabled.
+     *
+     * @param nextJobsToAcquire the number of timer jobs the next acquisition will fetch at most
+     * @param millisToWait the time the acquisition thread waits before the next acquisition
+     */
+    default void adaptiveAcquisition(String engineName, int nextJobsToAcquire, long millisToWait) {
+
+    }
 }
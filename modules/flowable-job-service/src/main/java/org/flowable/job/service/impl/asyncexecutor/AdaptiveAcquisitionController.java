@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides how many jobs an acquisition cycle fetches and how long the acquisition thread waits afterwards,
+ * based on what the previous cycles found (see {@link AsyncJobExecutorConfiguration#isAdaptiveAcquisitionEnabled()}).
+ * <ul>
+ * <li>When an acquisition returns as many jobs as requested, more jobs are waiting: the next acquisition fetches twice as many, right away.</li>
+ * <li>When an acquisition returns jobs, but less than requested, the next acquisition is done after the minimum wait time.</li>
+ * <li>When an acquisition returns no jobs, the wait time doubles with each empty cycle, up to the regular acquire wait time,
+ * and the acquisition size halves, down to the minimum.</li>
+ * </ul>
+ * When the queue drain rate of the task executor is known, the acquisition size is further limited to about a second worth of executed jobs
+ * and a full acquisition of that size waits the minimum wait time, so the jobs are not locked long before the executor gets to them.
+ * <p>
+ * A controller belongs to one acquisition thread and is not thread safe.
+ */
+public class AdaptiveAcquisitionController {
+
+    protected static final double DRAIN_RATE_WEIGHT = 0.3;
+
+    protected final int minAcquireSize;
+    protected final long minWaitMillis;
+
+    protected int acquireSize;
+    protected long idleWaitMillis;
+    protected boolean drainRateLimited;
+
+    // Jobs per second taken from the task executor queue, as exponentially weighted moving average
+    protected double drainRate = -1;
+    protected int remainingCapacityAfterOffer = -1;
+    protected long lastCycleNanos;
+
+    public AdaptiveAcquisitionController(int minAcquireSize, Duration minWaitTime) {
+        this.minAcquireSize = Math.max(1, minAcquireSize);
+        this.minWaitMillis = Math.max(0, minWaitTime.toMillis());
+        this.acquireSize = this.minAcquireSize;
+        this.idleWaitMillis = this.minWaitMillis;
+    }
+
+    /**
+     * Records the remaining capacity of the task executor at the start of a cycle. The difference with the remaining capacity
+     * right after the jobs of the previous cycle were offered is the number of jobs executed in between.
+     */
+    public void recordRemainingCapacity(int remainingCapacity) {
+        long now = System.nanoTime();
+        if (remainingCapacityAfterOffer >= 0 && now > lastCycleNanos) {
+            int drained = Math.max(0, remainingCapacity - remainingCapacityAfterOffer);
+            double rate = drained * (double) TimeUnit.SECONDS.toNanos(1) / (now - lastCycleNanos);
+            drainRate = drainRate < 0 ? rate : DRAIN_RATE_WEIGHT * rate + (1 - DRAIN_RATE_WEIGHT) * drainRate;
+        }
+        lastCycleNanos = now;
+    }
+
+    /**
+     * @return the number of jobs the next acquisition should fetch, never more than the given maximum
+     */
+    public int getAcquireSize(int maxAcquireSize) {
+        int size = acquireSize;
+        drainRateLimited = false;
+        if (drainRate > 0) {
+            int drainRateSize = Math.max(minAcquireSize, (int) Math.ceil(drainRate));
+            if (drainRateSize < size) {
+                size = drainRateSize;
+                drainRateLimited = true;
+            }
+        }
+        return Math.max(1, Math.min(size, maxAcquireSize));
+    }
+
+    /**
+     * Adapts the acquisition size to the outcome of an acquisition.
+     *
+     * @param requestedJobs the number of jobs the acquisition fetched at most
+     * @param acquiredJobs the number of jobs the acquisition fetched
+     * @param remainingCapacity the remaining capacity of the task executor after the jobs were offered, or a negative value when there is no task executor queue
+     * @param maxWaitMillis the regular acquire wait time, the upper bound of the wait time
+     * @return the time to wait before the next acquisition
+     */
+    public long acquired(int requestedJobs, int acquiredJobs, int remainingCapacity, long maxWaitMillis) {
+        this.remainingCapacityAfterOffer = remainingCapacity;
+        if (remainingCapacity >= 0) {
+            lastCycleNanos = System.nanoTime();
+        }
+
+        if (acquiredJobs >= requestedJobs) {
+            acquireSize = Math.max(acquireSize, requestedJobs * 2);
+            idleWaitMillis = minWaitMillis;
+            // When the executor can't keep up, give it some time instead of filling its queue right away
+            return drainRateLimited ? Math.min(minWaitMillis, maxWaitMillis) : 0L;
+
+        } else if (acquiredJobs > 0) {
+            idleWaitMillis = minWaitMillis;
+            return Math.min(minWaitMillis, maxWaitMillis);
+
+        } else {
+            acquireSize = Math.max(minAcquireSize, acquireSize / 2);
+            long waitMillis = Math.min(idleWaitMillis, maxWaitMillis);
+            idleWaitMillis = Math.min(Math.max(1, idleWaitMillis * 2), maxWaitMillis);
+            return waitMillis;
+        }
+    }
+
+    public int getAcquireSize() {
+        return acquireSize;
+    }
+
+    public double getDrainRate() {
+        return drainRate;
+    }
+
+}
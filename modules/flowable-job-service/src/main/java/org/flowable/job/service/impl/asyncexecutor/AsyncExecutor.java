@@ -12,6 +12,9 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -38,6 +41,37 @@ public interface AsyncExecutor {
      */
     boolean executeAsyncJob(JobInfo job);
 
+    /**
+     * Offers the provided {@link JobInfo}, created and locked for this {@link AsyncExecutor} by a transaction that has just been committed on this node.
+     * Implementations can execute it with its committed state, instead of reading the job again.
+     */
+    default boolean executeHandedOffAsyncJob(JobInfo job) {
+        return executeAsyncJob(job);
+    }
+
+    /**
+     * @return the scheduler sharing this executor between tenants and job categories, or null when fair scheduling is not used
+     */
+    default FairJobScheduler getFairJobScheduler() {
+        return null;
+    }
+
+    /**
+     * Offers the provided acquired jobs to this {@link AsyncExecutor} instance to execute.
+     * Implementations can group jobs that are independent of each other to execute them in one transaction.
+     *
+     * @return the jobs that could not be offered
+     */
+    default <T extends JobInfo> List<T> executeAsyncJobs(List<T> jobs) {
+        List<T> rejected = new ArrayList<>();
+        for (T job : jobs) {
+            if (!executeAsyncJob(job)) {
+                rejected.add(job);
+            }
+        }
+        return rejected;
+    }
+
     /* Getters and Setters */
 
     void setJobServiceConfiguration(JobServiceConfiguration jobServiceConfiguration);
@@ -13,6 +13,8 @@
 package org.flowable.job.service.impl.asyncexecutor;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -66,6 +68,52 @@ public class AsyncJobExecutorConfiguration {
      * How many async / history jobs should be acquired in one acquisition.
      */
     private int maxAsyncJobsDuePerAcquisition = 512;
+    /**
+     * The maximum number of acquired async jobs that are executed together in one transaction.
+     * Only non-exclusive jobs that share no process instance, execution or case instance are grouped.
+     * When one of the jobs of a group fails, the jobs of the group are executed again, each in its own transaction.
+     * The default of 1 executes every job in its own transaction.
+     */
+    private int asyncJobBatchSize = 1;
+    /**
+     * Whether an async job created by a transaction on this node is handed off to this executor together with its committed state.
+     * The job is then executed under the in-memory lease of that state (the lock owner and lock expiration time written at creation),
+     * without selecting the job row again. When the lease has expired, the job is read from the database as usual.
+     */
+    private boolean localJobHandOffEnabled;
+
+    /**
+     * Whether the async and timer job acquisition adapt the number of jobs per acquisition and the wait time between acquisitions to the load,
+     * see {@link AdaptiveAcquisitionController}. The configured maximum jobs per acquisition and acquire wait times become upper bounds.
+     */
+    protected boolean adaptiveAcquisitionEnabled;
+    /**
+     * The lowest number of jobs an adaptive acquisition fetches.
+     */
+    private int adaptiveAcquisitionMinJobs = 16;
+    /**
+     * The shortest wait time between two adaptive acquisitions that did not fetch a full page of jobs.
+     */
+    private Duration adaptiveAcquisitionMinWaitTime = Duration.ofMillis(100);
+
+    /**
+     * Whether the acquired async jobs are dispatched fairly over their tenants and job categories, see {@link FairJobScheduler}.
+     * Fair scheduling replaces the grouping of jobs configured with {@link #asyncJobBatchSize}.
+     */
+    protected boolean fairSchedulingEnabled;
+    /**
+     * The number of jobs of a tenant dispatched per round, for the tenants that should get more than the default of 1.
+     */
+    private Map<String, Integer> tenantWeights = new HashMap<>();
+    /**
+     * The number of jobs of a job category dispatched per round, for the categories that should get more than the default of 1.
+     */
+    private Map<String, Integer> categoryWeights = new HashMap<>();
+    /**
+     * The maximum number of acquired jobs of one tenant executing at the same time on this executor, 0 for no limit.
+     * Only applies with fair scheduling. Jobs handed to the executor right after their creation don't count towards the limit.
+     */
+    private int maxConcurrentJobsPerTenant;
 
     /**
      * The time the timer acquisition thread should wait before executing the next acquire logic.
@@ -142,6 +190,29 @@ public class AsyncJobExecutorConfiguration {
      */
     private Duration timerLockForceAcquireAfter = Duration.ofMinutes(10);
 
+    /**
+     * Whether timer jobs scheduled on this node that are due within {@link #timerWheelLookAhead} are kept in an in-memory timer wheel
+     * and moved to the executable jobs at their due time, instead of up to a full timer acquisition cycle later.
+     * The timer job acquisition keeps running next to it.
+     */
+    protected boolean timerWheelEnabled;
+    /**
+     * Timer jobs due within this amount of time from their scheduling are added to the timer wheel.
+     */
+    private Duration timerWheelLookAhead = Duration.ofMinutes(1);
+    /**
+     * The precision of the timer wheel: the due timer jobs are looked up once per tick.
+     */
+    private Duration timerWheelTickDuration = Duration.ofMillis(100);
+    /**
+     * The number of ticks in one rotation of the timer wheel, rounded up to a power of two.
+     */
+    private int timerWheelSize = 512;
+    /**
+     * The maximum number of timer jobs held by the timer wheel. Timer jobs scheduled when the wheel is full are left to the timer job acquisition.
+     */
+    private int timerWheelCapacity = 10000;
+
     /**
      * The time the reset expired jobs thread should wait before executing the next reset logic.
      * Expired jobs are jobs that were locked (a lock owner + time was written by some executor, but the job was never completed).
@@ -382,6 +453,118 @@ public class AsyncJobExecutorConfiguration {
         this.timerLockForceAcquireAfter = timerLockForceAcquireAfter;
     }
 
+    public int getAsyncJobBatchSize() {
+        return asyncJobBatchSize;
+    }
+
+    public void setAsyncJobBatchSize(int asyncJobBatchSize) {
+        this.asyncJobBatchSize = asyncJobBatchSize;
+    }
+
+    public boolean isLocalJobHandOffEnabled() {
+        return localJobHandOffEnabled;
+    }
+
+    public void setLocalJobHandOffEnabled(boolean localJobHandOffEnabled) {
+        this.localJobHandOffEnabled = localJobHandOffEnabled;
+    }
+
+    public boolean isAdaptiveAcquisitionEnabled() {
+        return adaptiveAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAcquisitionEnabled(boolean adaptiveAcquisitionEnabled) {
+        this.adaptiveAcquisitionEnabled = adaptiveAcquisitionEnabled;
+    }
+
+    public int getAdaptiveAcquisitionMinJobs() {
+        return adaptiveAcquisitionMinJobs;
+    }
+
+    public void setAdaptiveAcquisitionMinJobs(int adaptiveAcquisitionMinJobs) {
+        this.adaptiveAcquisitionMinJobs = adaptiveAcquisitionMinJobs;
+    }
+
+    public Duration getAdaptiveAcquisitionMinWaitTime() {
+        return adaptiveAcquisitionMinWaitTime;
+    }
+
+    public void setAdaptiveAcquisitionMinWaitTime(Duration adaptiveAcquisitionMinWaitTime) {
+        this.adaptiveAcquisitionMinWaitTime = adaptiveAcquisitionMinWaitTime;
+    }
+
+    public boolean isFairSchedulingEnabled() {
+        return fairSchedulingEnabled;
+    }
+
+    public void setFairSchedulingEnabled(boolean fairSchedulingEnabled) {
+        this.fairSchedulingEnabled = fairSchedulingEnabled;
+    }
+
+    public Map<String, Integer> getTenantWeights() {
+        return tenantWeights;
+    }
+
+    public void setTenantWeights(Map<String, Integer> tenantWeights) {
+        this.tenantWeights = tenantWeights;
+    }
+
+    public Map<String, Integer> getCategoryWeights() {
+        return categoryWeights;
+    }
+
+    public void setCategoryWeights(Map<String, Integer> categoryWeights) {
+        this.categoryWeights = categoryWeights;
+    }
+
+    public int getMaxConcurrentJobsPerTenant() {
+        return maxConcurrentJobsPerTenant;
+    }
+
+    public void setMaxConcurrentJobsPerTenant(int maxConcurrentJobsPerTenant) {
+        this.maxConcurrentJobsPerTenant = maxConcurrentJobsPerTenant;
+    }
+
+    public boolean isTimerWheelEnabled() {
+        return timerWheelEnabled;
+    }
+
+    public void setTimerWheelEnabled(boolean timerWheelEnabled) {
+        this.timerWheelEnabled = timerWheelEnabled;
+    }
+
+    public Duration getTimerWheelLookAhead() {
+        return timerWheelLookAhead;
+    }
+
+    public void setTimerWheelLookAhead(Duration timerWheelLookAhead) {
+        this.timerWheelLookAhead = timerWheelLookAhead;
+    }
+
+    public Duration getTimerWheelTickDuration() {
+        return timerWheelTickDuration;
+    }
+
+    public void setTimerWheelTickDuration(Duration timerWheelTickDuration) {
+        this.timerWheelTickDuration = timerWheelTickDuration;
+    }
+
+    public int getTimerWheelSize() {
+        return timerWheelSize;
+    }
+
+    public void setTimerWheelSize(int timerWheelSize) {
+        this.timerWheelSize = timerWheelSize;
+    }
+
+    public int getTimerWheelCapacity() {
+        return timerWheelCapacity;
+    }
+
+    public void setTimerWheelCapacity(int timerWheelCapacity) {
+        this.timerWheelCapacity = timerWheelCapacity;
+    }
+
     public Duration getResetExpiredJobsInterval() {
         return resetExpiredJobsInterval;
     }
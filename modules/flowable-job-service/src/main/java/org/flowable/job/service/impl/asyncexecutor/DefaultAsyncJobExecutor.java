@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
@@ -50,6 +51,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected Thread resetExpiredJobThread;
 
+    /**
+     * Moves the near-term timer jobs scheduled on this node at their due time, when enabled.
+     */
+    protected TimerJobWheel timerJobWheel;
+
     /**
      * The async task executor used for job execution.
      */
@@ -79,6 +85,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    @Override
+    protected boolean executeAsyncJobBatch(List<? extends JobInfo> jobs, Runnable runnable) {
+        try {
+            taskExecutor.execute(runnable);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfo job : jobs) {
+                sendRejectedEvent(job);
+                unacquireJobAfterRejection(job);
+            }
+
+            return false;
+        }
+    }
+
     protected void sendRejectedEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
@@ -116,12 +138,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
         if (configuration.isTimerRunnableNeeded()) {
             startTimerAcquisitionThread();
+            startTimerJobWheel();
         }
         startResetExpiredJobsThread();
     }
 
     @Override
     protected void shutdownAdditionalComponents() {
+        stopTimerJobWheel();
         stopResetExpiredJobsThread();
         stopTimerAcquisitionThread();
         stopJobAcquisitionThread();
@@ -179,6 +203,23 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void startTimerJobWheel() {
+        if (configuration.isTimerWheelEnabled() && configuration.isTimerJobAcquisitionEnabled()) {
+            if (timerJobWheel == null) {
+                timerJobWheel = new TimerJobWheel(this, configuration);
+            }
+            timerJobWheel.start();
+            jobServiceConfiguration.setTimerJobWheel(timerJobWheel);
+        }
+    }
+
+    protected void stopTimerJobWheel() {
+        if (timerJobWheel != null) {
+            jobServiceConfiguration.setTimerJobWheel(null);
+            timerJobWheel.stop();
+        }
+    }
+
     /** Stops the acquisition thread */
     protected void stopJobAcquisitionThread() {
         if (asyncJobAcquisitionThread != null) {
@@ -273,6 +314,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.resetExpiredJobThread = resetExpiredJobThread;
     }
 
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
+    public void setTimerJobWheel(TimerJobWheel timerJobWheel) {
+        this.timerJobWheel = timerJobWheel;
+    }
+
     public boolean isUnlockOwnedJobs() {
         return configuration.isUnlockOwnedJobs();
     }
@@ -779,6 +779,7 @@ public class DefaultJobManager implements JobManager {
         copyToJob.setCustomValues(copyFromJob.getCustomValues());
         copyToJob.setJobHandlerType(copyFromJob.getJobHandlerType());
         copyToJob.setCategory(copyFromJob.getCategory());
+        copyToJob.setPriority(copyFromJob.getPriority());
         copyToJob.setJobType(copyFromJob.getJobType());
         copyToJob.setExceptionMessage(copyFromJob.getExceptionMessage());
         copyToJob.setExceptionStacktrace(copyFromJob.getExceptionStacktrace());
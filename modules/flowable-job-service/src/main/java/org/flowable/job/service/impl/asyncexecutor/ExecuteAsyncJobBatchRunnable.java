@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.tenant.TenantContext;
+import org.flowable.common.engine.impl.async.PrioritizedRunnable;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.common.engine.impl.tenant.CurrentTenant;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncJobBatchCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a group of independent async jobs in one transaction (see {@link AsyncJobExecutorConfiguration#getAsyncJobBatchSize()}).
+ * When the transaction fails, none of the jobs has been executed and each job is executed again by its own runnable,
+ * so the failing job gets the regular retry and exception handling and the other jobs are not affected by it.
+ */
+public class ExecuteAsyncJobBatchRunnable implements PrioritizedRunnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncJobBatchRunnable.class);
+
+    protected final List<? extends JobInfo> jobs;
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected Function<JobInfo, Runnable> jobRunnableFactory;
+
+    public ExecuteAsyncJobBatchRunnable(List<? extends JobInfo> jobs, JobServiceConfiguration jobServiceConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, Function<JobInfo, Runnable> jobRunnableFactory) {
+
+        this.jobs = jobs;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.jobEntityManager = jobEntityManager;
+        this.jobRunnableFactory = jobRunnableFactory;
+    }
+
+    @Override
+    public int getPriority() {
+        // The batch is executed as soon as its most urgent job would be
+        int priority = Integer.MIN_VALUE;
+        for (JobInfo job : jobs) {
+            priority = Math.max(priority, job instanceof Job ? ((Job) job).getPriority() : Job.DEFAULT_PRIORITY);
+        }
+        return jobs.isEmpty() ? Job.DEFAULT_PRIORITY : priority;
+    }
+
+    @Override
+    public void run() {
+        if (!executeBatch()) {
+            executePerJob();
+        }
+    }
+
+    protected boolean executeBatch() {
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        long start = System.nanoTime();
+        TenantContext tenantContext = CurrentTenant.getTenantContext();
+        try {
+            // The jobs of a batch all belong to the same tenant
+            tenantContext.setTenantId(jobs.get(0).getTenantId());
+            jobServiceConfiguration.getCommandExecutor().execute(new ExecuteAsyncJobBatchCmd(jobIds, jobEntityManager, jobServiceConfiguration));
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Optimistic locking exception while executing the batch of jobs {}, executing each job separately. Exception message: {}",
+                    jobIds, e.getMessage());
+            return false;
+
+        } catch (Throwable t) {
+            LOGGER.debug("Exception while executing the batch of jobs {}, executing each job separately. Exception message: {}", jobIds, t.getMessage());
+            return false;
+
+        } finally {
+            tenantContext.clearTenantId();
+        }
+
+        EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+        if (engineMetrics != null) {
+            long durationPerJob = (System.nanoTime() - start) / jobs.size();
+            for (JobInfo job : jobs) {
+                engineMetrics.recordJobExecution(job.getJobHandlerType(), durationPerJob, true);
+            }
+        }
+
+        return true;
+    }
+
+    protected void executePerJob() {
+        for (JobInfo job : jobs) {
+            try {
+                jobRunnableFactory.apply(job).run();
+
+            } catch (RuntimeException e) {
+                // Already logged by the job runnable, the other jobs of the batch still need to be executed
+                LOGGER.debug("Exception while executing job {} of a failed batch: {}", job.getId(), e.getMessage());
+            }
+        }
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+
+}
@@ -18,9 +18,11 @@ import java.util.List;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.tenant.TenantContext;
+import org.flowable.common.engine.impl.async.PrioritizedRunnable;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.tenant.CurrentTenant;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
@@ -31,6 +33,7 @@ import org.flowable.job.service.impl.cmd.ExecuteAsyncRunnableJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -40,7 +43,7 @@ import org.slf4j.LoggerFactory;
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public class ExecuteAsyncRunnable implements Runnable {
+public class ExecuteAsyncRunnable implements PrioritizedRunnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncRunnable.class);
 
@@ -49,6 +52,11 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
 
+    /**
+     * Whether the job was handed off by the transaction that created it, see {@link AsyncJobExecutorConfiguration#isLocalJobHandOffEnabled()}.
+     */
+    protected boolean handedOff;
+
     public ExecuteAsyncRunnable(JobInfo job, JobServiceConfiguration jobServiceConfiguration,
                                 JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
                                 AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
@@ -72,6 +80,11 @@ public class ExecuteAsyncRunnable implements Runnable {
         return asyncRunnableExecutionExceptionHandlers;
     }
 
+    @Override
+    public int getPriority() {
+        return job instanceof Job ? ((Job) job).getPriority() : Job.DEFAULT_PRIORITY;
+    }
+
     @Override
     public void run() {
         TenantContext tenantContext = CurrentTenant.getTenantContext();
@@ -113,9 +126,15 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void executeJob(final boolean unlock) {
+        long start = System.nanoTime();
+        boolean successful = false;
         try {
-            jobServiceConfiguration.getCommandExecutor().execute(
-                new ExecuteAsyncRunnableJobCmd(job.getId(), jobEntityManager, jobServiceConfiguration, unlock));
+            ExecuteAsyncRunnableJobCmd executeJobCmd = new ExecuteAsyncRunnableJobCmd(job.getId(), jobEntityManager, jobServiceConfiguration, unlock);
+            if (isLeaseValid()) {
+                executeJobCmd.setLeasedJob((JobInfoEntity) job);
+            }
+            jobServiceConfiguration.getCommandExecutor().execute(executeJobCmd);
+            successful = true;
 
         } catch (final FlowableOptimisticLockingException e) {
 
@@ -134,7 +153,30 @@ public class ExecuteAsyncRunnable implements Runnable {
 
         } catch (Throwable exception) {
             handleFailedJob(exception);
+
+        } finally {
+            EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobExecution(job.getJobHandlerType(), System.nanoTime() - start, successful);
+            }
+        }
+    }
+
+    /**
+     * A handed off job can be executed with its in-memory state as long as the lock written at its creation has not expired.
+     * Only a job that has been committed and not changed afterwards is accepted.
+     */
+    protected boolean isLeaseValid() {
+        if (!handedOff || !(job instanceof JobEntity)) {
+            return false;
+        }
+
+        JobEntity jobEntity = (JobEntity) job;
+        if (jobEntity.isDeleted() || jobEntity.getLockOwner() == null || jobEntity.getLockExpirationTime() == null) {
+            return false;
         }
+
+        return jobEntity.getLockExpirationTime().after(jobServiceConfiguration.getClock().getCurrentTime());
     }
 
     protected void unlockJobIfNeeded() {
@@ -211,4 +253,12 @@ public class ExecuteAsyncRunnable implements Runnable {
         throw new FlowableException("Unable to handle exception " + exception.getMessage() + " for job " + job.getId() + ".", exception);
     }
 
+    public boolean isHandedOff() {
+        return handedOff;
+    }
+
+    public void setHandedOff(boolean handedOff) {
+        this.handedOff = handedOff;
+    }
+
 }
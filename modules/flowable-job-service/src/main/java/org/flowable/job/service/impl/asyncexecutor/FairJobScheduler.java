@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.async.PrioritizedRunnable;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+
+/**
+ * Shares the async executor between tenants and job categories (see {@link AsyncJobExecutorConfiguration#isFairSchedulingEnabled()}).
+ * <p>
+ * The acquired jobs are dispatched in weighted round-robin order over their tenant and category, instead of in due date order,
+ * so a tenant with a large backlog does not delay the jobs of the other tenants acquired in the same cycle.
+ * Each tenant can also be limited to a number of concurrently executing jobs. The tenants that reached their limit are left out
+ * of the next acquisitions, so the jobs of the other tenants are acquired instead of the backlog of the saturated ones.
+ */
+public class FairJobScheduler {
+
+    protected static final String NO_CATEGORY = "";
+
+    protected final AsyncJobExecutorConfiguration configuration;
+    protected final Map<String, AtomicInteger> runningJobsByTenant = new ConcurrentHashMap<>();
+
+    public FairJobScheduler(AsyncJobExecutorConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return the given jobs in weighted round-robin order over their tenant and category; jobs with the same tenant and category keep their order
+     */
+    public <T extends JobInfo> List<T> order(List<T> jobs) {
+        Map<String, Deque<T>> queues = new LinkedHashMap<>();
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (T job : jobs) {
+            String tenantId = getTenantKey(job);
+            String category = getCategory(job);
+            String key = tenantId + '|' + category;
+            queues.computeIfAbsent(key, k -> new ArrayDeque<>()).add(job);
+            weights.computeIfAbsent(key, k -> getTenantWeight(tenantId) * getCategoryWeight(category));
+        }
+
+        if (queues.size() <= 1) {
+            return jobs;
+        }
+
+        List<T> orderedJobs = new ArrayList<>(jobs.size());
+        while (orderedJobs.size() < jobs.size()) {
+            for (Map.Entry<String, Deque<T>> entry : queues.entrySet()) {
+                Deque<T> queue = entry.getValue();
+                int weight = weights.get(entry.getKey());
+                for (int i = 0; i < weight && !queue.isEmpty(); i++) {
+                    orderedJobs.add(queue.poll());
+                }
+            }
+        }
+        return orderedJobs;
+    }
+
+    /**
+     * Reserves an execution slot for the tenant of the job.
+     *
+     * @return false if the tenant already executes its maximum number of concurrent jobs
+     */
+    public boolean tryAcquireSlot(JobInfo job) {
+        int maxConcurrentJobs = configuration.getMaxConcurrentJobsPerTenant();
+        AtomicInteger runningJobs = runningJobsByTenant.computeIfAbsent(getTenantKey(job), tenantId -> new AtomicInteger());
+        if (maxConcurrentJobs <= 0) {
+            runningJobs.incrementAndGet();
+            return true;
+        }
+
+        while (true) {
+            int current = runningJobs.get();
+            if (current >= maxConcurrentJobs) {
+                return false;
+            }
+            if (runningJobs.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void releaseSlot(JobInfo job) {
+        AtomicInteger runningJobs = runningJobsByTenant.get(getTenantKey(job));
+        if (runningJobs != null) {
+            runningJobs.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return a runnable that releases the slot of the job once the given runnable is done
+     */
+    public Runnable releaseSlotAfter(JobInfo job, Runnable runnable) {
+        int priority = runnable instanceof PrioritizedRunnable ? ((PrioritizedRunnable) runnable).getPriority() : PrioritizedRunnable.DEFAULT_PRIORITY;
+        return new PrioritizedRunnable() {
+
+            @Override
+            public void run() {
+                try {
+                    runnable.run();
+                } finally {
+                    releaseSlot(job);
+                }
+            }
+
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+
+    /**
+     * @return the tenants that execute their maximum number of concurrent jobs, the empty string standing for the jobs without tenant
+     */
+    public Set<String> getSaturatedTenantIds() {
+        int maxConcurrentJobs = configuration.getMaxConcurrentJobsPerTenant();
+        Set<String> saturatedTenantIds = new HashSet<>();
+        if (maxConcurrentJobs > 0) {
+            for (Map.Entry<String, AtomicInteger> entry : runningJobsByTenant.entrySet()) {
+                if (entry.getValue().get() >= maxConcurrentJobs) {
+                    saturatedTenantIds.add(entry.getKey());
+                }
+            }
+        }
+        return saturatedTenantIds;
+    }
+
+    public int getRunningJobCount(String tenantId) {
+        AtomicInteger runningJobs = runningJobsByTenant.get(tenantId != null ? tenantId : "");
+        return runningJobs != null ? runningJobs.get() : 0;
+    }
+
+    protected String getTenantKey(JobInfo job) {
+        return job.getTenantId() != null ? job.getTenantId() : "";
+    }
+
+    protected String getCategory(JobInfo job) {
+        if (job instanceof Job && ((Job) job).getCategory() != null) {
+            return ((Job) job).getCategory();
+        }
+        return NO_CATEGORY;
+    }
+
+    protected int getTenantWeight(String tenantId) {
+        return getWeight(configuration.getTenantWeights(), tenantId);
+    }
+
+    protected int getCategoryWeight(String category) {
+        return getWeight(configuration.getCategoryWeights(), category);
+    }
+
+    protected int getWeight(Map<String, Integer> weights, String key) {
+        if (weights != null) {
+            Integer weight = weights.get(key);
+            if (weight != null && weight > 0) {
+                return weight;
+            }
+        }
+        return 1;
+    }
+
+}
@@ -56,6 +56,6 @@ public class JobAddedTransactionListener implements TransactionListener {
                 return;
             }
         }
-        asyncExecutor.executeAsyncJob(job);
+        asyncExecutor.executeHandedOffAsyncJob(job);
     }
 }
@@ -17,6 +17,9 @@ import static org.flowable.job.service.impl.util.JobProcessorUtil.callJobProcess
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.service.JobProcessorContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -63,6 +66,24 @@ public class TimerJobSchedulerImpl implements TimerJobScheduler {
         }
         callJobProcessors(jobServiceConfiguration, JobProcessorContext.Phase.BEFORE_CREATE, timerJob);
         jobServiceConfiguration.getTimerJobEntityManager().insert(timerJob);
+        addToTimerJobWheel(timerJob);
+    }
+
+    protected void addToTimerJobWheel(TimerJobEntity timerJob) {
+        TimerJobWheel timerJobWheel = jobServiceConfiguration.getTimerJobWheel();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (timerJobWheel == null || transactionContext == null || timerJob.getDuedate() == null) {
+            return;
+        }
+
+        long delayMillis = timerJob.getDuedate().getTime() - jobServiceConfiguration.getClock().getCurrentTime().getTime();
+        if (timerJobWheel.isWithinLookAhead(delayMillis)) {
+            // The timer job can only be moved once the transaction inserting it has committed
+            String timerJobId = timerJob.getId();
+            long dueTimeMillis = System.currentTimeMillis() + delayMillis;
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> timerJobWheel.schedule(timerJobId, dueTimeMillis - System.currentTimeMillis()));
+        }
     }
 
     protected void sendTimerScheduledEvent(TimerJobEntity timerJob) {
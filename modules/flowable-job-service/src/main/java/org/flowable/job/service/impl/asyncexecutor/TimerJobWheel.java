@@ -0,0 +1,237 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.cmd.MoveDueTimerJobToExecutableJobCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory hashed timing wheel holding the timer jobs scheduled on this node that are due within the look-ahead window
+ * ({@link AsyncJobExecutorConfiguration#getTimerWheelLookAhead()}).
+ * When a timer job is due, it is moved to the executable jobs right away, instead of waiting for the next timer job acquisition cycle.
+ * <p>
+ * The wheel only holds job ids, the timer jobs themselves stay in the database.
+ * The regular timer job acquisition keeps running as the safety net: for timers scheduled on other nodes, for timers further away
+ * than the look-ahead window and for the timers of a node that went down.
+ * Whichever of the two gets a timer job first moves it, the other one finds it locked or gone and leaves it alone.
+ */
+public class TimerJobWheel implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobWheel.class);
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final long tickNanos;
+    protected final long lookAheadMillis;
+    protected final int capacity;
+
+    protected final List<TimerJobWheelEntry>[] buckets;
+    protected final int mask;
+    protected final Queue<TimerJobWheelEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger size = new AtomicInteger();
+
+    protected Thread wheelThread;
+    protected volatile boolean running;
+    protected volatile long startTime;
+    protected long tick;
+
+    @SuppressWarnings("unchecked")
+    public TimerJobWheel(AsyncExecutor asyncExecutor, AsyncJobExecutorConfiguration configuration) {
+        this.asyncExecutor = asyncExecutor;
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), configuration.getTimerWheelTickDuration().toNanos());
+        this.lookAheadMillis = configuration.getTimerWheelLookAhead().toMillis();
+        this.capacity = configuration.getTimerWheelCapacity();
+
+        // Power of two, so the bucket of a tick can be found with a mask
+        int wheelSize = Integer.highestOneBit(Math.max(1, configuration.getTimerWheelSize() - 1)) << 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+        this.mask = wheelSize - 1;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        startTime = System.nanoTime();
+        tick = 0;
+        wheelThread = new Thread(this, "flowable-" + asyncExecutor.getJobServiceConfiguration().getEngineName() + "-timer-wheel");
+        wheelThread.setDaemon(true);
+        wheelThread.start();
+    }
+
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(wheelThread);
+        try {
+            wheelThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the timer wheel thread to terminate", e);
+            Thread.currentThread().interrupt();
+        }
+        wheelThread = null;
+
+        pendingEntries.clear();
+        for (List<TimerJobWheelEntry> bucket : buckets) {
+            bucket.clear();
+        }
+        size.set(0);
+    }
+
+    /**
+     * @return whether a timer job due within the given amount of milliseconds is held by the wheel
+     */
+    public boolean isWithinLookAhead(long delayMillis) {
+        return delayMillis <= lookAheadMillis;
+    }
+
+    /**
+     * Adds the timer job with the given id, to be moved to the executable jobs after the given delay.
+     * The timer job must have been committed to the database at this point.
+     *
+     * @return false if the timer job was not added, because the wheel is not running, is full or the timer job is not due within the look-ahead window
+     */
+    public boolean schedule(String jobId, long delayMillis) {
+        if (!running || !isWithinLookAhead(delayMillis)) {
+            return false;
+        }
+
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            LOGGER.debug("Timer wheel full, timer job {} will be picked up by the timer job acquisition", jobId);
+            return false;
+        }
+
+        long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        pendingEntries.add(new TimerJobWheelEntry(jobId, deadline));
+        return true;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                continue;
+            }
+
+            transferPendingEntries();
+
+            List<String> dueJobIds = expireBucket(buckets[(int) (tick & mask)]);
+            tick++;
+
+            if (!dueJobIds.isEmpty()) {
+                moveDueTimerJobs(dueJobIds);
+            }
+        }
+    }
+
+    protected boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        long sleepNanos = deadline - (System.nanoTime() - startTime);
+        if (sleepNanos > 0) {
+            LockSupport.parkNanos(this, sleepNanos);
+            // Woken up early (stopped or spurious wake up), check again
+            return running && System.nanoTime() - startTime >= deadline;
+        }
+        return true;
+    }
+
+    protected void transferPendingEntries() {
+        TimerJobWheelEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            long expirationTick = Math.max(entry.deadline / tickNanos, tick);
+            entry.remainingRounds = (expirationTick - tick) / buckets.length;
+            buckets[(int) (expirationTick & mask)].add(entry);
+        }
+    }
+
+    protected List<String> expireBucket(List<TimerJobWheelEntry> bucket) {
+        List<String> dueJobIds = new ArrayList<>();
+        Iterator<TimerJobWheelEntry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            TimerJobWheelEntry entry = iterator.next();
+            if (entry.remainingRounds <= 0) {
+                iterator.remove();
+                size.decrementAndGet();
+                dueJobIds.add(entry.jobId);
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+        return dueJobIds;
+    }
+
+    protected void moveDueTimerJobs(List<String> jobIds) {
+        CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+        for (String jobId : jobIds) {
+            try {
+                commandExecutor.execute(new MoveDueTimerJobToExecutableJobCmd(jobId, asyncExecutor.getJobServiceConfiguration()));
+
+            } catch (FlowableOptimisticLockingException e) {
+                LOGGER.debug("Timer job {} was acquired concurrently by another executor for engine {}", jobId, getEngineName());
+
+            } catch (Throwable t) {
+                LOGGER.warn("Exception while moving due timer job {} for engine {}, it will be picked up by the timer job acquisition. Exception message: {}",
+                        jobId, getEngineName(), t.getMessage(), t);
+            }
+        }
+    }
+
+    protected String getEngineName() {
+        return asyncExecutor.getJobServiceConfiguration().getEngineName();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public long getLookAheadMillis() {
+        return lookAheadMillis;
+    }
+
+    protected static class TimerJobWheelEntry {
+
+        protected final String jobId;
+        protected final long deadline;
+        protected long remainingRounds;
+
+        public TimerJobWheelEntry(String jobId, long deadline) {
+            this.jobId = jobId;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.FairJobScheduler;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 
@@ -51,7 +53,12 @@ public class AcquireJobsWithGlobalAcquireLockCmd implements Command<List<? exten
         GregorianCalendar jobExpirationTime = calculateLockExpirationTime(asyncExecutor.getAsyncJobLockTimeInMillis(), asyncExecutor.getJobServiceConfiguration());
 
         return jobEntityManager
-            .findJobsToExecuteAndLockInBulk(enabledCategories, new Page(0, maxResults), asyncExecutor.getLockOwner(), jobExpirationTime.getTime());
+            .findJobsToExecuteAndLockInBulk(enabledCategories, getExcludedTenantIds(), new Page(0, maxResults), asyncExecutor.getLockOwner(), jobExpirationTime.getTime());
+    }
+
+    protected Collection<String> getExcludedTenantIds() {
+        FairJobScheduler fairJobScheduler = asyncExecutor.getFairJobScheduler();
+        return fairJobScheduler != null ? fairJobScheduler.getSaturatedTenantIds() : null;
     }
 
     protected GregorianCalendar calculateLockExpirationTime(int lockTimeInMillis, JobServiceConfiguration jobServiceConfiguration) {
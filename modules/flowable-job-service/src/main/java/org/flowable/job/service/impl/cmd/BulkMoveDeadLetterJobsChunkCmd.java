@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves one chunk of the deadletter jobs matching a query back to the executable (or history) jobs.
+ * The message and timer jobs of the chunk are moved with set based statements, the history and external worker jobs one by one.
+ * Jobs that cannot be moved are excluded from the query, so executing this command until it selects fewer jobs than the chunk size
+ * streams through all the matching deadletter jobs.
+ */
+public class BulkMoveDeadLetterJobsChunkCmd implements Command<DeadLetterJobMoveChunkResult> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkMoveDeadLetterJobsChunkCmd.class);
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    protected DeadLetterJobQueryImpl query;
+    protected int retries;
+    protected int chunkSize;
+
+    public BulkMoveDeadLetterJobsChunkCmd(DeadLetterJobQueryImpl query, int retries, int chunkSize, JobServiceConfiguration jobServiceConfiguration) {
+        this.query = query;
+        this.retries = retries;
+        this.chunkSize = chunkSize;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public DeadLetterJobMoveChunkResult execute(CommandContext commandContext) {
+        if (query == null) {
+            throw new FlowableIllegalArgumentException("query is null");
+        }
+
+        if (chunkSize <= 0) {
+            throw new FlowableIllegalArgumentException("chunkSize has to be larger than 0");
+        }
+
+        // The set based move copies the retries as they are, so a value the per-job move would never produce has to be rejected up front
+        if (retries < 1) {
+            throw new FlowableIllegalArgumentException("retries has to be at least 1");
+        }
+
+        // The moved jobs are no longer deadletter jobs and the skipped ones are excluded, so the next chunk is always the first page of the query
+        List<Job> deadLetterJobs = query.listPage(0, chunkSize);
+
+        int movedJobs = 0;
+        List<String> skippedJobIds = new ArrayList<>();
+        List<DeadLetterJobEntity> executableDeadLetterJobs = new ArrayList<>(deadLetterJobs.size());
+        for (Job job : deadLetterJobs) {
+            DeadLetterJobEntity deadLetterJob = (DeadLetterJobEntity) job;
+            if (HistoryJobEntity.HISTORY_JOB_TYPE.equals(job.getJobType())) {
+                jobServiceConfiguration.getJobManager().moveDeadLetterJobToHistoryJob(deadLetterJob, retries);
+                movedJobs++;
+
+            } else if (Job.JOB_TYPE_EXTERNAL_WORKER.equals(job.getJobType())) {
+                if (jobServiceConfiguration.getJobManager().moveDeadLetterJobToExecutableJob(deadLetterJob, retries) != null) {
+                    movedJobs++;
+                } else {
+                    skippedJobIds.add(deadLetterJob.getId());
+                }
+
+            } else {
+                executableDeadLetterJobs.add(deadLetterJob);
+            }
+        }
+
+        if (!executableDeadLetterJobs.isEmpty()) {
+            List<String> movedJobIds = jobServiceConfiguration.getDeadLetterJobEntityManager().bulkMoveToExecutableJobs(executableDeadLetterJobs, retries);
+            movedJobs += movedJobIds.size();
+            if (movedJobIds.size() < executableDeadLetterJobs.size()) {
+                Set<String> movedJobIdSet = new HashSet<>(movedJobIds);
+                for (DeadLetterJobEntity deadLetterJob : executableDeadLetterJobs) {
+                    if (!movedJobIdSet.contains(deadLetterJob.getId())) {
+                        skippedJobIds.add(deadLetterJob.getId());
+                    }
+                }
+            }
+        }
+
+        if (!skippedJobIds.isEmpty()) {
+            query.excludeJobIds(skippedJobIds);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Moved {} of {} deadletter jobs, skipped {}", movedJobs, deadLetterJobs.size(), skippedJobIds);
+        }
+
+        return new DeadLetterJobMoveChunkResult(deadLetterJobs.size(), movedJobs, skippedJobIds);
+    }
+
+}
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Completes a {@link Batch#DEAD_LETTER_JOB_MOVE_TYPE} batch with the given status, once its chunks have all been moved or one of them failed.
+ */
+public class CompleteDeadLetterJobMoveBatchCmd implements Command<Batch> {
+
+    protected BatchService batchService;
+
+    protected String batchId;
+    protected String status;
+
+    public CompleteDeadLetterJobMoveBatchCmd(String batchId, String status, BatchService batchService) {
+        this.batchId = batchId;
+        this.status = status;
+        this.batchService = batchService;
+    }
+
+    @Override
+    public Batch execute(CommandContext commandContext) {
+        return batchService.completeBatch(batchId, status);
+    }
+
+}
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.List;
+
+/**
+ * The outcome of moving one chunk of deadletter jobs with {@link BulkMoveDeadLetterJobsChunkCmd}.
+ */
+public class DeadLetterJobMoveChunkResult {
+
+    protected int selectedJobCount;
+    protected int movedJobCount;
+    protected List<String> skippedJobIds;
+
+    public DeadLetterJobMoveChunkResult(int selectedJobCount, int movedJobCount, List<String> skippedJobIds) {
+        this.selectedJobCount = selectedJobCount;
+        this.movedJobCount = movedJobCount;
+        this.skippedJobIds = skippedJobIds;
+    }
+
+    /**
+     * The number of deadletter jobs selected for the chunk. A chunk that selects fewer jobs than the chunk size is the last one.
+     */
+    public int getSelectedJobCount() {
+        return selectedJobCount;
+    }
+
+    public int getMovedJobCount() {
+        return movedJobCount;
+    }
+
+    /**
+     * The ids of the selected jobs that could not be moved, e.g. because their execution no longer exists. These stay deadletter jobs.
+     */
+    public List<String> getSkippedJobIds() {
+        return skippedJobIds;
+    }
+
+}
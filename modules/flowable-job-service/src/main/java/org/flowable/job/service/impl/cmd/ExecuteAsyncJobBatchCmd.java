@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Executes a group of independent async jobs in one transaction.
+ * Every job is executed the way {@link ExecuteAsyncRunnableJobCmd} does, a failure of one of them rolls back the whole group.
+ */
+public class ExecuteAsyncJobBatchCmd implements Command<Void> {
+
+    protected List<String> jobIds;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteAsyncJobBatchCmd(List<String> jobIds, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            JobServiceConfiguration jobServiceConfiguration) {
+
+        this.jobIds = jobIds;
+        this.jobEntityManager = jobEntityManager;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("jobIds is null or empty");
+        }
+
+        for (String jobId : jobIds) {
+            new ExecuteAsyncRunnableJobCmd(jobId, jobEntityManager, jobServiceConfiguration, false).execute(commandContext);
+        }
+
+        return null;
+    }
+
+    public List<String> getJobIds() {
+        return jobIds;
+    }
+
+}
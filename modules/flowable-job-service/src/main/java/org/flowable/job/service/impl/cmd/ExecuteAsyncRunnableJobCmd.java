@@ -19,6 +19,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -43,6 +44,7 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected JobServiceConfiguration jobServiceConfiguration;
     protected boolean unlock;
+    protected JobInfoEntity leasedJob;
 
     public ExecuteAsyncRunnableJobCmd(String jobId, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             JobServiceConfiguration jobServiceConfiguration, boolean unlock) {
@@ -70,7 +72,7 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         // However, the async task jobs could already have been fetched and put in the queue.... while in reality they have been deleted.
         // A refetch is thus needed here to be sure that it exists for this transaction.
 
-        JobInfoEntity job = jobEntityManager.findById(jobId);
+        JobInfoEntity job = leasedJob != null ? attachLeasedJob(commandContext) : jobEntityManager.findById(jobId);
         if (job == null) {
             LOGGER.debug("Job does not exist anymore and will not be executed. It has most likely been deleted "
                     + "as part of another concurrent part of the process instance.");
@@ -103,6 +105,24 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         return null;
     }
 
+    /**
+     * Uses the committed state of the handed off job instead of selecting it again.
+     * Should the job have been changed or deleted concurrently, the revision check when deleting it fails and the transaction is rolled back.
+     */
+    protected JobInfoEntity attachLeasedJob(CommandContext commandContext) {
+        EntityCache entityCache = commandContext.getSession(EntityCache.class);
+        JobInfoEntity cachedJob = entityCache.findInCache(leasedJob.getClass(), jobId);
+        if (cachedJob != null) {
+            return cachedJob;
+        }
+
+        // The flags still reflect the transaction that created the job
+        leasedJob.setInserted(false);
+        leasedJob.setUpdated(false);
+        entityCache.put(leasedJob, true);
+        return leasedJob;
+    }
+
     public String getJobId() {
         return jobId;
     }
@@ -127,6 +147,14 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         this.jobServiceConfiguration = jobServiceConfiguration;
     }
 
+    public JobInfoEntity getLeasedJob() {
+        return leasedJob;
+    }
+
+    public void setLeasedJob(JobInfoEntity leasedJob) {
+        this.leasedJob = leasedJob;
+    }
+
     public boolean isUnlock() {
         return unlock;
     }
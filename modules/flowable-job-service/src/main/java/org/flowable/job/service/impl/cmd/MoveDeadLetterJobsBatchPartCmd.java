@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Moves the next chunk of deadletter jobs of a {@link Batch#DEAD_LETTER_JOB_MOVE_TYPE} batch and records the moved jobs as a completed batch part
+ * and the jobs that could not be moved as a failed batch part.
+ * The caller keeps executing this command until a chunk selects fewer jobs than the chunk size,
+ * and then completes the batch with {@link CompleteDeadLetterJobMoveBatchCmd}.
+ */
+public class MoveDeadLetterJobsBatchPartCmd implements Command<DeadLetterJobMoveChunkResult> {
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected BatchService batchService;
+
+    protected String batchId;
+    protected DeadLetterJobQueryImpl query;
+    protected int retries;
+    protected int chunkSize;
+
+    public MoveDeadLetterJobsBatchPartCmd(String batchId, DeadLetterJobQueryImpl query, int retries, int chunkSize,
+            BatchService batchService, JobServiceConfiguration jobServiceConfiguration) {
+        this.batchId = batchId;
+        this.query = query;
+        this.retries = retries;
+        this.chunkSize = chunkSize;
+        this.batchService = batchService;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public DeadLetterJobMoveChunkResult execute(CommandContext commandContext) {
+        Batch batch = batchService.getBatch(batchId);
+        if (batch == null) {
+            throw new FlowableIllegalArgumentException("There is no batch with the id " + batchId);
+        }
+
+        DeadLetterJobMoveChunkResult chunkResult = new BulkMoveDeadLetterJobsChunkCmd(query, retries, chunkSize, jobServiceConfiguration)
+                .execute(commandContext);
+
+        if (chunkResult.getMovedJobCount() > 0) {
+            BatchPart batchPart = batchService.createBatchPart(batch, STATUS_IN_PROGRESS, null, null, null);
+            String result = jobServiceConfiguration.getObjectMapper().createObjectNode()
+                    .put("numberOfMovedJobs", chunkResult.getMovedJobCount())
+                    .toString();
+            batchService.completeBatchPart(batchPart.getId(), STATUS_COMPLETED, result);
+        }
+
+        if (!chunkResult.getSkippedJobIds().isEmpty()) {
+            BatchPart batchPart = batchService.createBatchPart(batch, STATUS_IN_PROGRESS, null, null, null);
+            ObjectNode result = jobServiceConfiguration.getObjectMapper().createObjectNode();
+            ArrayNode skippedJobIds = result.putArray("skippedJobIds");
+            chunkResult.getSkippedJobIds().forEach(skippedJobIds::add);
+            batchService.completeBatchPart(batchPart.getId(), STATUS_FAILED, result.toString());
+        }
+
+        return chunkResult;
+    }
+
+}
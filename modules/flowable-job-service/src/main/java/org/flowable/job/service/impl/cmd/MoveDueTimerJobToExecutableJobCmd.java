@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Moves a timer job to the executable jobs when it is due, used by the {@link org.flowable.job.service.impl.asyncexecutor.TimerJobWheel}.
+ * Unlike {@link MoveTimerToExecutableJobCmd}, a timer job that is gone, not yet due or acquired by the timer job acquisition is left alone.
+ */
+public class MoveDueTimerJobToExecutableJobCmd implements Command<JobEntity> {
+
+    protected String jobId;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public MoveDueTimerJobToExecutableJobCmd(String jobId, JobServiceConfiguration jobServiceConfiguration) {
+        this.jobId = jobId;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public JobEntity execute(CommandContext commandContext) {
+        TimerJobEntity timerJob = jobServiceConfiguration.getTimerJobEntityManager().findById(jobId);
+
+        // Deleted, suspended or already moved, or acquired by the regular timer job acquisition
+        if (timerJob == null || timerJob.getLockOwner() != null) {
+            return null;
+        }
+
+        if (timerJob.getDuedate() != null && timerJob.getDuedate().after(jobServiceConfiguration.getClock().getCurrentTime())) {
+            return null;
+        }
+
+        List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
+        if (enabledCategories != null && !enabledCategories.isEmpty() && !enabledCategories.contains(timerJob.getCategory())) {
+            return null;
+        }
+
+        // Deleting the timer job uses the revision, so this fails with an optimistic locking exception when it was acquired concurrently
+        return jobServiceConfiguration.getJobManager().moveTimerJobToExecutableJob(timerJob);
+    }
+
+}
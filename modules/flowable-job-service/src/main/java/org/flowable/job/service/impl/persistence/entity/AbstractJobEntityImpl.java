@@ -40,6 +40,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     protected String processDefinitionId;
     
     protected String category;
+    protected Integer priority;
     protected String jobType;
     
     protected String elementId;
@@ -78,6 +79,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         persistentState.put("jobHandlerType", jobHandlerType);
         persistentState.put("processDefinitionId", processDefinitionId);
         persistentState.put("category", category);
+        persistentState.put("priority", priority);
         persistentState.put("jobType", jobType);
         persistentState.put("elementId", elementId);
         persistentState.put("elementName", elementName);
@@ -246,6 +248,21 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         this.category = category;
     }
 
+    @Override
+    public int getPriority() {
+        return priority != null ? priority : DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public boolean hasPriority() {
+        return priority != null;
+    }
+
     @Override
     public String getJobType() {
         return jobType;
@@ -29,6 +29,13 @@ public interface AbstractRuntimeJobEntity extends Job, AbstractJobEntity {
     void setProcessDefinitionId(String processDefinitionId);
     
     void setCategory(String category);
+
+    void setPriority(int priority);
+
+    /**
+     * Whether a priority has been set on this job. When not, the job gets the priority of its job handler type on insert.
+     */
+    boolean hasPriority();
     
     void setJobType(String jobType);
     
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -53,5 +54,14 @@ public interface DeadLetterJobEntityManager extends EntityManager<DeadLetterJobE
      * Changes the tenantId for all jobs related to a given deployment id.
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    /**
+     * Moves the given (non history and non external worker) deadletter jobs to the executable jobs using set based statements.
+     * The exception and custom values byte arrays are taken over by reference, without being read.
+     * No entity events are dispatched for the moved jobs.
+     *
+     * @return the ids of the jobs that were moved
+     */
+    List<String> bulkMoveToExecutableJobs(Collection<DeadLetterJobEntity> deadLetterJobs, int retries);
     
 }
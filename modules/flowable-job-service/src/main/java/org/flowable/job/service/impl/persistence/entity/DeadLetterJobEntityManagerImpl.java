@@ -13,11 +13,14 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.InternalJobManager;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
@@ -64,6 +67,40 @@ public class DeadLetterJobEntityManagerImpl
         dataManager.updateJobTenantIdForDeployment(deploymentId, newTenantId);
     }
 
+    @Override
+    public List<String> bulkMoveToExecutableJobs(Collection<DeadLetterJobEntity> deadLetterJobs, int retries) {
+        InternalJobManager internalJobManager = getServiceConfiguration().getInternalJobManager();
+        List<String> movedJobIds = new ArrayList<>(deadLetterJobs.size());
+        for (DeadLetterJobEntity deadLetterJob : deadLetterJobs) {
+            if (internalJobManager != null) {
+                // The engine keeps track of the jobs of its scopes, this needs to be done as if the executable job was inserted
+                // and the deadletter job deleted one by one. When the scope of the job is gone the job cannot be moved.
+                JobEntity executableJob = getServiceConfiguration().getJobEntityManager().create();
+                executableJob.setId(deadLetterJob.getId());
+                executableJob.setJobType(deadLetterJob.getJobType());
+                executableJob.setExecutionId(deadLetterJob.getExecutionId());
+                executableJob.setProcessInstanceId(deadLetterJob.getProcessInstanceId());
+                executableJob.setScopeId(deadLetterJob.getScopeId());
+                executableJob.setSubScopeId(deadLetterJob.getSubScopeId());
+                executableJob.setScopeType(deadLetterJob.getScopeType());
+                executableJob.setScopeDefinitionId(deadLetterJob.getScopeDefinitionId());
+                executableJob.setTenantId(deadLetterJob.getTenantId());
+                if (!internalJobManager.handleJobInsert(executableJob)) {
+                    continue;
+                }
+                internalJobManager.handleJobDelete(deadLetterJob);
+            }
+            movedJobIds.add(deadLetterJob.getId());
+        }
+
+        if (!movedJobIds.isEmpty()) {
+            dataManager.bulkInsertJobsFromDeadLetterJobs(movedJobIds, retries, getServiceConfiguration().getClock().getCurrentTime());
+            dataManager.bulkDeleteDeadLetterJobs(movedJobIds);
+        }
+
+        return movedJobIds;
+    }
+
     @Override
     public void insert(DeadLetterJobEntity jobEntity, boolean fireCreateEvent) {
         if (getServiceConfiguration().getInternalJobManager() != null) {
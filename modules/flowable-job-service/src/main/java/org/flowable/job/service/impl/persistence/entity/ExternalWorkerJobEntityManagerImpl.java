@@ -15,10 +15,14 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobWaiters;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
 /**
@@ -54,10 +58,24 @@ public class ExternalWorkerJobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (!jobEntity.hasPriority()) {
+            jobEntity.setPriority(serviceConfiguration.getJobHandlerPriority(jobEntity.getJobHandlerType()));
+        }
         super.insert(jobEntity, fireCreateEvent);
+        signalExternalWorkerJobWaiters(jobEntity);
         return true;
     }
 
+    protected void signalExternalWorkerJobWaiters(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobWaiters externalWorkerJobWaiters = serviceConfiguration.getExternalWorkerJobWaiters();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (externalWorkerJobWaiters != null && transactionContext != null) {
+            // The waiting workers can only acquire the job once it has been committed
+            String topic = jobEntity.getJobHandlerConfiguration();
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> externalWorkerJobWaiters.signal(topic));
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
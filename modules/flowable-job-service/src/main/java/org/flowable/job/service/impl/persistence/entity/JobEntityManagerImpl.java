@@ -58,6 +58,9 @@ public class JobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (!jobEntity.hasPriority()) {
+            jobEntity.setPriority(serviceConfiguration.getJobHandlerPriority(jobEntity.getJobHandlerType()));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -28,6 +29,14 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed, leaving out the jobs of the given tenants.
+     * Used by the {@link AcquireJobsCmd} when the async executor limits the concurrent jobs per tenant.
+     */
+    default List<T> findJobsToExecute(List<String> enabledCategories, Collection<String> excludedTenantIds, Page page) {
+        return findJobsToExecute(enabledCategories, page);
+    }
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
@@ -55,7 +64,12 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
 
     // Done with a default method, as otherwise the generics make the code hard to follow in the AcquireJobsCmd
     default List<T> findJobsToExecuteAndLockInBulk(List<String> enabledCategories, Page page, String lockOwner, Date lockExpirationTime) {
-        List<T> jobs = findJobsToExecute(enabledCategories, page);
+        return findJobsToExecuteAndLockInBulk(enabledCategories, null, page, lockOwner, lockExpirationTime);
+    }
+
+    default List<T> findJobsToExecuteAndLockInBulk(List<String> enabledCategories, Collection<String> excludedTenantIds, Page page,
+            String lockOwner, Date lockExpirationTime) {
+        List<T> jobs = findJobsToExecute(enabledCategories, excludedTenantIds, page);
 
         if (!jobs.isEmpty()) {
             bulkUpdateJobLockWithoutRevisionCheck(jobs, lockOwner, lockExpirationTime);
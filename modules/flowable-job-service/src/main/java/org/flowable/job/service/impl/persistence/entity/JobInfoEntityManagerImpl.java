@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -38,6 +39,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         return dataManager.findJobsToExecute(enabledCategories, page);
     }
 
+    @Override
+    public List<T> findJobsToExecute(List<String> enabledCategories, Collection<String> excludedTenantIds, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, excludedTenantIds, page);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return dataManager.findJobsByExecutionId(executionId);
@@ -138,6 +138,9 @@ public class TimerJobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (!jobEntity.hasPriority()) {
+            jobEntity.setPriority(serviceConfiguration.getJobHandlerPriority(jobEntity.getJobHandlerType()));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -207,6 +210,7 @@ public class TimerJobEntityManagerImpl
         newTimerEntity.setRetries(te.getRetries());
         newTimerEntity.setEndDate(te.getEndDate());
         newTimerEntity.setCategory(te.getCategory());
+        newTimerEntity.setPriority(te.getPriority());
         newTimerEntity.setExecutionId(te.getExecutionId());
         newTimerEntity.setProcessInstanceId(te.getProcessInstanceId());
         newTimerEntity.setProcessDefinitionId(te.getProcessDefinitionId());
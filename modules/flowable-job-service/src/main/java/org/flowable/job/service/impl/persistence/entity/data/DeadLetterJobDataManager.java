@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -35,5 +37,9 @@ public interface DeadLetterJobDataManager extends DataManager<DeadLetterJobEntit
     long findJobCountByQueryCriteria(DeadLetterJobQueryImpl jobQuery);
 
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    void bulkInsertJobsFromDeadLetterJobs(Collection<String> deadLetterJobIds, int retries, Date createTime);
+
+    void bulkDeleteDeadLetterJobs(Collection<String> deadLetterJobIds);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -23,6 +24,14 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    /**
+     * Returns the jobs eligible to be executed, leaving out the jobs of the given tenants (the empty string standing for the jobs without tenant).
+     * The default implementation doesn't support the exclusion and returns all eligible jobs.
+     */
+    default List<T> findJobsToExecute(List<String> enabledCategories, Collection<String> excludedTenantIds, Page page) {
+        return findJobsToExecute(enabledCategories, page);
+    }
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 
@@ -61,15 +63,23 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
     @Override
     @SuppressWarnings("unchecked")
     public List<Job> findJobsByQueryCriteria(DeadLetterJobQueryImpl jobQuery) {
+        setSafeInValueLists(jobQuery);
         String query = "selectDeadLetterJobByQueryCriteria";
         return getDbSqlSession().selectList(query, jobQuery);
     }
 
     @Override
     public long findJobCountByQueryCriteria(DeadLetterJobQueryImpl jobQuery) {
+        setSafeInValueLists(jobQuery);
         return (Long) getDbSqlSession().selectOne("selectDeadLetterJobCountByQueryCriteria", jobQuery);
     }
 
+    protected void setSafeInValueLists(DeadLetterJobQueryImpl jobQuery) {
+        if (jobQuery.getExcludedJobIds() != null && !jobQuery.getExcludedJobIds().isEmpty()) {
+            jobQuery.setSafeExcludedJobIds(createSafeInValuesList(jobQuery.getExcludedJobIds()));
+        }
+    }
+
     @Override
     public List<DeadLetterJobEntity> findJobsByExecutionId(String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -95,6 +105,20 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
         params.put("tenantId", newTenantId);
         getDbSqlSession().directUpdate("updateDeadLetterJobTenantIdForDeployment", params);
     }
+
+    @Override
+    public void bulkInsertJobsFromDeadLetterJobs(Collection<String> deadLetterJobIds, int retries, Date createTime) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("jobIds", createSafeInValuesList(deadLetterJobIds));
+        params.put("retries", retries);
+        params.put("createTime", createTime);
+        getDbSqlSession().directInsert("bulkInsertJobsFromDeadLetterJobs", params);
+    }
+
+    @Override
+    public void bulkDeleteDeadLetterJobs(Collection<String> deadLetterJobIds) {
+        getDbSqlSession().delete("bulkDeleteDeadLetterJobsByIds", createSafeInValuesList(deadLetterJobIds), DeadLetterJobEntityImpl.class);
+    }
     
     @Override
     protected IdGenerator getIdGenerator() {
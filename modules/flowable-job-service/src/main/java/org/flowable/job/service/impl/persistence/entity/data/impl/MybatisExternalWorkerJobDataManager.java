@@ -22,6 +22,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.ExternalWorkerJob;
@@ -34,6 +35,7 @@ import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDa
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.ExternalWorkerJobsByExecutionIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.ExternalWorkerJobsByScopeIdAndSubScopeIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobByCorrelationIdMatcher;
+import org.flowable.job.service.impl.util.JobAcquisitionQueryUtil;
 
 /**
  * @author Filip Hrisafov
@@ -151,7 +153,8 @@ public class MybatisExternalWorkerJobDataManager extends AbstractDataManager<Ext
     @Override
     @SuppressWarnings("unchecked")
     public List<ExternalWorkerJobEntity> findExternalJobsToExecute(ExternalWorkerJobAcquireBuilderImpl builder, int numberOfJobs) {
-        return getDbSqlSession().selectList("selectExternalWorkerJobsToExecute", builder, new Page(0, numberOfJobs));
+        return JobAcquisitionQueryUtil.selectJobsToExecute(jobServiceConfiguration, getDbSqlSession(), "selectExternalWorkerJobsToExecute",
+                new ListQueryParameterObject(builder, 0, numberOfJobs));
     }
 
     @Override
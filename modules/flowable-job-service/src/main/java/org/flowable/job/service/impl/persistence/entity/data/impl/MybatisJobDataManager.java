@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +23,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
@@ -31,6 +34,7 @@ import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobByCorrelationIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobsByExecutionIdMatcher;
+import org.flowable.job.service.impl.util.JobAcquisitionQueryUtil;
 
 /**
  * @author Joram Barrez
@@ -60,13 +64,35 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     @Override
     @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return findJobsToExecute(enabledCategories, null, page);
+    }
+
+    @Override
+    public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Collection<String> excludedTenantIds, Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+
+        if (excludedTenantIds != null && !excludedTenantIds.isEmpty()) {
+            // The jobs without tenant can't be excluded with a not in, as some databases store the empty tenant as null
+            List<String> excludedTenants = new ArrayList<>(excludedTenantIds);
+            if (excludedTenants.remove("")) {
+                params.put("excludeJobsWithoutTenant", true);
+            }
+            if (!excludedTenants.isEmpty()) {
+                params.put("excludedTenantIds", excludedTenants);
+            }
+        }
+
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+
+        // Jobs with a higher priority first, jobs with the same priority in the order of their id
+        parameterObject.addOrder("RES.PRIORITY_", ListQueryParameterObject.SORTORDER_DESC, null);
+        parameterObject.addOrder("RES.ID_", ListQueryParameterObject.SORTORDER_ASC, null);
+        return JobAcquisitionQueryUtil.selectJobsToExecute(jobServiceConfiguration, getDbSqlSession(), "selectJobsToExecute", parameterObject);
     }
 
     @Override
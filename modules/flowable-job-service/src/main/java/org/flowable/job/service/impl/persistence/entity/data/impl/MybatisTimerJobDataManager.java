@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
@@ -32,6 +33,7 @@ import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobByCorrelationIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByExecutionIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByScopeIdAndSubScopeIdMatcher;
+import org.flowable.job.service.impl.util.JobAcquisitionQueryUtil;
 
 /**
  * @author Tijs Rademakers
@@ -113,7 +115,8 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
+        return JobAcquisitionQueryUtil.selectJobsToExecute(jobServiceConfiguration, getDbSqlSession(), "selectTimerJobsToExecute",
+                new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults()));
     }
 
     @Override
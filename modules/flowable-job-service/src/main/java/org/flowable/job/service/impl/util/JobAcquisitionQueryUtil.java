@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Selects the jobs to execute for the async, timer and external worker job acquisition, with the skip locked variant of the statement
+ * when it is enabled and supported by the database.
+ */
+public class JobAcquisitionQueryUtil {
+
+    @SuppressWarnings("rawtypes")
+    public static List selectJobsToExecute(JobServiceConfiguration jobServiceConfiguration, DbSqlSession dbSqlSession,
+            String statement, ListQueryParameterObject parameterObject) {
+
+        if (!jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled() || !dbSqlSession.isSkipLockedSupported()) {
+            return dbSqlSession.selectList(statement, parameterObject);
+        }
+
+        // The skip locked statements limit the results themselves, without paging the order by is not moved into a paging window
+        String skipLockedStatement = statement + "SkipLocked";
+        parameterObject.setFirstResult(-1);
+
+        if (dbSqlSession.getDbSqlSessionFactory().isOracle()) {
+            // Oracle locks the rows when they are fetched: the statement selects more candidates and only the wanted number is fetched
+            int maxResults = parameterObject.getMaxResults();
+            long candidates = (long) maxResults * Math.max(1, jobServiceConfiguration.getSkipLockedJobAcquisitionCandidateMultiplier());
+            parameterObject.setMaxResults((int) Math.min(candidates, Integer.MAX_VALUE));
+            return dbSqlSession.selectListWithRowLimit(skipLockedStatement, parameterObject, maxResults);
+        }
+
+        return dbSqlSession.selectList(skipLockedStatement, parameterObject);
+    }
+
+}
@@ -17,6 +17,7 @@ create table ACT_RU_JOB (
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
     RETRIES_ INTEGER,
+    PRIORITY_ INTEGER default 50,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
     DUEDATE_ TIMESTAMP(6),
@@ -48,6 +49,7 @@ create table ACT_RU_TIMER_JOB (
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
     RETRIES_ INTEGER,
+    PRIORITY_ INTEGER default 50,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
     DUEDATE_ TIMESTAMP(6),
@@ -77,6 +79,7 @@ create table ACT_RU_SUSPENDED_JOB (
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
     RETRIES_ INTEGER,
+    PRIORITY_ INTEGER default 50,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
     DUEDATE_ TIMESTAMP(6),
@@ -105,6 +108,7 @@ create table ACT_RU_DEADLETTER_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    PRIORITY_ INTEGER default 50,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
     DUEDATE_ TIMESTAMP(6),
@@ -154,6 +158,7 @@ create table ACT_RU_EXTERNAL_JOB (
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
     RETRIES_ INTEGER,
+    PRIORITY_ INTEGER default 50,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
     DUEDATE_ TIMESTAMP(6),
@@ -169,6 +174,7 @@ create table ACT_RU_EXTERNAL_JOB (
 create index ACT_IDX_JOB_EXCEPTION on ACT_RU_JOB(EXCEPTION_STACK_ID_);
 create index ACT_IDX_JOB_CUSTOM_VAL_ID on ACT_RU_JOB(CUSTOM_VALUES_ID_);
 create index ACT_IDX_JOB_CORRELATION_ID on ACT_RU_JOB(CORRELATION_ID_);
+create index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB(PRIORITY_);
 
 create index ACT_IDX_TJOB_EXCEPTION on ACT_RU_TIMER_JOB(EXCEPTION_STACK_ID_);
 create index ACT_IDX_TJOB_CUSTOM_VAL_ID on ACT_RU_TIMER_JOB(CUSTOM_VALUES_ID_);
@@ -257,4 +263,4 @@ create index ACT_IDX_EJOB_SCOPE on ACT_RU_EXTERNAL_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_EJOB_SUB_SCOPE on ACT_RU_EXTERNAL_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_EJOB_SCOPE_DEF on ACT_RU_EXTERNAL_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
 
-insert into ACT_GE_PROPERTY values ('job.schema.version', '7.0.1.0', 1);
+insert into ACT_GE_PROPERTY values ('job.schema.version', '7.0.1.1', 1);
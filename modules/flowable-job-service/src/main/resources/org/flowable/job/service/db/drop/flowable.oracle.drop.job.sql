@@ -17,6 +17,7 @@ drop index ACT_IDX_EJOB_SCOPE_DEF;
 drop index ACT_IDX_JOB_EXCEPTION;
 drop index ACT_IDX_JOB_CUSTOM_VAL_ID;
 drop index ACT_IDX_JOB_CORRELATION_ID;
+drop index ACT_IDX_JOB_PRIORITY;
 
 drop index ACT_IDX_TJOB_EXCEPTION;
 drop index ACT_IDX_TJOB_CUSTOM_VAL_ID;
@@ -0,0 +1,9 @@
+alter table ACT_RU_JOB add PRIORITY_ int default 50 with values;
+alter table ACT_RU_TIMER_JOB add PRIORITY_ int default 50 with values;
+alter table ACT_RU_SUSPENDED_JOB add PRIORITY_ int default 50 with values;
+alter table ACT_RU_DEADLETTER_JOB add PRIORITY_ int default 50 with values;
+alter table ACT_RU_EXTERNAL_JOB add PRIORITY_ int default 50 with values;
+
+create index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB(PRIORITY_);
+
+update ACT_GE_PROPERTY set VALUE_ = '7.0.1.1' where NAME_ = 'job.schema.version';
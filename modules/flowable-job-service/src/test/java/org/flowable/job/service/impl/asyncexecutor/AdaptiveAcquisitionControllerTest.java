@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveAcquisitionControllerTest {
+
+    @Test
+    void fullAcquisitionsGrowSizeAndRetryImmediately() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController(4, Duration.ofMillis(100));
+        assertThat(controller.getAcquireSize(512)).isEqualTo(4);
+
+        assertThat(controller.acquired(4, 4, -1, 10_000)).isZero();
+        assertThat(controller.getAcquireSize(512)).isEqualTo(8);
+
+        assertThat(controller.acquired(8, 8, -1, 10_000)).isZero();
+        assertThat(controller.getAcquireSize(512)).isEqualTo(16);
+        assertThat(controller.getAcquireSize(10)).isEqualTo(10);
+    }
+
+    @Test
+    void partialAcquisitionWaitsMinimumWaitTime() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController(4, Duration.ofMillis(100));
+
+        assertThat(controller.acquired(4, 2, -1, 10_000)).isEqualTo(100);
+        assertThat(controller.getAcquireSize(512)).isEqualTo(4);
+    }
+
+    @Test
+    void emptyAcquisitionsBackOffExponentially() {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController(4, Duration.ofMillis(100));
+        controller.acquired(4, 4, -1, 1000);
+        controller.acquired(8, 8, -1, 1000);
+
+        assertThat(controller.acquired(16, 0, -1, 1000)).isEqualTo(100);
+        assertThat(controller.acquired(8, 0, -1, 1000)).isEqualTo(200);
+        assertThat(controller.acquired(4, 0, -1, 1000)).isEqualTo(400);
+        assertThat(controller.acquired(4, 0, -1, 1000)).isEqualTo(800);
+        assertThat(controller.acquired(4, 0, -1, 1000)).isEqualTo(1000);
+        assertThat(controller.acquired(4, 0, -1, 1000)).isEqualTo(1000);
+        assertThat(controller.getAcquireSize(512)).isEqualTo(4);
+
+        // Activity resets the back off
+        assertThat(controller.acquired(4, 1, -1, 1000)).isEqualTo(100);
+        assertThat(controller.acquired(4, 0, -1, 1000)).isEqualTo(100);
+    }
+
+    @Test
+    void acquireSizeLimitedByDrainRate() throws InterruptedException {
+        AdaptiveAcquisitionController controller = new AdaptiveAcquisitionController(1, Duration.ofMillis(100));
+        for (int i = 0; i < 10; i++) {
+            controller.acquired(controller.getAcquireSize(512), controller.getAcquireSize(512), 100, 10_000);
+        }
+        assertThat(controller.getAcquireSize(512)).isEqualTo(512);
+
+        // Nothing got executed since the jobs were offered
+        Thread.sleep(10);
+        controller.recordRemainingCapacity(100);
+        assertThat(controller.getDrainRate()).isZero();
+        assertThat(controller.getAcquireSize(512)).isEqualTo(512);
+
+        controller.acquired(512, 512, 50, 10_000);
+        Thread.sleep(10);
+        controller.recordRemainingCapacity(52);
+        assertThat(controller.getDrainRate()).isPositive();
+        int acquireSize = controller.getAcquireSize(512);
+        assertThat(acquireSize).isLessThan(512);
+
+        // A full acquisition limited by the drain rate gives the executor some time
+        assertThat(controller.acquired(acquireSize, acquireSize, 0, 10_000)).isEqualTo(100);
+    }
+
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class FairJobSchedulerTest {
+
+    @Test
+    void ordersJobsRoundRobinOverTenants() {
+        FairJobScheduler scheduler = new FairJobScheduler(new AsyncJobExecutorConfiguration());
+        List<JobEntity> jobs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            jobs.add(createJob("flood" + i, "flood", null));
+        }
+        jobs.add(createJob("a", "tenantA", null));
+        jobs.add(createJob("b", "tenantB", null));
+
+        assertThat(scheduler.order(jobs))
+                .extracting(JobInfo::getId)
+                .containsExactly("flood0", "a", "b", "flood1", "flood2", "flood3");
+    }
+
+    @Test
+    void ordersJobsByTenantAndCategoryWeight() {
+        AsyncJobExecutorConfiguration configuration = new AsyncJobExecutorConfiguration();
+        configuration.getTenantWeights().put("tenantA", 2);
+        configuration.getCategoryWeights().put("urgent", 3);
+        FairJobScheduler scheduler = new FairJobScheduler(configuration);
+
+        List<JobEntity> jobs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            jobs.add(createJob("a" + i, "tenantA", null));
+        }
+        for (int i = 0; i < 3; i++) {
+            jobs.add(createJob("b" + i, "tenantB", null));
+        }
+        for (int i = 0; i < 4; i++) {
+            jobs.add(createJob("u" + i, "tenantB", "urgent"));
+        }
+
+        assertThat(scheduler.order(jobs))
+                .extracting(JobInfo::getId)
+                .containsExactly("a0", "a1", "b0", "u0", "u1", "u2", "a2", "b1", "u3", "b2");
+    }
+
+    @Test
+    void limitsConcurrentJobsPerTenant() {
+        AsyncJobExecutorConfiguration configuration = new AsyncJobExecutorConfiguration();
+        configuration.setMaxConcurrentJobsPerTenant(2);
+        FairJobScheduler scheduler = new FairJobScheduler(configuration);
+
+        JobEntity job1 = createJob("1", "flood", null);
+        JobEntity job2 = createJob("2", "flood", null);
+        JobEntity job3 = createJob("3", "flood", null);
+        JobEntity otherJob = createJob("4", "tenantA", null);
+
+        assertThat(scheduler.tryAcquireSlot(job1)).isTrue();
+        assertThat(scheduler.tryAcquireSlot(job2)).isTrue();
+        assertThat(scheduler.tryAcquireSlot(job3)).isFalse();
+        assertThat(scheduler.tryAcquireSlot(otherJob)).isTrue();
+        assertThat(scheduler.getSaturatedTenantIds()).containsExactly("flood");
+
+        AtomicBoolean executed = new AtomicBoolean();
+        scheduler.releaseSlotAfter(job1, () -> executed.set(true)).run();
+        assertThat(executed).isTrue();
+        assertThat(scheduler.getRunningJobCount("flood")).isEqualTo(1);
+        assertThat(scheduler.getSaturatedTenantIds()).isEmpty();
+        assertThat(scheduler.tryAcquireSlot(job3)).isTrue();
+    }
+
+    protected JobEntity createJob(String id, String tenantId, String category) {
+        JobEntity job = new JobEntityImpl();
+        job.setId(id);
+        job.setTenantId(tenantId);
+        job.setCategory(category);
+        return job;
+    }
+
+}
@@ -131,6 +131,12 @@ public class FlowableProperties {
     private Duration historyCleaningAfter = Duration.ofDays(365);
     private int historyCleaningBatchSize = 100;
 
+    /**
+     * The number of end time partitions in which the process history cleaning is executed in parallel.
+     * When 0 the process history is cleaned sequentially.
+     */
+    private int historyCleaningPartitions = 0;
+
     public boolean isAsyncExecutorActivate() {
         return asyncExecutorActivate;
     }
@@ -386,4 +392,12 @@ public class FlowableProperties {
     public void setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
         this.historyCleaningBatchSize = historyCleaningBatchSize;
     }
+
+    public int getHistoryCleaningPartitions() {
+        return historyCleaningPartitions;
+    }
+
+    public void setHistoryCleaningPartitions(int historyCleaningPartitions) {
+        this.historyCleaningPartitions = historyCleaningPartitions;
+    }
 }
@@ -269,6 +269,7 @@ public class ProcessEngineAutoConfiguration extends AbstractSpringEngineAutoConf
         conf.setHistoryCleaningTimeCycleConfig(flowableProperties.getHistoryCleaningCycle());
         conf.setCleanInstancesEndedAfter(flowableProperties.getHistoryCleaningAfter());
         conf.setCleanInstancesBatchSize(flowableProperties.getHistoryCleaningBatchSize());
+        conf.setCleanInstancesPartitions(flowableProperties.getHistoryCleaningPartitions());
 
         IdGenerator idGenerator = getIfAvailable(processIdGenerator, globalIdGenerator);
         if (idGenerator == null) {
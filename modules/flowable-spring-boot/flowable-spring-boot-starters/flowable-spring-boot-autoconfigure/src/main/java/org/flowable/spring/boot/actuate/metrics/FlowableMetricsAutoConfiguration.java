@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.app.spring.SpringAppEngineConfiguration;
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.dmn.spring.SpringDmnEngineConfiguration;
+import org.flowable.eventregistry.spring.SpringEventRegistryEngineConfiguration;
+import org.flowable.idm.spring.SpringIdmEngineConfiguration;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.condition.ConditionalOnAppEngine;
+import org.flowable.spring.boot.condition.ConditionalOnCmmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnDmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnEventRegistry;
+import org.flowable.spring.boot.condition.ConditionalOnIdmEngine;
+import org.flowable.spring.boot.condition.ConditionalOnProcessEngine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration} publishing the metrics of the Flowable engines
+ * to the Micrometer {@link MeterRegistry} of the application, through a {@link MicrometerEngineMetrics} per engine.
+ * Can be disabled with the property {@code flowable.metrics.enabled}.
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", matchIfMissing = true)
+public class FlowableMetricsAutoConfiguration {
+
+    protected static void configureEngineMetrics(AbstractEngineConfiguration engineConfiguration, ObjectProvider<MeterRegistry> meterRegistry) {
+        // The meter registry is looked up when the engine configuration is created, it is only available when actuator metrics are enabled
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null && engineConfiguration.getEngineMetrics() == null) {
+            engineConfiguration.setEngineMetrics(new MicrometerEngineMetrics(registry, engineConfiguration.getEngineScopeType()));
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProcessEngine
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return engineConfiguration -> configureEngineMetrics(engineConfiguration, meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnCmmnEngine
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return engineConfiguration -> configureEngineMetrics(engineConfiguration, meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnAppEngine
+    public static class AppEngineMetricsConfiguration {
+
+        @Bean
+        public EngineConfigurationConfigurer<SpringAppEngineConfiguration> metricsAppEngineConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return engineConfiguration -> configureEngineMetrics(engineConfiguration, meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnDmnEngine
+    public static class DmnEngineMetricsConfiguration {
+
+        @Bean
+        public EngineConfigurationConfigurer<SpringDmnEngineConfiguration> metricsDmnEngineConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return engineConfiguration -> configureEngineMetrics(engineConfiguration, meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnIdmEngine
+    public static class IdmEngineMetricsConfiguration {
+
+        @Bean
+        public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> metricsIdmEngineConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return engineConfiguration -> configureEngineMetrics(engineConfiguration, meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnEventRegistry
+    public static class EventRegistryMetricsConfiguration {
+
+        @Bean
+        public EngineConfigurationConfigurer<SpringEventRegistryEngineConfiguration> metricsEventRegistryEngineConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return engineConfiguration -> configureEngineMetrics(engineConfiguration, meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link EngineMetrics} publishing the measurements of one engine as Micrometer meters, all tagged with the engine they belong to.
+ * <ul>
+ *     <li>{@code flowable.command}: timer per command class and outcome</li>
+ *     <li>{@code flowable.flush.statements}: summary of the number of statements per flush and statement type</li>
+ *     <li>{@code flowable.entity.cache.size}: summary of the number of entities in the entity cache when flushing</li>
+ *     <li>{@code flowable.job.acquisition} and {@code flowable.job.acquired}: timer and acquired job count per acquisition type</li>
+ *     <li>{@code flowable.job.execution}: timer per job handler type and outcome</li>
+ *     <li>{@code flowable.<gauge name>}: the gauges registered by the engine, e.g. {@code flowable.processDefinitionCache.hitRatio}</li>
+ * </ul>
+ */
+public class MicrometerEngineMetrics implements EngineMetrics {
+
+    protected final MeterRegistry meterRegistry;
+    protected final Tags engineTags;
+
+    protected final Map<Class<?>, Timer> successfulCommandTimers = new ConcurrentHashMap<>();
+    protected final Map<Class<?>, Timer> failedCommandTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> jobAcquisitionTimers = new ConcurrentHashMap<>();
+    protected final Map<String, DistributionSummary> acquiredJobSummaries = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> successfulJobTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> failedJobTimers = new ConcurrentHashMap<>();
+
+    protected final DistributionSummary insertSummary;
+    protected final DistributionSummary updateSummary;
+    protected final DistributionSummary deleteSummary;
+    protected final DistributionSummary entityCacheSizeSummary;
+
+    public MicrometerEngineMetrics(MeterRegistry meterRegistry, String engine) {
+        this.meterRegistry = meterRegistry;
+        this.engineTags = Tags.of("engine", engine);
+        this.insertSummary = flushSummary("insert");
+        this.updateSummary = flushSummary("update");
+        this.deleteSummary = flushSummary("delete");
+        this.entityCacheSizeSummary = DistributionSummary.builder("flowable.entity.cache.size")
+                .description("Number of entities in the entity cache of a command context when it is flushed")
+                .tags(engineTags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordCommand(Class<?> commandClass, long durationNanos, boolean successful) {
+        Map<Class<?>, Timer> timers = successful ? successfulCommandTimers : failedCommandTimers;
+        timers.computeIfAbsent(commandClass, key -> Timer.builder("flowable.command")
+                .description("Execution time of the engine commands")
+                .tags(engineTags)
+                .tag("command", commandName(key))
+                .tag("outcome", outcome(successful))
+                .register(meterRegistry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordFlush(int insertCount, int updateCount, int deleteCount) {
+        insertSummary.record(insertCount);
+        updateSummary.record(updateCount);
+        deleteSummary.record(deleteCount);
+    }
+
+    @Override
+    public void recordEntityCacheSize(int cachedEntityCount) {
+        entityCacheSizeSummary.record(cachedEntityCount);
+    }
+
+    @Override
+    public void recordJobAcquisition(String acquisitionType, int acquiredJobCount, long durationNanos) {
+        jobAcquisitionTimers.computeIfAbsent(acquisitionType, key -> Timer.builder("flowable.job.acquisition")
+                .description("Duration of the job acquisition cycles of the async executor")
+                .tags(engineTags)
+                .tag("type", key)
+                .register(meterRegistry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        acquiredJobSummaries.computeIfAbsent(acquisitionType, key -> DistributionSummary.builder("flowable.job.acquired")
+                .description("Number of jobs acquired per acquisition cycle of the async executor")
+                .tags(engineTags)
+                .tag("type", key)
+                .register(meterRegistry))
+            .record(acquiredJobCount);
+    }
+
+    @Override
+    public void recordJobExecution(String jobHandlerType, long durationNanos, boolean successful) {
+        Map<String, Timer> timers = successful ? successfulJobTimers : failedJobTimers;
+        timers.computeIfAbsent(jobHandlerType != null ? jobHandlerType : "unknown", key -> Timer.builder("flowable.job.execution")
+                .description("Execution time of the jobs executed by the async executor")
+                .tags(engineTags)
+                .tag("handler", key)
+                .tag("outcome", outcome(successful))
+                .register(meterRegistry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void registerGauge(String name, Supplier<Number> valueSupplier) {
+        Gauge.builder("flowable." + name, valueSupplier)
+                .tags(engineTags)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    protected DistributionSummary flushSummary(String statementType) {
+        return DistributionSummary.builder("flowable.flush.statements")
+                .description("Number of statements executed per flush of the database session")
+                .tags(engineTags)
+                .tag("type", statementType)
+                .register(meterRegistry);
+    }
+
+    protected String commandName(Class<?> commandClass) {
+        // Anonymous commands have no simple name, their timers would otherwise all share a blank tag
+        String simpleName = commandClass.getSimpleName();
+        return simpleName.isEmpty() ? commandClass.getName() : simpleName;
+    }
+
+    protected String outcome(boolean successful) {
+        return successful ? "success" : "failure";
+    }
+
+}
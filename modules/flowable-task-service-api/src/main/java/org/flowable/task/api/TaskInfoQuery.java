@@ -898,16 +898,34 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T includeTaskLocalVariables();
 
+    /**
+     * Include the local task variables with the given names in the task query result.
+     * The variables are loaded in a separate query for the tasks of the result page.
+     */
+    T includeTaskLocalVariables(Collection<String> variableNames);
+
     /**
      * Include global process variables in the task query result
      */
     T includeProcessVariables();
 
+    /**
+     * Include the global process variables with the given names in the task query result.
+     * The variables are loaded in a separate query for the tasks of the result page.
+     */
+    T includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Include global case variables in the task query result
      */
     T includeCaseVariables();
 
+    /**
+     * Include the global case variables with the given names in the task query result.
+     * The variables are loaded in a separate query for the tasks of the result page.
+     */
+    T includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Include identity links in the task query result
      */
@@ -67,6 +67,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+    protected boolean enableTwoPhaseVariableLoading;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -247,6 +248,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableTwoPhaseVariableLoading() {
+        return enableTwoPhaseVariableLoading;
+    }
+
+    public TaskServiceConfiguration setEnableTwoPhaseVariableLoading(boolean enableTwoPhaseVariableLoading) {
+        this.enableTwoPhaseVariableLoading = enableTwoPhaseVariableLoading;
+        return this;
+    }
+
     public TaskQueryInterceptor getTaskQueryInterceptor() {
         return taskQueryInterceptor;
     }
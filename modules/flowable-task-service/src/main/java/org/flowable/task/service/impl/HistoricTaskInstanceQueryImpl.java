@@ -16,8 +16,11 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -33,6 +36,7 @@ import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
 import org.flowable.task.service.impl.util.TaskVariableUtils;
+import org.flowable.variable.service.HistoricVariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
@@ -166,6 +170,9 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
     protected boolean includeCaseVariables;
+    protected Collection<String> includeTaskLocalVariableNames;
+    protected Collection<String> includeProcessVariableNames;
+    protected Collection<String> includeCaseVariableNames;
     protected boolean includeIdentityLinks;
     protected List<HistoricTaskInstanceQueryImpl> orQueryObjects = new ArrayList<>();
     protected HistoricTaskInstanceQueryImpl currentOrQueryObject;
@@ -214,10 +221,18 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         }
 
         if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
-            tasks = taskServiceConfiguration.getHistoricTaskInstanceEntityManager()
-                    .findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(this);
+            boolean loadVariablesSeparately = isLoadVariablesSeparately();
+            if (loadVariablesSeparately && !includeIdentityLinks) {
+                tasks = taskServiceConfiguration.getHistoricTaskInstanceEntityManager().findHistoricTaskInstancesByQueryCriteria(this);
+            } else {
+                tasks = taskServiceConfiguration.getHistoricTaskInstanceEntityManager()
+                        .findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(this);
+            }
+
+            if (loadVariablesSeparately) {
+                addQueryVariables(tasks);
 
-            if (taskId != null) {
+            } else if (taskId != null) {
                 if (includeProcessVariables ||includeCaseVariables) {
                     addCachedVariableForQueryById(commandContext, tasks, false);
                 } else if (includeTaskLocalVariables) {
@@ -262,8 +277,70 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         }
     }
 
+    /**
+     * Loads the included variables of the given page of tasks with one query per variable scope, instead of joining them into the task query.
+     */
+    protected void addQueryVariables(List<HistoricTaskInstance> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        HistoricVariableService historicVariableService = variableServiceConfiguration.getHistoricVariableService();
+        if (includeTaskLocalVariables) {
+            Map<String, List<HistoricTaskInstanceEntity>> tasksByTaskId = groupTasks(tasks, HistoricTaskInstance::getId);
+            addQueryVariables(tasksByTaskId, historicVariableService.findHistoricVariableInstancesByTaskIds(tasksByTaskId.keySet(), includeTaskLocalVariableNames),
+                    HistoricVariableInstanceEntity::getTaskId);
+        }
+
+        if (includeProcessVariables) {
+            Map<String, List<HistoricTaskInstanceEntity>> tasksByProcessInstanceId = groupTasks(tasks, HistoricTaskInstance::getProcessInstanceId);
+            if (!tasksByProcessInstanceId.isEmpty()) {
+                addQueryVariables(tasksByProcessInstanceId,
+                        historicVariableService.findHistoricVariableInstancesByExecutionIds(tasksByProcessInstanceId.keySet(), includeProcessVariableNames),
+                        HistoricVariableInstanceEntity::getExecutionId);
+            }
+        }
+
+        if (includeCaseVariables) {
+            Map<String, List<HistoricTaskInstanceEntity>> tasksByCaseInstanceId = groupTasks(tasks,
+                    task -> TaskVariableUtils.isCaseRelated(task) ? task.getScopeId() : null);
+            if (!tasksByCaseInstanceId.isEmpty()) {
+                addQueryVariables(tasksByCaseInstanceId, historicVariableService.findHistoricVariableInstancesByScopeIdsAndScopeType(
+                        tasksByCaseInstanceId.keySet(), ScopeTypes.CMMN, includeCaseVariableNames), HistoricVariableInstanceEntity::getScopeId);
+            }
+        }
+    }
+
+    protected Map<String, List<HistoricTaskInstanceEntity>> groupTasks(List<HistoricTaskInstance> tasks, Function<HistoricTaskInstance, String> keyProvider) {
+        Map<String, List<HistoricTaskInstanceEntity>> groupedTasks = new HashMap<>();
+        for (HistoricTaskInstance task : tasks) {
+            String key = keyProvider.apply(task);
+            if (key != null) {
+                groupedTasks.computeIfAbsent(key, k -> new ArrayList<>()).add((HistoricTaskInstanceEntity) task);
+            }
+        }
+        return groupedTasks;
+    }
+
+    protected void addQueryVariables(Map<String, List<HistoricTaskInstanceEntity>> groupedTasks, List<HistoricVariableInstanceEntity> variables,
+            Function<HistoricVariableInstanceEntity, String> keyProvider) {
+        for (HistoricVariableInstanceEntity variable : variables) {
+            List<HistoricTaskInstanceEntity> variableTasks = groupedTasks.get(keyProvider.apply(variable));
+            if (variableTasks != null) {
+                for (HistoricTaskInstanceEntity task : variableTasks) {
+                    task.getQueryVariables().add(variable);
+                }
+            }
+        }
+    }
+
     @Override
     public void enhanceCachedValue(HistoricTaskInstanceEntity task) {
+        if (isLoadVariablesSeparately()) {
+            // the variables of cached tasks are added together with the ones of the other tasks of the result
+            return;
+        }
+
 
         if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
@@ -1991,18 +2068,48 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.includeTaskLocalVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricTaskInstanceQuery includeProcessVariables() {
         this.includeProcessVariables = true;
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricTaskInstanceQuery includeCaseVariables() {
         this.includeCaseVariables = true;
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.includeCaseVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricTaskInstanceQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
@@ -2435,6 +2542,27 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeIdentityLinks;
     }
 
+    public Collection<String> getIncludeTaskLocalVariableNames() {
+        return includeTaskLocalVariableNames;
+    }
+
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public Collection<String> getIncludeCaseVariableNames() {
+        return includeCaseVariableNames;
+    }
+
+    public boolean isLoadVariablesSeparately() {
+        return (taskServiceConfiguration != null && taskServiceConfiguration.isEnableTwoPhaseVariableLoading())
+                || includeTaskLocalVariableNames != null || includeProcessVariableNames != null || includeCaseVariableNames != null;
+    }
+
+    public boolean isJoinVariables() {
+        return (includeTaskLocalVariables || includeProcessVariables || includeCaseVariables) && !isLoadVariablesSeparately();
+    }
+
     public boolean isInOrStatement() {
         return inOrStatement;
     }
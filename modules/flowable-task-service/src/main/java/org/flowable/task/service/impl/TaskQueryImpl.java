@@ -15,8 +15,11 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -34,6 +37,7 @@ import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.util.TaskVariableUtils;
+import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
@@ -159,6 +163,9 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
     protected boolean includeCaseVariables;
+    protected Collection<String> includeTaskLocalVariableNames;
+    protected Collection<String> includeProcessVariableNames;
+    protected Collection<String> includeCaseVariableNames;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
     protected boolean bothCandidateAndAssigned;
@@ -1935,18 +1942,48 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.includeTaskLocalVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public TaskQuery includeProcessVariables() {
         this.includeProcessVariables = true;
         return this;
     }
 
+    @Override
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public TaskQuery includeCaseVariables() {
         this.includeCaseVariables = true;
         return this;
     }
 
+    @Override
+    public TaskQuery includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.includeCaseVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public TaskQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
@@ -2129,10 +2166,20 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
 
         if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
-            tasks = taskServiceConfiguration.getTaskEntityManager()
-                    .findTasksWithRelatedEntitiesByQueryCriteria(this);
+            boolean loadVariablesSeparately = isLoadVariablesSeparately();
+            if (loadVariablesSeparately && !includeIdentityLinks) {
+                tasks = taskServiceConfiguration.getTaskEntityManager()
+                        .findTasksByQueryCriteria(this);
+            } else {
+                tasks = taskServiceConfiguration.getTaskEntityManager()
+                        .findTasksWithRelatedEntitiesByQueryCriteria(this);
+            }
 
-            if (taskId != null) {
+            if (loadVariablesSeparately) {
+                // The variable queries also take the variables of the entity cache into account
+                addQueryVariables(tasks);
+
+            } else if (taskId != null) {
                 if (includeProcessVariables|| includeCaseVariables) {
                     addCachedVariableForQueryById(commandContext, tasks, false);
                 } else if (includeTaskLocalVariables) {
@@ -2182,8 +2229,70 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
     }
 
+    /**
+     * Loads the included variables of the given page of tasks with one query per variable scope, instead of joining them into the task query.
+     */
+    protected void addQueryVariables(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        VariableService variableService = variableServiceConfiguration.getVariableService();
+        if (includeTaskLocalVariables) {
+            Map<String, List<TaskEntity>> tasksByTaskId = groupTasks(tasks, Task::getId);
+            addQueryVariables(tasksByTaskId, variableService.findVariableInstancesByTaskIds(tasksByTaskId.keySet(), includeTaskLocalVariableNames),
+                    VariableInstanceEntity::getTaskId);
+        }
+
+        if (includeProcessVariables) {
+            Map<String, List<TaskEntity>> tasksByProcessInstanceId = groupTasks(tasks, Task::getProcessInstanceId);
+            if (!tasksByProcessInstanceId.isEmpty()) {
+                addQueryVariables(tasksByProcessInstanceId,
+                        variableService.findVariableInstancesByExecutionIds(tasksByProcessInstanceId.keySet(), includeProcessVariableNames),
+                        VariableInstanceEntity::getExecutionId);
+            }
+        }
+
+        if (includeCaseVariables) {
+            Map<String, List<TaskEntity>> tasksByCaseInstanceId = groupTasks(tasks, task -> TaskVariableUtils.isCaseRelated(task) ? task.getScopeId() : null);
+            if (!tasksByCaseInstanceId.isEmpty()) {
+                addQueryVariables(tasksByCaseInstanceId,
+                        variableService.findVariableInstancesByScopeIdsAndScopeType(tasksByCaseInstanceId.keySet(), ScopeTypes.CMMN, includeCaseVariableNames),
+                        VariableInstanceEntity::getScopeId);
+            }
+        }
+    }
+
+    protected Map<String, List<TaskEntity>> groupTasks(List<Task> tasks, Function<Task, String> keyProvider) {
+        Map<String, List<TaskEntity>> groupedTasks = new HashMap<>();
+        for (Task task : tasks) {
+            String key = keyProvider.apply(task);
+            if (key != null) {
+                groupedTasks.computeIfAbsent(key, k -> new ArrayList<>()).add((TaskEntity) task);
+            }
+        }
+        return groupedTasks;
+    }
+
+    protected void addQueryVariables(Map<String, List<TaskEntity>> groupedTasks, List<VariableInstanceEntity> variables,
+            Function<VariableInstanceEntity, String> keyProvider) {
+        for (VariableInstanceEntity variable : variables) {
+            List<TaskEntity> variableTasks = groupedTasks.get(keyProvider.apply(variable));
+            if (variableTasks != null) {
+                for (TaskEntity task : variableTasks) {
+                    task.getQueryVariables().add(variable);
+                }
+            }
+        }
+    }
+
     @Override
     public void enhanceCachedValue(TaskEntity task) {
+        if (isLoadVariablesSeparately()) {
+            // the variables of cached tasks are added together with the ones of the other tasks of the result
+            return;
+        }
+
         if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
                     .addAll(variableServiceConfiguration.getVariableService()
@@ -2543,6 +2652,27 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeIdentityLinks;
     }
 
+    public Collection<String> getIncludeTaskLocalVariableNames() {
+        return includeTaskLocalVariableNames;
+    }
+
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public Collection<String> getIncludeCaseVariableNames() {
+        return includeCaseVariableNames;
+    }
+
+    public boolean isLoadVariablesSeparately() {
+        return (taskServiceConfiguration != null && taskServiceConfiguration.isEnableTwoPhaseVariableLoading())
+                || includeTaskLocalVariableNames != null || includeProcessVariableNames != null || includeCaseVariableNames != null;
+    }
+
+    public boolean isJoinVariables() {
+        return (includeTaskLocalVariables || includeProcessVariables || includeCaseVariables) && !isLoadVariablesSeparately();
+    }
+
     public boolean isBothCandidateAndAssigned() {
         return bothCandidateAndAssigned;
     }
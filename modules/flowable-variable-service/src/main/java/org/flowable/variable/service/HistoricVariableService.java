@@ -34,6 +34,23 @@ public interface HistoricVariableService {
     HistoricVariableInstanceEntity createHistoricVariableInstance();
     
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl query);
+
+    /**
+     * Finds the non task variables of the given executions, only the ones with the given names when variable names are passed.
+     * The ids are split over multiple queries when there are more than a single in() clause can hold.
+     */
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames);
+
+    /**
+     * Finds the local variables of the given tasks, only the ones with the given names when variable names are passed.
+     */
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds, Collection<String> variableNames);
+
+    /**
+     * Finds the scope level variables of the given scopes, only the ones with the given names when variable names are passed.
+     */
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType,
+            Collection<String> variableNames);
     
     void insertHistoricVariableInstance(HistoricVariableInstanceEntity variable);
     
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -38,6 +39,22 @@ public interface VariableService {
         return createInternalVariableInstanceQuery().subScopeId(subScopeId).scopeType(scopeType).list();
     }
 
+    /**
+     * Finds the non task variables of the given executions, only the ones with the given names when variable names are passed.
+     * The ids are split over multiple queries when there are more than a single in() clause can hold.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames);
+
+    /**
+     * Finds the local variables of the given tasks, only the ones with the given names when variable names are passed.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByTaskIds(Collection<String> taskIds, Collection<String> variableNames);
+
+    /**
+     * Finds the scope level variables of the given scopes, only the ones with the given names when variable names are passed.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType, Collection<String> variableNames);
+
     /**
      * Create a variable instance with the given name and value for the given tenant.
      *
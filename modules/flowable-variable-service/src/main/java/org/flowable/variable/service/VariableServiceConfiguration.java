@@ -20,6 +20,7 @@ import org.flowable.variable.service.impl.DefaultVariableInstanceValueModifier;
 import org.flowable.variable.service.impl.HistoricVariableServiceImpl;
 import org.flowable.variable.service.impl.VariableInstanceValueModifier;
 import org.flowable.variable.service.impl.VariableServiceImpl;
+import org.flowable.variable.service.impl.VariableValueSnapshotCache;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityManager;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityManagerImpl;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityManager;
@@ -67,6 +68,22 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
      * By default true for backwards compatibility.
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The minimum size, in bytes, from which byte array values of variables (e.g. 'bytes', 'serializable' and long 'json' variables) are stored compressed.
+     * Compressed values are marked with a header, so values stored before compression was enabled can still be read.
+     * By default -1, which means that values are never compressed.
+     */
+    protected int variableByteArrayCompressionThreshold = -1;
+
+    /**
+     * The maximum number of variable values kept in the {@link VariableValueSnapshotCache}, which keeps the values of unchanged variables
+     * across commands. By default -1, which means that no values are kept.
+     * Only engines with kept values bump the revision of a variable when its byte array value changes,
+     * so every engine sharing the database has to enable this, otherwise stale values can be served.
+     */
+    protected int variableValueSnapshotCacheLimit = -1;
+    protected VariableValueSnapshotCache variableValueSnapshotCache;
     
     public VariableServiceConfiguration(String engineName) {
         super(engineName);
@@ -79,6 +96,7 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
         initDataManagers();
         initEntityManagers();
         initVariableInstanceValueModifier();
+        initVariableValueSnapshotCache();
     }
 
     // Data managers
@@ -108,6 +126,12 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
         }
     }
 
+    public void initVariableValueSnapshotCache() {
+        if (variableValueSnapshotCache == null && variableValueSnapshotCacheLimit > 0) {
+            variableValueSnapshotCache = new VariableValueSnapshotCache(variableValueSnapshotCacheLimit);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -222,6 +246,33 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public int getVariableByteArrayCompressionThreshold() {
+        return variableByteArrayCompressionThreshold;
+    }
+
+    public VariableServiceConfiguration setVariableByteArrayCompressionThreshold(int variableByteArrayCompressionThreshold) {
+        this.variableByteArrayCompressionThreshold = variableByteArrayCompressionThreshold;
+        return this;
+    }
+
+    public int getVariableValueSnapshotCacheLimit() {
+        return variableValueSnapshotCacheLimit;
+    }
+
+    public VariableServiceConfiguration setVariableValueSnapshotCacheLimit(int variableValueSnapshotCacheLimit) {
+        this.variableValueSnapshotCacheLimit = variableValueSnapshotCacheLimit;
+        return this;
+    }
+
+    public VariableValueSnapshotCache getVariableValueSnapshotCache() {
+        return variableValueSnapshotCache;
+    }
+
+    public VariableServiceConfiguration setVariableValueSnapshotCache(VariableValueSnapshotCache variableValueSnapshotCache) {
+        this.variableValueSnapshotCache = variableValueSnapshotCache;
+        return this;
+    }
+
     public VariableInstanceValueModifier getVariableInstanceValueModifier() {
         return variableInstanceValueModifier;
     }
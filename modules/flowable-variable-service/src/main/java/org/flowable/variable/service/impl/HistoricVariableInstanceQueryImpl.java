@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -47,9 +48,11 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     protected String activityInstanceId;
     protected String variableName;
     protected String variableNameLike;
+    protected Collection<String> variableNames;
     protected boolean excludeTaskRelated;
     protected boolean excludeVariableInitialization;
     protected String scopeId;
+    protected Set<String> scopeIds;
     protected String subScopeId;
     protected String scopeType;
     protected QueryVariableValue queryVariableValue;
@@ -236,11 +239,27 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return this;
     }
     
+    public HistoricVariableInstanceQuery variableNames(Collection<String> variableNames) {
+        this.variableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricVariableInstanceQuery scopeId(String scopeId) {
         this.scopeId = scopeId;
         return this;
     }
+
+    public HistoricVariableInstanceQuery scopeIds(Set<String> scopeIds) {
+        if (scopeIds == null) {
+            throw new FlowableIllegalArgumentException("scopeIds is null");
+        }
+        if (scopeIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Set of scopeIds is empty");
+        }
+        this.scopeIds = scopeIds;
+        return this;
+    }
     
     @Override
     public HistoricVariableInstanceQuery subScopeId(String subScopeId) {
@@ -358,6 +377,14 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return scopeId;
     }
     
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public Set<String> getScopeIds() {
+        return scopeIds;
+    }
+
     public String getSubScopeId() {
         return subScopeId;
     }
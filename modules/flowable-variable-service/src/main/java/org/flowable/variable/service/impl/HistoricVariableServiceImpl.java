@@ -12,13 +12,17 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.HistoricVariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -46,6 +50,49 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
         return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByQueryCriteria(query);
     }
     
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        List<HistoricVariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> executionIdsPart : CollectionUtil.partition(executionIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+            query.executionIds(new HashSet<>(executionIdsPart)).excludeTaskVariables();
+            query.variableNames(variableNames);
+            addHistoricVariableInstances(variables, query);
+        }
+        return variables;
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds, Collection<String> variableNames) {
+        List<HistoricVariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> taskIdsPart : CollectionUtil.partition(taskIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+            query.taskIds(new HashSet<>(taskIdsPart));
+            query.variableNames(variableNames);
+            addHistoricVariableInstances(variables, query);
+        }
+        return variables;
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType,
+            Collection<String> variableNames) {
+        List<HistoricVariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> scopeIdsPart : CollectionUtil.partition(scopeIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+            query.scopeIds(new HashSet<>(scopeIdsPart)).scopeType(scopeType).excludeLocalVariables();
+            query.variableNames(variableNames);
+            addHistoricVariableInstances(variables, query);
+        }
+        return variables;
+    }
+
+    protected void addHistoricVariableInstances(List<HistoricVariableInstanceEntity> variables, HistoricVariableInstanceQueryImpl query) {
+        for (HistoricVariableInstance historicVariableInstance : getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByQueryCriteria(query)) {
+            variables.add((HistoricVariableInstanceEntity) historicVariableInstance);
+        }
+    }
+
     @Override
     public HistoricVariableInstanceEntity createHistoricVariableInstance() {
         return getHistoricVariableInstanceEntityManager().create();
@@ -12,7 +12,13 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -34,6 +40,34 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().createInternalVariableInstanceQuery();
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds, Collection<String> variableNames) {
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> executionIdsPart : CollectionUtil.partition(executionIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            variables.addAll(createInternalVariableInstanceQuery().executionIds(executionIdsPart).withoutTaskId().names(variableNames).list());
+        }
+        return variables;
+    }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByTaskIds(Collection<String> taskIds, Collection<String> variableNames) {
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> taskIdsPart : CollectionUtil.partition(taskIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            variables.addAll(createInternalVariableInstanceQuery().taskIds(taskIdsPart).names(variableNames).list());
+        }
+        return variables;
+    }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType, Collection<String> variableNames) {
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> scopeIdsPart : CollectionUtil.partition(scopeIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            variables.addAll(createInternalVariableInstanceQuery().scopeIds(scopeIdsPart).withoutSubScopeId().scopeType(scopeType)
+                    .names(variableNames).list());
+        }
+        return variables;
+    }
+
     @Override
     public VariableInstanceEntity createVariableInstance(String name) {
         return getVariableInstanceEntityManager().create(name);
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.util.CommandContextUtil;
+
+/**
+ * Keeps the values of runtime variables across commands, so that a variable that did not change since a previous command
+ * does not need to be fetched from the byte array table, or parsed, again.
+ *
+ * A snapshot is stored for the id and the revision of the variable it was read from, and is only returned for a variable with
+ * the same id and revision. Snapshots are only added when the transaction that read the value has committed, and any change to the
+ * value of a variable increments its revision, so a stale or rolled back value is never used.
+ * The variable types are responsible for storing values that can't be changed by the caller (e.g. a copy), and for returning
+ * a copy of a snapshot when the value is mutable.
+ */
+public class VariableValueSnapshotCache {
+
+    protected DefaultDeploymentCache<Snapshot> cache;
+
+    /**
+     * @return the snapshot cache to use for the given value fields, or null when they are not those of a runtime variable
+     *         or when the cache is not enabled.
+     */
+    public static VariableValueSnapshotCache forValueFields(ValueFields valueFields) {
+        if (!(valueFields instanceof VariableInstanceEntity)) {
+            return null;
+        }
+        String scopeType = ((VariableInstanceEntity) valueFields).getScopeType();
+        return CommandContextUtil.getVariableValueSnapshotCache(StringUtils.isNotEmpty(scopeType) ? scopeType : ScopeTypes.BPMN);
+    }
+
+    public VariableValueSnapshotCache(int limit) {
+        this.cache = new DefaultDeploymentCache<>(limit);
+    }
+
+    /**
+     * @return the snapshot of the value of the given variable, or null when there is no snapshot for the current revision of the variable.
+     */
+    public Object get(VariableInstanceEntity variableInstance) {
+        if (!isCachable(variableInstance)) {
+            return null;
+        }
+
+        Snapshot snapshot = cache.get(variableInstance.getId());
+        if (snapshot != null && snapshot.revision == variableInstance.getRevision()) {
+            return snapshot.value;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a snapshot of the value of the given variable once the current transaction has committed. The revision of the variable
+     * could be written by the current transaction, so adding it before the commit could keep a value that is rolled back later on.
+     * Nothing is added when there is no transaction context.
+     */
+    public void put(VariableInstanceEntity variableInstance, Object value) {
+        if (!isCachable(variableInstance) || value == null) {
+            return;
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            String id = variableInstance.getId();
+            Snapshot snapshot = new Snapshot(variableInstance.getRevision(), value);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> cache.add(id, snapshot));
+        }
+    }
+
+    public void remove(String variableInstanceId) {
+        cache.remove(variableInstanceId);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    protected boolean isCachable(VariableInstanceEntity variableInstance) {
+        // Only variables that were read from the database, and not changed since, have a value matching their revision
+        if (variableInstance.getId() == null || variableInstance.isInserted() || variableInstance.isDeleted() || variableInstance.isForcedUpdate()) {
+            return false;
+        }
+        return !(variableInstance instanceof DirtyTrackingEntity) || !((DirtyTrackingEntity) variableInstance).isDirty();
+    }
+
+    protected static class Snapshot {
+
+        protected final int revision;
+        protected final Object value;
+
+        public Snapshot(int revision, Object value) {
+            this.revision = revision;
+            this.value = value;
+        }
+    }
+}
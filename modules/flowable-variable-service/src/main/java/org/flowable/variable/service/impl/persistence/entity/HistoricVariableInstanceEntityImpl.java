@@ -21,6 +21,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.util.VariableByteArrayCompressionUtil;
 
 /**
  * @author Christian Lipphardt (camunda)
@@ -99,7 +100,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
     @Override
     public byte[] getBytes() {
         if (byteArrayRef != null) {
-            return byteArrayRef.getBytes(getEngineType());
+            return VariableByteArrayCompressionUtil.decompressIfNeeded(byteArrayRef.getBytes(getEngineType()));
         }
         return null;
     }
@@ -109,7 +110,8 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
         if (byteArrayRef == null) {
             byteArrayRef = new ByteArrayRef();
         }
-        byteArrayRef.setValue("hist.var-" + name, bytes, getEngineType());
+        String engineType = getEngineType();
+        byteArrayRef.setValue("hist.var-" + name, VariableByteArrayCompressionUtil.compressIfNeeded(bytes, engineType), engineType);
     }
 
     // getters and setters //////////////////////////////////////////////////////
@@ -27,6 +27,8 @@ public interface VariableInstanceEntity extends VariableInstance, Entity, HasRev
 
     void forceUpdate();
 
+    boolean isForcedUpdate();
+
     ByteArrayRef getByteArrayRef();
 
     VariableType getType();
@@ -19,15 +19,18 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.util.CommandContextUtil;
+import org.flowable.variable.service.impl.util.VariableByteArrayCompressionUtil;
 
 /**
  * @author Tom Baeyens
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -84,11 +87,18 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void forceUpdate() {
+        markDirty();
         forcedUpdate = true;
     }
+
+    @Override
+    public boolean isForcedUpdate() {
+        return forcedUpdate;
+    }
     
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
@@ -107,13 +117,19 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public byte[] getBytes() {
         ensureByteArrayRefInitialized();
-        return byteArrayRef.getBytes(getEngineType());
+        return VariableByteArrayCompressionUtil.decompressIfNeeded(byteArrayRef.getBytes(getEngineType()));
     }
 
     @Override
     public void setBytes(byte[] bytes) {
+        markDirty();
         ensureByteArrayRefInitialized();
-        byteArrayRef.setValue("var-" + name, bytes, getEngineType());
+        String engineType = getEngineType();
+        byteArrayRef.setValue("var-" + name, VariableByteArrayCompressionUtil.compressIfNeeded(bytes, engineType), engineType);
+        if (!isInserted() && CommandContextUtil.getVariableValueSnapshotCache(engineType) != null) {
+            // The bytes are stored in a separate row, so the revision of this variable needs to change for the kept value snapshots to become stale
+            forceUpdate();
+        }
     }
 
     @Override
@@ -139,6 +155,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setValue(Object value) {
+        markDirty();
         type.setValue(value, this);
         typeName = type.getTypeName();
         cachedValue = value;
@@ -148,6 +165,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -169,6 +187,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTypeName(String typeName) {
+        markDirty();
         this.typeName = typeName;
     }
 
@@ -179,6 +198,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        markDirty();
         this.type = type;
     }
 
@@ -214,6 +234,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
     
@@ -224,6 +245,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -234,6 +256,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -254,6 +277,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty();
         this.longValue = longValue;
     }
 
@@ -264,6 +288,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty();
         this.doubleValue = doubleValue;
     }
 
@@ -274,6 +299,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty();
         this.textValue = textValue;
     }
 
@@ -284,6 +310,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty();
         this.textValue2 = textValue2;
     }
 
@@ -294,6 +321,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setMetaInfo(String metaInfo) {
+        markDirty();
         this.metaInfo = metaInfo;
     }
 
@@ -14,6 +14,8 @@ package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.VariableValueSnapshotCache;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -36,7 +38,22 @@ public class ByteArrayType implements VariableType {
 
     @Override
     public Object getValue(ValueFields valueFields) {
-        return valueFields.getBytes();
+        VariableValueSnapshotCache snapshotCache = VariableValueSnapshotCache.forValueFields(valueFields);
+        if (snapshotCache == null) {
+            return valueFields.getBytes();
+        }
+
+        VariableInstanceEntity variableInstance = (VariableInstanceEntity) valueFields;
+        Object snapshot = snapshotCache.get(variableInstance);
+        if (snapshot instanceof byte[]) {
+            return ((byte[]) snapshot).clone();
+        }
+
+        byte[] bytes = valueFields.getBytes();
+        if (bytes != null) {
+            snapshotCache.put(variableInstance, bytes.clone());
+        }
+        return bytes;
     }
 
     @Override
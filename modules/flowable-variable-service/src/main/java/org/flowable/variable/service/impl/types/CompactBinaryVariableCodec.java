@@ -0,0 +1,358 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.flowable.variable.api.types.ValueFields;
+
+/**
+ * A compact binary {@link SerializableVariableCodec}.
+ *
+ * Values built from strings, numbers, booleans, dates, UUIDs, enums, byte arrays and the common JDK lists, sets and maps are
+ * written as tagged binary values, without the class descriptors that Java serialization writes. This gives considerably smaller
+ * payloads for the typical map or list variable. Any other object in the value is written with Java serialization, and so is the
+ * complete value when it contains a cyclic reference between collections.
+ *
+ * Note that, unlike Java serialization, the same collection or map referenced twice in a value is read back as two equal copies.
+ */
+public class CompactBinaryVariableCodec implements SerializableVariableCodec {
+
+    protected static final byte[] HEADER = { (byte) 0xF1, (byte) 0x0B, 1 };
+
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte BOOLEAN = 2;
+    protected static final byte INTEGER = 3;
+    protected static final byte LONG = 4;
+    protected static final byte SHORT = 5;
+    protected static final byte BYTE = 6;
+    protected static final byte DOUBLE = 7;
+    protected static final byte FLOAT = 8;
+    protected static final byte CHARACTER = 9;
+    protected static final byte DATE = 10;
+    protected static final byte UUID_VALUE = 11;
+    protected static final byte BIG_DECIMAL = 12;
+    protected static final byte BIG_INTEGER = 13;
+    protected static final byte BYTES = 14;
+    protected static final byte ENUM = 15;
+    protected static final byte ARRAY_LIST = 20;
+    protected static final byte LINKED_LIST = 21;
+    protected static final byte HASH_SET = 22;
+    protected static final byte LINKED_HASH_SET = 23;
+    protected static final byte TREE_SET = 24;
+    protected static final byte HASH_MAP = 30;
+    protected static final byte LINKED_HASH_MAP = 31;
+    protected static final byte TREE_MAP = 32;
+    protected static final byte JAVA_SERIALIZED = 100;
+
+    @Override
+    public boolean canDecode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; i++) {
+            if (bytes[i] != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void encode(Object value, OutputStream outputStream, ValueFields valueFields) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+        if (containsCycle(value, Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            writeJavaSerialized(value, out);
+        } else {
+            writeValue(value, out);
+        }
+        out.flush();
+    }
+
+    @Override
+    public Object decode(byte[] bytes, ValueFields valueFields) throws IOException, ClassNotFoundException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, HEADER.length, bytes.length - HEADER.length));
+        return readValue(in);
+    }
+
+    protected void writeValue(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+
+        Class<?> valueClass = value.getClass();
+        if (valueClass == String.class) {
+            out.writeByte(STRING);
+            writeString((String) value, out);
+        } else if (valueClass == Boolean.class) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (valueClass == Integer.class) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (valueClass == Long.class) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (valueClass == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (valueClass == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (valueClass == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (valueClass == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (valueClass == Character.class) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (valueClass == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (valueClass == UUID.class) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (valueClass == BigDecimal.class) {
+            out.writeByte(BIG_DECIMAL);
+            writeString(value.toString(), out);
+        } else if (valueClass == BigInteger.class) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), out);
+        } else if (valueClass == byte[].class) {
+            out.writeByte(BYTES);
+            writeBytes((byte[]) value, out);
+        } else if (value instanceof Enum) {
+            out.writeByte(ENUM);
+            writeString(((Enum<?>) value).getDeclaringClass().getName(), out);
+            writeString(((Enum<?>) value).name(), out);
+        } else if (valueClass == ArrayList.class) {
+            writeCollection(ARRAY_LIST, (Collection<?>) value, out);
+        } else if (valueClass == LinkedList.class) {
+            writeCollection(LINKED_LIST, (Collection<?>) value, out);
+        } else if (valueClass == HashSet.class) {
+            writeCollection(HASH_SET, (Collection<?>) value, out);
+        } else if (valueClass == LinkedHashSet.class) {
+            writeCollection(LINKED_HASH_SET, (Collection<?>) value, out);
+        } else if (valueClass == TreeSet.class && ((TreeSet<?>) value).comparator() == null) {
+            writeCollection(TREE_SET, (Collection<?>) value, out);
+        } else if (valueClass == HashMap.class) {
+            writeMap(HASH_MAP, (Map<?, ?>) value, out);
+        } else if (valueClass == LinkedHashMap.class) {
+            writeMap(LINKED_HASH_MAP, (Map<?, ?>) value, out);
+        } else if (valueClass == TreeMap.class && ((TreeMap<?, ?>) value).comparator() == null) {
+            writeMap(TREE_MAP, (Map<?, ?>) value, out);
+        } else {
+            writeJavaSerialized(value, out);
+        }
+    }
+
+    protected void writeCollection(byte tag, Collection<?> collection, DataOutputStream out) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(collection.size());
+        for (Object element : collection) {
+            writeValue(element, out);
+        }
+    }
+
+    protected void writeMap(byte tag, Map<?, ?> map, DataOutputStream out) throws IOException {
+        out.writeByte(tag);
+        out.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeValue(entry.getKey(), out);
+            writeValue(entry.getValue(), out);
+        }
+    }
+
+    protected void writeJavaSerialized(Object value, DataOutputStream out) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(value);
+        }
+        out.writeByte(JAVA_SERIALIZED);
+        writeBytes(baos.toByteArray(), out);
+    }
+
+    protected void writeString(String value, DataOutputStream out) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    protected void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    protected Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case CHARACTER:
+                return in.readChar();
+            case DATE:
+                return new Date(in.readLong());
+            case UUID_VALUE:
+                return new UUID(in.readLong(), in.readLong());
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BYTES:
+                return readBytes(in);
+            case ENUM:
+                return readEnum(in);
+            case ARRAY_LIST:
+                return readCollection(new ArrayList<>(), in);
+            case LINKED_LIST:
+                return readCollection(new LinkedList<>(), in);
+            case HASH_SET:
+                return readCollection(new HashSet<>(), in);
+            case LINKED_HASH_SET:
+                return readCollection(new LinkedHashSet<>(), in);
+            case TREE_SET:
+                return readCollection(new TreeSet<>(), in);
+            case HASH_MAP:
+                return readMap(new HashMap<>(), in);
+            case LINKED_HASH_MAP:
+                return readMap(new LinkedHashMap<>(), in);
+            case TREE_MAP:
+                return readMap(new TreeMap<>(), in);
+            case JAVA_SERIALIZED:
+                return readJavaSerialized(in);
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected Object readEnum(DataInputStream in) throws IOException {
+        Class enumClass = ReflectUtil.loadClass(readString(in));
+        return Enum.valueOf(enumClass, readString(in));
+    }
+
+    protected Collection<Object> readCollection(Collection<Object> collection, DataInputStream in) throws IOException, ClassNotFoundException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue(in));
+        }
+        return collection;
+    }
+
+    protected Map<Object, Object> readMap(Map<Object, Object> map, DataInputStream in) throws IOException, ClassNotFoundException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Object key = readValue(in);
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    protected Object readJavaSerialized(DataInputStream in) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = createObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+            return ois.readObject();
+        }
+    }
+
+    protected String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    protected byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    protected boolean containsCycle(Object value, Set<Object> path) {
+        Collection<?> children;
+        if (value instanceof Collection) {
+            children = (Collection<?>) value;
+        } else if (value instanceof Map) {
+            children = ((Map<?, ?>) value).entrySet();
+        } else if (value instanceof Map.Entry) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            return containsCycle(entry.getKey(), path) || containsCycle(entry.getValue(), path);
+        } else {
+            return false;
+        }
+
+        if (!path.add(value)) {
+            return true;
+        }
+        for (Object child : children) {
+            if (containsCycle(child, path)) {
+                return true;
+            }
+        }
+        path.remove(value);
+        return false;
+    }
+
+    protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
+        return new ObjectInputStream(is) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                return ReflectUtil.loadClass(desc.getName());
+            }
+        };
+    }
+}
@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.VariableValueSnapshotCache;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,23 +49,40 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
 
     protected final int maxLength;
     protected final boolean trackObjects;
+    protected final boolean lazyParsing;
     protected final String typeName;
     protected ObjectMapper objectMapper;
 
     public JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects) {
-        this(maxLength, objectMapper, trackObjects, TYPE_NAME);
+        this(maxLength, objectMapper, trackObjects, false);
+    }
+
+    /**
+     * @param lazyParsing whether stored JSON objects are returned as a {@link LazyJsonObjectNode}, which only parses the fields that are accessed
+     */
+    public JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, boolean lazyParsing) {
+        this(maxLength, objectMapper, trackObjects, lazyParsing, TYPE_NAME);
     }
 
     protected JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, String typeName) {
+        this(maxLength, objectMapper, trackObjects, false, typeName);
+    }
+
+    protected JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, boolean lazyParsing, String typeName) {
         this.maxLength = maxLength;
         this.trackObjects = trackObjects;
+        this.lazyParsing = lazyParsing;
         this.objectMapper = objectMapper;
         this.typeName = typeName;
     }
 
     // Needed for backwards compatibility of longJsonType
     public static JsonType longJsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects) {
-        return new JsonType(maxLength, objectMapper, trackObjects, LONG_JSON_TYPE_NAME);
+        return longJsonType(maxLength, objectMapper, trackObjects, false);
+    }
+
+    public static JsonType longJsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, boolean lazyParsing) {
+        return new JsonType(maxLength, objectMapper, trackObjects, lazyParsing, LONG_JSON_TYPE_NAME);
     }
 
     @Override
@@ -87,19 +105,40 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         String textValue = valueFields.getTextValue();
         if (textValue != null && textValue.length() > 0) {
             try {
-                jsonValue = objectMapper.readTree(textValue);
+                if (lazyParsing && LazyJsonObjectNode.isJsonObject(textValue)) {
+                    jsonValue = LazyJsonObjectNode.fromText(objectMapper, textValue);
+                } else {
+                    jsonValue = objectMapper.readTree(textValue);
+                }
                 valueFields.setCachedValue(jsonValue);
                 traceValue(jsonValue, valueFields);
             } catch (Exception e) {
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
         } else {
+            // Lazy nodes keep the raw bytes around, so keeping a parsed snapshot across commands is only done for fully parsed values
+            VariableValueSnapshotCache snapshotCache = lazyParsing ? null : VariableValueSnapshotCache.forValueFields(valueFields);
+            Object snapshot = snapshotCache != null ? snapshotCache.get((VariableInstanceEntity) valueFields) : null;
+            if (snapshot instanceof JsonNode) {
+                jsonValue = ((JsonNode) snapshot).deepCopy();
+                valueFields.setCachedValue(jsonValue);
+                traceValue(jsonValue, valueFields);
+                return jsonValue;
+            }
+
             byte[] bytes = valueFields.getBytes();
             if (bytes != null && bytes.length > 0) {
                 try {
-                    jsonValue = objectMapper.readTree(bytes);
+                    if (lazyParsing && LazyJsonObjectNode.isJsonObject(bytes)) {
+                        jsonValue = LazyJsonObjectNode.fromBytes(objectMapper, bytes);
+                    } else {
+                        jsonValue = objectMapper.readTree(bytes);
+                    }
                     valueFields.setCachedValue(jsonValue);
                     traceValue(jsonValue, valueFields);
+                    if (snapshotCache != null) {
+                        snapshotCache.put((VariableInstanceEntity) valueFields, jsonValue.deepCopy());
+                    }
                 } catch (IOException e) {
                     LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
                 }
@@ -131,6 +170,14 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
 
     @Override
     public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
+        if (originalCopyNode == null && originalNode instanceof LazyJsonObjectNode) {
+            LazyJsonObjectNode lazyNode = (LazyJsonObjectNode) originalNode;
+            if (!lazyNode.isPossiblyModified()) {
+                return false;
+            }
+            originalCopyNode = lazyNode.readOriginal();
+        }
+
         boolean valueChanged = false;
         if (!Objects.equals(originalNode, originalCopyNode)) {
             String textValue = originalNode.toString();
@@ -155,7 +202,7 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
                 if (variableServiceConfiguration != null) {
                     commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                        new TraceableObject<>(this, value, value.deepCopy(), (VariableInstanceEntity) valueFields)
+                        new TraceableObject<>(this, value, copyForTracing(value), (VariableInstanceEntity) valueFields)
                     ));
                     
                 }
@@ -163,6 +210,14 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
     }
     
+    protected JsonNode copyForTracing(JsonNode value) {
+        if (value instanceof LazyJsonObjectNode) {
+            // No copy is needed, the lazy node can tell whether it could have been changed and can re-read its original value
+            return null;
+        }
+        return value.deepCopy();
+    }
+
     protected VariableServiceConfiguration getVariableServiceConfiguration(ValueFields valueFields) {
         String engineType = getEngineType(valueFields.getScopeType());
         Map<String, AbstractEngineConfiguration> engineConfigurationMap = Context.getCommandContext().getEngineConfigurations();
@@ -0,0 +1,316 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An {@link ObjectNode} that is backed by the JSON text of a variable and only parses the parts of it that are accessed.
+ *
+ * Looking up a field (e.g. through {@link #get(String)} or {@link #path(String)}, which is what the JsonNodeELResolver does for
+ * an expression like <code>${order.customer.id}</code>) indexes the top level fields of the object with a streaming parser,
+ * without building their nodes. Only the requested field is then parsed. When that field is an object, it is returned as
+ * another lazy node for the same JSON text. Any other operation (iterating, changing, serializing, comparing, ...) parses
+ * the complete object first and then behaves like a regular {@link ObjectNode}.
+ */
+public class LazyJsonObjectNode extends ObjectNode {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final transient LazyChildren lazyChildren;
+
+    protected LazyJsonObjectNode(LazyChildren lazyChildren) {
+        super(lazyChildren.objectMapper.getNodeFactory(), lazyChildren);
+        this.lazyChildren = lazyChildren;
+    }
+
+    public static LazyJsonObjectNode fromText(ObjectMapper objectMapper, String text) {
+        char[] chars = text.toCharArray();
+        return new LazyJsonObjectNode(new LazyChildren(objectMapper, null, chars, 0, chars.length));
+    }
+
+    public static LazyJsonObjectNode fromBytes(ObjectMapper objectMapper, byte[] bytes) {
+        return new LazyJsonObjectNode(new LazyChildren(objectMapper, bytes, null, 0, bytes.length));
+    }
+
+    /**
+     * @return whether the given JSON text is an object, i.e. whether its first non whitespace character is a '{'.
+     */
+    public static boolean isJsonObject(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the given UTF-8 JSON bytes are an object, i.e. whether the first non whitespace character is a '{'.
+     */
+    public static boolean isJsonObject(byte[] bytes) {
+        for (byte b : bytes) {
+            if (!Character.isWhitespace(b)) {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether this object has been parsed completely.
+     */
+    public boolean isMaterialized() {
+        return lazyChildren.materializedChildren != null;
+    }
+
+    /**
+     * @return whether this object, or any of the nodes returned from it, could have been changed.
+     *         If not, the object is known to still match the JSON text it was created from.
+     */
+    public boolean isPossiblyModified() {
+        if (isMaterialized()) {
+            return true;
+        }
+        for (JsonNode child : lazyChildren.resolvedChildren.values()) {
+            if (child instanceof ArrayNode) {
+                return true;
+            } else if (child instanceof LazyJsonObjectNode && ((LazyJsonObjectNode) child).isPossiblyModified()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return a fully parsed, independent, node of the JSON text this object was created from.
+     */
+    public JsonNode readOriginal() {
+        try (JsonParser parser = lazyChildren.createParser(0, lazyChildren.length)) {
+            return lazyChildren.objectMapper.readTree(parser);
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't read json object", e);
+        }
+    }
+
+    protected static class LazyChildren implements Map<String, JsonNode> {
+
+        protected final ObjectMapper objectMapper;
+        protected final byte[] bytes;
+        protected final char[] chars;
+        protected final int offset;
+        protected final int length;
+
+        // Field name to the already parsed scalar node, or the int[] { start, end } range of the object or array value
+        protected Map<String, Object> fieldIndex;
+        protected final Map<String, JsonNode> resolvedChildren = new HashMap<>();
+        protected Map<String, JsonNode> materializedChildren;
+
+        protected LazyChildren(ObjectMapper objectMapper, byte[] bytes, char[] chars, int offset, int length) {
+            this.objectMapper = objectMapper;
+            this.bytes = bytes;
+            this.chars = chars;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            if (materializedChildren != null) {
+                return materializedChildren.get(key);
+            }
+            if (!(key instanceof String)) {
+                return null;
+            }
+
+            JsonNode child = resolvedChildren.get(key);
+            if (child == null) {
+                child = resolveChild((String) key);
+                if (child != null) {
+                    resolvedChildren.put((String) key, child);
+                }
+            }
+            return child;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        protected JsonNode resolveChild(String fieldName) {
+            Object indexed = getFieldIndex().get(fieldName);
+            if (indexed instanceof int[]) {
+                int[] range = (int[]) indexed;
+                if (isObjectAt(range[0])) {
+                    return new LazyJsonObjectNode(new LazyChildren(objectMapper, bytes, chars, offset + range[0], range[1] - range[0]));
+                }
+
+                try (JsonParser parser = createParser(range[0], range[1] - range[0])) {
+                    return objectMapper.readTree(parser);
+                } catch (IOException e) {
+                    throw new FlowableException("Couldn't read json field '" + fieldName + "'", e);
+                }
+            }
+            return (JsonNode) indexed;
+        }
+
+        protected Map<String, Object> getFieldIndex() {
+            if (fieldIndex == null) {
+                Map<String, Object> index = new HashMap<>();
+                try (JsonParser parser = createParser(0, length)) {
+                    parser.nextToken();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String fieldName = parser.getCurrentName();
+                        JsonToken valueToken = parser.nextToken();
+                        if (valueToken.isStructStart()) {
+                            int start = getOffset(parser.getTokenLocation());
+                            parser.skipChildren();
+                            index.put(fieldName, new int[] { start, getOffset(parser.getCurrentLocation()) });
+                        } else {
+                            index.put(fieldName, objectMapper.readTree(parser));
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new FlowableException("Couldn't read json object", e);
+                }
+                fieldIndex = index;
+            }
+            return fieldIndex;
+        }
+
+        protected Map<String, JsonNode> materialized() {
+            if (materializedChildren == null) {
+                Map<String, JsonNode> children = new LinkedHashMap<>();
+                try (JsonParser parser = createParser(0, length)) {
+                    JsonNode node = objectMapper.readTree(parser);
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        // Keep the nodes that were already handed out, so changes made to them are not lost
+                        JsonNode resolvedChild = resolvedChildren.get(field.getKey());
+                        children.put(field.getKey(), resolvedChild != null ? resolvedChild : field.getValue());
+                    }
+                } catch (IOException e) {
+                    throw new FlowableException("Couldn't read json object", e);
+                }
+                materializedChildren = children;
+                fieldIndex = null;
+            }
+            return materializedChildren;
+        }
+
+        protected JsonParser createParser(int start, int length) throws IOException {
+            if (bytes != null) {
+                return objectMapper.getFactory().createParser(bytes, offset + start, length);
+            } else {
+                return objectMapper.getFactory().createParser(chars, offset + start, length);
+            }
+        }
+
+        protected int getOffset(JsonLocation location) {
+            // The parser offsets are relative to the start of the range it was created for
+            return (int) (bytes != null ? location.getByteOffset() : location.getCharOffset());
+        }
+
+        protected boolean isObjectAt(int start) {
+            return bytes != null ? bytes[offset + start] == '{' : chars[offset + start] == '{';
+        }
+
+        @Override
+        public int size() {
+            return materialized().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return materialized().isEmpty();
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            return materialized().containsValue(value);
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            return materialized().put(key, value);
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            return materialized().remove(key);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends JsonNode> map) {
+            materialized().putAll(map);
+        }
+
+        @Override
+        public void clear() {
+            materialized().clear();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return materialized().keySet();
+        }
+
+        @Override
+        public Collection<JsonNode> values() {
+            return materialized().values();
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            return materialized().entrySet();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return materialized().equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return materialized().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            if (materializedChildren == null) {
+                return bytes != null ? new String(bytes, offset, length, StandardCharsets.UTF_8) : new String(chars, offset, length);
+            }
+            return materializedChildren.toString();
+        }
+    }
+}
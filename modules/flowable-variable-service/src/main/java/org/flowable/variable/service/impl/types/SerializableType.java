@@ -48,6 +48,12 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
 
     protected boolean trackDeserializedObjects;
 
+    /**
+     * The codec used to write values. When null, values are written with plain Java serialization.
+     * Values are always read with the codec that recognizes them, so values written before a codec was configured can still be read.
+     */
+    protected SerializableVariableCodec codec;
+
     @Override
     public String getTypeName() {
         return TYPE_NAME;
@@ -60,6 +66,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         this.trackDeserializedObjects = trackDeserializedObjects;
     }
 
+    public SerializableType(boolean trackDeserializedObjects, SerializableVariableCodec codec) {
+        this.trackDeserializedObjects = trackDeserializedObjects;
+        this.codec = codec;
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Object cachedObject = valueFields.getCachedValue();
@@ -108,12 +119,20 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     @Override
     public boolean updateValueIfChanged(Object tracedObject, byte[] originalBytes,
         VariableInstanceEntity variableInstanceEntity) {
+        // The value is first written to a stream that only compares it with the original bytes,
+        // so the common case of an unchanged value does not need a copy of the serialized value
+        ComparingOutputStream comparingOutputStream = new ComparingOutputStream(originalBytes);
+        writeValue(tracedObject, comparingOutputStream, variableInstanceEntity);
+        if (comparingOutputStream.isEqual()) {
+            return false;
+        }
+
         byte[] bytes = serialize(tracedObject, variableInstanceEntity);
         boolean valueChanged = false;
         // this first check verifies if the variable value was not overwritten with another object
         if (!Arrays.equals(originalBytes, bytes)) {
 
-            // Add an additional check to prevent byte differences due to JDK changes etc
+            // Add an additional check to prevent byte differences due to JDK changes, a different codec etc
             Object originalObject = deserialize(originalBytes, variableInstanceEntity);
             byte[] refreshedOriginalBytes = serialize(originalObject, variableInstanceEntity);
 
@@ -130,19 +149,40 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
             return null;
         }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeValue(value, baos, valueFields);
+        return baos.toByteArray();
+    }
+
+    protected void writeValue(Object value, OutputStream outputStream, ValueFields valueFields) {
+        if (codec != null) {
+            try {
+                codec.encode(value, outputStream, valueFields);
+            } catch (Exception e) {
+                throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
+            }
+            return;
+        }
+
         ObjectOutputStream oos = null;
         try {
-            oos = createObjectOutputStream(baos);
+            oos = createObjectOutputStream(outputStream);
             oos.writeObject(value);
         } catch (Exception e) {
             throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
         } finally {
             IoUtil.closeSilently(oos);
         }
-        return baos.toByteArray();
     }
 
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        if (codec != null && codec.canDecode(bytes)) {
+            try {
+                return codec.decode(bytes, valueFields);
+            } catch (Exception e) {
+                throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
+            }
+        }
+
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
             ObjectInputStream ois = createObjectInputStream(bais);
@@ -201,4 +241,48 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
     protected ObjectOutputStream createObjectOutputStream(OutputStream os) throws IOException {
         return new ObjectOutputStream(os);
     }
+
+    public SerializableVariableCodec getCodec() {
+        return codec;
+    }
+
+    public void setCodec(SerializableVariableCodec codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * An {@link OutputStream} that compares everything written to it with the expected bytes, without keeping what is written.
+     */
+    protected static class ComparingOutputStream extends OutputStream {
+
+        protected final byte[] expectedBytes;
+        protected int position;
+        protected boolean different;
+
+        public ComparingOutputStream(byte[] expectedBytes) {
+            this.expectedBytes = expectedBytes;
+            this.different = expectedBytes == null;
+        }
+
+        @Override
+        public void write(int b) {
+            if (!different) {
+                different = position >= expectedBytes.length || expectedBytes[position] != (byte) b;
+            }
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (!different) {
+                different = position + len > expectedBytes.length
+                        || !Arrays.equals(expectedBytes, position, position + len, b, off, off + len);
+            }
+            position += len;
+        }
+
+        public boolean isEqual() {
+            return !different && position == expectedBytes.length;
+        }
+    }
 }
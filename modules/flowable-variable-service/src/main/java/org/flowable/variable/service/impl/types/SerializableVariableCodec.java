@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.flowable.variable.api.types.ValueFields;
+
+/**
+ * Encodes and decodes the values stored by the {@link SerializableType}.
+ *
+ * A codec marks the bytes it writes (e.g. with a header) so that {@link #canDecode(byte[])} can recognize them. Values written
+ * by another codec, or by plain Java serialization before a codec was configured, are then still read by the {@link SerializableType}.
+ */
+public interface SerializableVariableCodec {
+
+    /**
+     * @return whether the given bytes were written by this codec.
+     */
+    boolean canDecode(byte[] bytes);
+
+    void encode(Object value, OutputStream outputStream, ValueFields valueFields) throws IOException;
+
+    Object decode(byte[] bytes, ValueFields valueFields) throws IOException, ClassNotFoundException;
+
+}
@@ -12,9 +12,16 @@
  */
 package org.flowable.variable.service.impl.util;
 
+import java.util.Map;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.VariableValueSnapshotCache;
 
 public class CommandContextUtil {
 
@@ -29,4 +36,39 @@ public class CommandContextUtil {
     public static CommandContext getCommandContext() {
         return Context.getCommandContext();
     }
+
+    /**
+     * @return the variable service configuration of the engine with the given type, or of the first engine with a variable service
+     *         when there is no such engine. Null when there is no command context or no engine with a variable service.
+     */
+    public static VariableServiceConfiguration getVariableServiceConfiguration(String engineType) {
+        CommandContext commandContext = getCommandContext();
+        if (commandContext == null) {
+            return null;
+        }
+
+        Map<String, AbstractEngineConfiguration> engineConfigurationMap = commandContext.getEngineConfigurations();
+        AbstractEngineConfiguration engineConfiguration = engineConfigurationMap.get(engineType);
+        if (!(engineConfiguration instanceof HasVariableServiceConfiguration)) {
+            engineConfiguration = null;
+            for (AbstractEngineConfiguration possibleEngineConfiguration : engineConfigurationMap.values()) {
+                if (possibleEngineConfiguration instanceof HasVariableServiceConfiguration) {
+                    engineConfiguration = possibleEngineConfiguration;
+                }
+            }
+        }
+
+        if (engineConfiguration == null) {
+            return null;
+        }
+        return (VariableServiceConfiguration) engineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_VARIABLE_SERVICE_CONFIG);
+    }
+
+    /**
+     * @return the variable value snapshot cache of the engine with the given type, or null when it is not enabled.
+     */
+    public static VariableValueSnapshotCache getVariableValueSnapshotCache(String engineType) {
+        VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(engineType);
+        return variableServiceConfiguration != null ? variableServiceConfiguration.getVariableValueSnapshotCache() : null;
+    }
 }
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.flowable.variable.service.VariableServiceConfiguration;
+
+/**
+ * Compresses and decompresses the byte array values of variables.
+ *
+ * A compressed value starts with a header, followed by the length of the original value and the deflated bytes.
+ * Values without the header, e.g. the ones stored before compression was enabled, are returned as they are.
+ */
+public class VariableByteArrayCompressionUtil {
+
+    protected static final byte[] HEADER = { 'F', 'L', 'Z', 1 };
+    protected static final int PREFIX_LENGTH = HEADER.length + Integer.BYTES;
+
+    /**
+     * Deflate cannot compress better than about 1032:1, so a header claiming a larger original length can't have been written by us.
+     */
+    protected static final int MAX_COMPRESSION_RATIO = 1032;
+
+    /**
+     * Compresses the given bytes when compression is enabled for the given engine type and the bytes reach the configured threshold.
+     * The original bytes are returned when compression would not make them smaller.
+     */
+    public static byte[] compressIfNeeded(byte[] bytes, String engineType) {
+        if (bytes == null) {
+            return null;
+        }
+
+        int threshold = getCompressionThreshold(engineType);
+        if (threshold < 0 || bytes.length < threshold) {
+            return bytes;
+        }
+
+        // Speed is preferred over ratio, as values are compressed on every update
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + PREFIX_LENGTH);
+            outputStream.write(HEADER, 0, HEADER.length);
+            outputStream.write(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array(), 0, Integer.BYTES);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+                if (outputStream.size() >= bytes.length) {
+                    return bytes;
+                }
+            }
+            return outputStream.toByteArray();
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the original bytes of a value compressed by {@link #compressIfNeeded(byte[], String)}, or the given bytes when they are not compressed.
+     */
+    public static byte[] decompressIfNeeded(byte[] bytes) {
+        if (!isCompressed(bytes)) {
+            return bytes;
+        }
+
+        int length = ByteBuffer.wrap(bytes, HEADER.length, Integer.BYTES).getInt();
+        if (!isPlausibleLength(length, bytes.length - PREFIX_LENGTH)) {
+            // Not a value that was compressed by us, so the length can't be trusted for allocating the result
+            return bytes;
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, PREFIX_LENGTH, bytes.length - PREFIX_LENGTH);
+            byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int inflated = inflater.inflate(result, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+
+            if (offset == length && !inflater.finished()) {
+                // The end of the stream might not have been consumed yet when the result was filled exactly
+                byte[] probe = new byte[1];
+                if (inflater.inflate(probe) != 0) {
+                    return bytes;
+                }
+            }
+
+            if (offset != length || !inflater.finished() || inflater.getRemaining() != 0) {
+                // Not a value that was compressed by us, but a value that happens to start with the same bytes
+                return bytes;
+            }
+            return result;
+
+        } catch (DataFormatException e) {
+            return bytes;
+
+        } finally {
+            inflater.end();
+        }
+    }
+
+    protected static boolean isPlausibleLength(int length, int compressedLength) {
+        return length >= 0 && (long) length <= (long) compressedLength * MAX_COMPRESSION_RATIO;
+    }
+
+    public static boolean isCompressed(byte[] bytes) {
+        return bytes != null && bytes.length >= PREFIX_LENGTH && Arrays.equals(bytes, 0, HEADER.length, HEADER, 0, HEADER.length);
+    }
+
+    protected static int getCompressionThreshold(String engineType) {
+        VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration(engineType);
+        return variableServiceConfiguration != null ? variableServiceConfiguration.getVariableByteArrayCompressionThreshold() : -1;
+    }
+}
@@ -29,6 +29,6 @@ alter table ACT_RU_VARIABLE
     foreign key (BYTEARRAY_ID_) 
     references ACT_GE_BYTEARRAY (ID_);
 
-insert into ACT_GE_PROPERTY values ('variable.schema.version', '7.0.1.0', 1);
+insert into ACT_GE_PROPERTY values ('variable.schema.version', '7.0.1.1', 1);
 
 -- force-commit
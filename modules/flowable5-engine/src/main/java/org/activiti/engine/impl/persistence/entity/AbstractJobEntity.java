@@ -220,6 +220,11 @@ public abstract class AbstractJobEntity implements Job, PersistentObject, HasRev
         return category;
     }
 
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
     public void setCategory(String category) {
         this.category = category;
     }